@@ -2,10 +2,17 @@ package br.com.banco.aberturaconta.application.service;
 
 import br.com.banco.aberturaconta.core.domain.Canal;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.PaginaSolicitacoes;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
+import br.com.banco.aberturaconta.core.index.IndiceCpfContaAtiva;
+import br.com.banco.aberturaconta.infra.dto.ResultadoLoteDTO;
 import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
 import br.com.banco.aberturaconta.infra.event.SolicitacaoCriadaEvent;
+import br.com.banco.aberturaconta.infra.event.SolicitacoesCriadasEmLoteEvent;
+import br.com.banco.aberturaconta.infra.event.StatusSolicitacaoAlteradaEvent;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +23,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -57,14 +71,59 @@ public class SolicitacaoApplicationService {
         }
     }
     
+    /**
+     * Cria as solicitações de um trecho do lote em uma única transação: uma consulta de CPFs para o trecho
+     * inteiro, inserts agrupados em lote JDBC e um único evento para iniciar os processos após o commit.
+     *
+     * @param linhas DTOs já validados, indexados pelo número da linha no corpo recebido
+     * @return um resultado por linha, na ordem das linhas
+     */
+    @Transactional
+    public List<ResultadoLoteDTO> criarLote(final Map<Long, SolicitacaoAberturaContaDTO> linhas) {
+        final String correlationId = CorrelationIdUtil.getCorrelationId();
+        final Map<String, StatusSolicitacao> statusPorCpf = solicitacaoService.buscarStatusPorCpfs(
+                linhas.values().stream().map(SolicitacaoAberturaContaDTO::cpf).toList());
+
+        final Map<Long, ResultadoLoteDTO> resultados = new TreeMap<>();
+        final List<Long> linhasNovas = new ArrayList<>();
+        final List<SolicitacaoAberturaConta> novas = new ArrayList<>();
+        final Set<String> cpfsNoLote = new HashSet<>();
+
+        linhas.forEach((linha, dto) -> {
+            final StatusSolicitacao existente = statusPorCpf.get(dto.cpf());
+            if (existente != null && IndiceCpfContaAtiva.isAtiva(existente)) {
+                resultados.put(linha, ResultadoLoteDTO.recusada(linha, HttpStatus.CONFLICT.value(), dto.cpf(),
+                        "Já existe uma conta ativa para este CPF: " + dto.cpf()));
+            } else if (existente != null || !cpfsNoLote.add(dto.cpf())) {
+                resultados.put(linha, ResultadoLoteDTO.recusada(linha, HttpStatus.CONFLICT.value(), dto.cpf(),
+                        "Já existe uma solicitação para este CPF: " + dto.cpf()));
+            } else {
+                linhasNovas.add(linha);
+                novas.add(toDomainModel(dto));
+            }
+        });
+
+        final List<SolicitacaoAberturaConta> salvas = novas.isEmpty() ? List.of() : solicitacaoService.salvarTodas(novas);
+        for (int i = 0; i < salvas.size(); i++) {
+            final SolicitacaoAberturaConta salva = salvas.get(i);
+            resultados.put(linhasNovas.get(i), ResultadoLoteDTO.criada(linhasNovas.get(i), salva.getId(), salva.getCpf()));
+        }
+        if (!salvas.isEmpty()) {
+            eventPublisher.publishEvent(new SolicitacoesCriadasEmLoteEvent(
+                    salvas.stream().map(this::toSolicitacaoCriadaEvent).toList()));
+        }
+
+        log.info("Lote de {} linhas: {} solicitações criadas, {} recusadas. correlationId={}",
+                linhas.size(), salvas.size(), linhas.size() - salvas.size(), correlationId);
+        return new ArrayList<>(resultados.values());
+    }
+    
     @Transactional  
     public SolicitacaoAberturaConta salvar(final SolicitacaoAberturaConta solicitacao) {
         final String correlationId = CorrelationIdUtil.getCorrelationId();
         log.info("Salvando solicitação: cpf={}, correlationId={}", solicitacao.getCpf(), correlationId);
 
         final SolicitacaoAberturaConta saved = solicitacaoService.salvar(solicitacao);
-
-        publishSolicitacaoCriadaEvent(saved);
         
         log.info("Solicitação {} salva. correlationId={}", saved.getId(), correlationId);
         
@@ -89,13 +148,42 @@ public class SolicitacaoApplicationService {
         return solicitacao;
     }
     
+    @Transactional(readOnly = true)
+    public PaginaSolicitacoes listar(final ConsultaSolicitacoes consulta) {
+        return solicitacaoService.listar(consulta);
+    }
+    
     @Transactional
-    public void atualizarStatus(final Long id, final StatusSolicitacao status) {
-        try {
-            solicitacaoService.atualizarStatus(id, status);
-        } catch (IllegalArgumentException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+    public boolean atualizarStatus(final Long id, final StatusSolicitacao status) {
+        return transitar(TransicaoStatus.para(id, status));
+    }
+    
+    @Transactional
+    public boolean transitar(final TransicaoStatus transicao) {
+        final boolean aplicada = solicitacaoService.transitar(transicao);
+        if (aplicada) {
+            publishStatusAlteradoEvent(transicao, LocalDateTime.now());
         }
+        return aplicada;
+    }
+    
+    @Transactional
+    public Optional<SolicitacaoAberturaConta> transitarEBuscar(final TransicaoStatus transicao) {
+        final Optional<SolicitacaoAberturaConta> solicitacao = solicitacaoService.transitarEBuscar(transicao);
+        solicitacao.ifPresent(transitada -> publishStatusAlteradoEvent(transicao, LocalDateTime.now()));
+        return solicitacao;
+    }
+    
+    @Transactional
+    public boolean[] transitarEmLote(final List<TransicaoStatus> transicoes) {
+        final boolean[] aplicadas = solicitacaoService.transitarEmLote(transicoes);
+        final LocalDateTime instante = LocalDateTime.now();
+        for (int i = 0; i < aplicadas.length; i++) {
+            if (aplicadas[i]) {
+                publishStatusAlteradoEvent(transicoes.get(i), instante);
+            }
+        }
+        return aplicadas;
     }
     
     @Transactional(readOnly = true)
@@ -115,11 +203,20 @@ public class SolicitacaoApplicationService {
     }
 
     private void publishSolicitacaoCriadaEvent(final SolicitacaoAberturaConta solicitacao) {
+        eventPublisher.publishEvent(toSolicitacaoCriadaEvent(solicitacao));
+    }
+
+    private void publishStatusAlteradoEvent(final TransicaoStatus transicao, final LocalDateTime instante) {
+        eventPublisher.publishEvent(
+                new StatusSolicitacaoAlteradaEvent(transicao.solicitacaoId(), transicao.novoStatus(), instante));
+    }
+
+    private SolicitacaoCriadaEvent toSolicitacaoCriadaEvent(final SolicitacaoAberturaConta solicitacao) {
         final Map<String, Object> variaveis = Map.of(
                 "solicitacaoId", solicitacao.getId(),
                 "cpf", solicitacao.getCpf(),
                 "nome", solicitacao.getNome()
         );
-        eventPublisher.publishEvent(new SolicitacaoCriadaEvent(solicitacao.getId(), variaveis));
+        return new SolicitacaoCriadaEvent(solicitacao.getId(), solicitacao.getCanal(), variaveis);
     }
 }
\ No newline at end of file
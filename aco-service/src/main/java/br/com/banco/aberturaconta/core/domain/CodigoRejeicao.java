@@ -0,0 +1,65 @@
+package br.com.banco.aberturaconta.core.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Motivo de rejeição tipado, gravado na coluna codigo_rejeicao e enviado como {@code tipoRejeicao} no
+ * evento SolicitacaoRejeitada. Cada etapa corresponde a um código de erro BPMN ({@code SERASA_REJEITADO}...);
+ * qualquer outro código, como o erro na abertura da conta, vira {@link #OUTROS}. O texto exibido ao cliente
+ * é derivado do código e não é gravado.
+ */
+public enum CodigoRejeicao {
+    TOPAZ("TOPAZ_REJEITADO",
+            "TOPAZ - Problemas relacionados ao dispositivo durante a análise de segurança"),
+    ANTIFRAUDE("ANTIFRAUDE_REJEITADO",
+            "ANTIFRAUDE - Sua solicitação não passou na análise antifraude"),
+    PIX("PIX_REJEITADO",
+            "PIX - Identificamos pendências relacionadas ao PIX durante a análise"),
+    SERASA("SERASA_REJEITADO",
+            "SERASA - Pendências no Serasa que precisam ser regularizadas antes de abrir sua conta"),
+    PROVA_VIDA("PROVA_VIDA_REJEITADO",
+            "PROVA_VIDA - A análise de documentos e selfie não foi aprovada. Por favor, tente novamente com documentos válidos e selfie nítida"),
+    OUTROS(null,
+            "Solicitação rejeitada durante o processo de validação");
+
+    private static final Map<String, CodigoRejeicao> POR_CODIGO_ERRO = new HashMap<>();
+
+    static {
+        for (CodigoRejeicao codigo : values()) {
+            if (codigo.codigoErro != null) {
+                POR_CODIGO_ERRO.put(codigo.codigoErro, codigo);
+            }
+        }
+    }
+
+    private final String codigoErro;
+    private final String motivo;
+
+    CodigoRejeicao(final String codigoErro, final String motivo) {
+        this.codigoErro = codigoErro;
+        this.motivo = motivo;
+    }
+
+    public String getCodigoErro() {
+        return codigoErro;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    public static CodigoRejeicao fromCodigoErro(final String codigoErro) {
+        if (codigoErro == null) {
+            return OUTROS;
+        }
+        return POR_CODIGO_ERRO.getOrDefault(codigoErro, OUTROS);
+    }
+
+    /**
+     * Texto do motivo para um código possivelmente nulo (solicitação não rejeitada).
+     */
+    public static String motivoDe(final CodigoRejeicao codigo) {
+        return codigo == null ? null : codigo.motivo;
+    }
+}
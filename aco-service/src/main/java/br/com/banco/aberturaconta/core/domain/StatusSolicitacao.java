@@ -1,5 +1,11 @@
 package br.com.banco.aberturaconta.core.domain;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum StatusSolicitacao {
     INICIADA("Iniciada"),
     VALIDANDO_TOPAZ("Validando Topaz"),
@@ -12,6 +18,22 @@ public enum StatusSolicitacao {
     REJEITADA("Rejeitada"),
     CONTA_ABERTA("Conta Aberta");
 
+    private static final Map<StatusSolicitacao, Set<StatusSolicitacao>> ORIGENS = new EnumMap<>(StatusSolicitacao.class);
+
+    static {
+        // etapas em andamento podem se repetir e, no processo paralelo, chegar em qualquer ordem
+        final Set<StatusSolicitacao> emAndamento = EnumSet.range(INICIADA, AGUARDANDO_SISTEMA_INTERNO);
+        for (StatusSolicitacao status : values()) {
+            ORIGENS.put(status, Collections.unmodifiableSet(switch (status) {
+                case INICIADA -> EnumSet.of(INICIADA);
+                case VALIDANDO_TOPAZ, VALIDANDO_ANTIFRAUDE, VALIDANDO_PIX, VALIDANDO_SERASA, VALIDANDO_PROVA_VIDA,
+                     AGUARDANDO_SISTEMA_INTERNO -> emAndamento;
+                case APROVADA, REJEITADA -> EnumSet.range(INICIADA, APROVADA);
+                case CONTA_ABERTA -> EnumSet.of(APROVADA);
+            }));
+        }
+    }
+
     private final String descricao;
 
     StatusSolicitacao(String descricao) {
@@ -21,4 +43,15 @@ public enum StatusSolicitacao {
     public String getDescricao() {
         return descricao;
     }
+
+    public boolean isFinal() {
+        return this == REJEITADA || this == CONTA_ABERTA;
+    }
+
+    /**
+     * Status a partir dos quais a solicitação pode passar para este. REJEITADA e CONTA_ABERTA são finais.
+     */
+    public Set<StatusSolicitacao> getOrigensPermitidas() {
+        return ORIGENS.get(this);
+    }
 }
\ No newline at end of file
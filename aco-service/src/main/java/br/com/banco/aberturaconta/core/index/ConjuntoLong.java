@@ -0,0 +1,118 @@
+package br.com.banco.aberturaconta.core.index;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Conjunto de {@code long} com endereçamento aberto (sondagem linear) sobre um {@code long[]},
+ * sem o boxing e os nós de um {@code HashSet<Long>}: cerca de 16 bytes por elemento com fator de carga 0,5.
+ *
+ * O zero marca posição vazia e por isso é guardado à parte. Leituras usam leitura otimista do
+ * {@link StampedLock} e só pegam o lock se uma inclusão concorrente as invalidar.
+ */
+final class ConjuntoLong {
+
+    private static final long VAZIO = 0L;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] tabela;
+    private int tamanho;
+    private boolean contemZero;
+
+    ConjuntoLong(final int capacidadeInicial) {
+        this.tabela = new long[tamanhoTabela(capacidadeInicial)];
+    }
+
+    boolean adicionar(final long valor) {
+        final long stamp = lock.writeLock();
+        try {
+            if (valor == VAZIO) {
+                final boolean novo = !contemZero;
+                contemZero = true;
+                return novo;
+            }
+            if (!inserir(tabela, valor)) {
+                return false;
+            }
+            if (++tamanho * 2 > tabela.length) {
+                redimensionar();
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    boolean contem(final long valor) {
+        long stamp = lock.tryOptimisticRead();
+        boolean encontrado = buscar(valor);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                encontrado = buscar(valor);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return encontrado;
+    }
+
+    int tamanho() {
+        final long stamp = lock.readLock();
+        try {
+            return tamanho + (contemZero ? 1 : 0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean buscar(final long valor) {
+        if (valor == VAZIO) {
+            return contemZero;
+        }
+        final long[] atual = tabela;
+        final int mascara = atual.length - 1;
+        for (int i = indice(valor, mascara), passos = 0; passos < atual.length; i = (i + 1) & mascara, passos++) {
+            final long ocupante = atual[i];
+            if (ocupante == valor) {
+                return true;
+            }
+            if (ocupante == VAZIO) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean inserir(final long[] destino, final long valor) {
+        final int mascara = destino.length - 1;
+        int i = indice(valor, mascara);
+        while (destino[i] != VAZIO) {
+            if (destino[i] == valor) {
+                return false;
+            }
+            i = (i + 1) & mascara;
+        }
+        destino[i] = valor;
+        return true;
+    }
+
+    private void redimensionar() {
+        final long[] nova = new long[tabela.length * 2];
+        for (long valor : tabela) {
+            if (valor != VAZIO) {
+                inserir(nova, valor);
+            }
+        }
+        tabela = nova;
+    }
+
+    private static int indice(final long valor, final int mascara) {
+        final long hash = valor * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mascara;
+    }
+
+    private static int tamanhoTabela(final int capacidade) {
+        final int minimo = Math.max(16, capacidade * 2);
+        return Integer.highestOneBit(minimo - 1) << 1;
+    }
+}
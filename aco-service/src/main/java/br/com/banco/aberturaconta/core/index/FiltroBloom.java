@@ -0,0 +1,72 @@
+package br.com.banco.aberturaconta.core.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para chaves {@code long}, dimensionado pela capacidade esperada e pela taxa de falso positivo.
+ *
+ * Os bits ficam em um {@link AtomicLongArray}: a consulta não usa lock e sempre enxerga as inclusões já feitas.
+ * As k posições saem de double hashing sobre o fmix64 do MurmurHash3.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long numeroBits;
+    private final int numeroHashes;
+
+    FiltroBloom(final long capacidadeEsperada, final double taxaFalsoPositivo) {
+        final long capacidade = Math.max(1, capacidadeEsperada);
+        final double ln2 = Math.log(2);
+        final long bitsCalculados = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (ln2 * ln2));
+        final int palavras = (int) Math.max(1, (bitsCalculados + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(palavras);
+        this.numeroBits = (long) palavras * Long.SIZE;
+        this.numeroHashes = (int) Math.max(1, Math.round((double) numeroBits / capacidade * ln2));
+    }
+
+    void adicionar(final long valor) {
+        final long hash = misturar(valor);
+        final long h1 = hash;
+        final long h2 = hash >>> 32 | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            final long posicao = ((h1 + i * h2) & Long.MAX_VALUE) % numeroBits;
+            final int palavra = (int) (posicao >>> 6);
+            final long mascara = 1L << posicao;
+            long atual;
+            while (((atual = bits.get(palavra)) & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    boolean podeConter(final long valor) {
+        final long hash = misturar(valor);
+        final long h1 = hash;
+        final long h2 = hash >>> 32 | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            final long posicao = ((h1 + i * h2) & Long.MAX_VALUE) % numeroBits;
+            if ((bits.get((int) (posicao >>> 6)) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long getNumeroBits() {
+        return numeroBits;
+    }
+
+    int getNumeroHashes() {
+        return numeroHashes;
+    }
+
+    private static long misturar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xff51afd7ed558ccdL;
+        valor ^= valor >>> 33;
+        valor *= 0xc4ceb9fe1a85ec53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.banco.aberturaconta.core.index;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+
+import java.util.List;
+
+/**
+ * Índice em memória dos CPFs com conta ativa (APROVADA ou CONTA_ABERTA), consultado antes do banco.
+ *
+ * O CPF cabe em um {@code long}: o filtro de Bloom descarta quase todos os ausentes sem lock, e o
+ * {@link ConjuntoLong} elimina os falsos positivos do filtro. Só um "pode conter" chega ao banco,
+ * que continua sendo a resposta final.
+ *
+ * O índice só cresce: um CPF que deixa de estar ativo continua nele e apenas custa uma consulta ao
+ * banco, o que evita um falso negativo se a transação que o removeria for desfeita. Enquanto a carga
+ * inicial não termina, toda consulta responde "pode conter". Cada instância mantém o próprio índice,
+ * alimentado pelas transições que ela mesma executa.
+ */
+public class IndiceCpfContaAtiva {
+
+    public static final List<StatusSolicitacao> STATUS_CONTA_ATIVA =
+            List.of(StatusSolicitacao.APROVADA, StatusSolicitacao.CONTA_ABERTA);
+
+    private static final int MAX_DIGITOS = 18;
+
+    private final FiltroBloom filtro;
+    private final ConjuntoLong cpfs;
+    private volatile boolean carregado;
+
+    public IndiceCpfContaAtiva(final int capacidadeEsperada, final double taxaFalsoPositivo) {
+        this.filtro = new FiltroBloom(capacidadeEsperada, taxaFalsoPositivo);
+        this.cpfs = new ConjuntoLong(capacidadeEsperada);
+    }
+
+    public static boolean isAtiva(final StatusSolicitacao status) {
+        return STATUS_CONTA_ATIVA.contains(status);
+    }
+
+    public void adicionar(final String cpf) {
+        final long chave = chave(cpf);
+        if (chave >= 0) {
+            cpfs.adicionar(chave);
+            filtro.adicionar(chave);
+        }
+    }
+
+    /**
+     * @return false somente quando é certo que o CPF não tem conta ativa registrada no índice
+     */
+    public boolean podeConter(final String cpf) {
+        if (!carregado) {
+            return true;
+        }
+        final long chave = chave(cpf);
+        return chave < 0 || filtro.podeConter(chave) && cpfs.contem(chave);
+    }
+
+    public void marcarCarregado() {
+        this.carregado = true;
+    }
+
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    public int tamanho() {
+        return cpfs.tamanho();
+    }
+
+    /**
+     * Só os dígitos do CPF, como {@code long}; -1 quando não há como converter (a consulta vai ao banco).
+     */
+    static long chave(final String cpf) {
+        if (cpf == null) {
+            return -1;
+        }
+        long valor = 0;
+        int digitos = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            final char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > MAX_DIGITOS) {
+                    return -1;
+                }
+                valor = valor * 10 + (c - '0');
+            }
+        }
+        return digitos == 0 ? -1 : valor;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.banco.aberturaconta.core.model;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros e posição de uma página da listagem de solicitações, em ordem de (dataCriacao, id).
+ * Filtros nulos não restringem. Com {@code aposId}, a página começa logo depois da linha
+ * (aposDataCriacao, aposId), a última da página anterior.
+ */
+public record ConsultaSolicitacoes(StatusSolicitacao status, String canal, LocalDateTime desde,
+                                   LocalDateTime aposDataCriacao, Long aposId, int limite) {
+
+    public boolean temCursor() {
+        return aposId != null;
+    }
+
+    public ConsultaSolicitacoes comLimite(final int novoLimite) {
+        return new ConsultaSolicitacoes(status, canal, desde, aposDataCriacao, aposId, novoLimite);
+    }
+}
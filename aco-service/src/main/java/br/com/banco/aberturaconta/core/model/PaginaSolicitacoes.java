@@ -0,0 +1,13 @@
+package br.com.banco.aberturaconta.core.model;
+
+import java.util.List;
+
+/**
+ * Página da listagem de solicitações; {@code temMais} indica que há linhas depois da última.
+ */
+public record PaginaSolicitacoes(List<ResumoSolicitacao> itens, boolean temMais) {
+
+    public ResumoSolicitacao ultimo() {
+        return itens.isEmpty() ? null : itens.get(itens.size() - 1);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.banco.aberturaconta.core.model;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Colunas de uma solicitação usadas na listagem, lidas sem carregar a entidade.
+ */
+public record ResumoSolicitacao(Long id, String cpf, String nome, String canal, StatusSolicitacao status,
+                                String numeroConta, CodigoRejeicao codigoRejeicao, LocalDateTime dataCriacao,
+                                LocalDateTime dataAtualizacao) {
+
+    public String motivoRejeicao() {
+        return CodigoRejeicao.motivoDe(codigoRejeicao);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.banco.aberturaconta.core.model;
 
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,16 +27,20 @@ public class SolicitacaoAberturaConta {
     private LocalDateTime dataCriacao;
     private LocalDateTime dataAtualizacao;
     private String numeroConta;
-    private String motivoRejeicao;
+    private CodigoRejeicao codigoRejeicao;
 
     public void aprovar(final String numeroConta) {
         this.status = StatusSolicitacao.APROVADA;
         this.numeroConta = numeroConta;
     }
 
-    public void rejeitar(final String motivo) {
+    public void rejeitar(final CodigoRejeicao codigo) {
         this.status = StatusSolicitacao.REJEITADA;
-        this.motivoRejeicao = motivo;
+        this.codigoRejeicao = codigo;
+    }
+
+    public String getMotivoRejeicao() {
+        return CodigoRejeicao.motivoDe(codigoRejeicao);
     }
 
     public void atualizarStatus(final StatusSolicitacao novoStatus) {
@@ -0,0 +1,30 @@
+package br.com.banco.aberturaconta.core.model;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+
+/**
+ * Mudança de status aplicada direto no banco, só se o status atual for uma das
+ * {@link StatusSolicitacao#getOrigensPermitidas() origens permitidas}. Número da conta e código de
+ * rejeição nulos mantêm o valor gravado; o CPF, quando conhecido, evita uma consulta para o índice
+ * de contas ativas.
+ */
+public record TransicaoStatus(Long solicitacaoId, StatusSolicitacao novoStatus, String numeroConta,
+                              CodigoRejeicao codigoRejeicao, String cpf) {
+
+    public static TransicaoStatus para(final Long solicitacaoId, final StatusSolicitacao novoStatus) {
+        return new TransicaoStatus(solicitacaoId, novoStatus, null, null, null);
+    }
+
+    public static TransicaoStatus aprovacao(final Long solicitacaoId, final String numeroConta) {
+        return new TransicaoStatus(solicitacaoId, StatusSolicitacao.APROVADA, numeroConta, null, null);
+    }
+
+    public static TransicaoStatus contaAberta(final Long solicitacaoId, final String numeroConta) {
+        return new TransicaoStatus(solicitacaoId, StatusSolicitacao.CONTA_ABERTA, numeroConta, null, null);
+    }
+
+    public static TransicaoStatus rejeicao(final Long solicitacaoId, final CodigoRejeicao codigoRejeicao) {
+        return new TransicaoStatus(solicitacaoId, StatusSolicitacao.REJEITADA, null, codigoRejeicao, null);
+    }
+}
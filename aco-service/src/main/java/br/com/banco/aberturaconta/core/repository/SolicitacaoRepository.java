@@ -1,9 +1,14 @@
 package br.com.banco.aberturaconta.core.repository;
 
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SolicitacaoRepository {
@@ -15,4 +20,29 @@ public interface SolicitacaoRepository {
     boolean existsByCpfAndStatusIn(String cpf, List<StatusSolicitacao> status);
     
     SolicitacaoAberturaConta save(SolicitacaoAberturaConta solicitacao);
+
+    List<SolicitacaoAberturaConta> saveAll(List<SolicitacaoAberturaConta> solicitacoes);
+
+    Map<String, StatusSolicitacao> findStatusByCpfIn(Collection<String> cpfs);
+
+    Map<Long, String> findCpfByIdIn(Collection<Long> ids);
+
+    /**
+     * Um único {@code UPDATE ... WHERE id = ? AND status IN (origens permitidas)}, sem carregar a solicitação.
+     *
+     * @return true se a transição foi aplicada
+     */
+    boolean transitar(TransicaoStatus transicao);
+
+    /**
+     * Mesma regra de {@link #transitar(TransicaoStatus)}, em lotes JDBC (um por status de destino).
+     *
+     * @return para cada transição, na ordem recebida, se ela foi aplicada
+     */
+    boolean[] transitarEmLote(List<TransicaoStatus> transicoes);
+
+    /**
+     * Até {@code consulta.limite()} solicitações em ordem de (dataCriacao, id), a partir do cursor da consulta.
+     */
+    List<ResumoSolicitacao> listar(ConsultaSolicitacoes consulta);
 }
\ No newline at end of file
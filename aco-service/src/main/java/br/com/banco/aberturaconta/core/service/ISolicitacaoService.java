@@ -1,8 +1,16 @@
 package br.com.banco.aberturaconta.core.service;
 
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.PaginaSolicitacoes;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 public interface ISolicitacaoService {
     
     SolicitacaoAberturaConta buscarPorId(final Long id);
@@ -11,9 +19,25 @@ public interface ISolicitacaoService {
     
     SolicitacaoAberturaConta salvar(final SolicitacaoAberturaConta solicitacao);
     
-    void atualizarStatus(final Long id, final StatusSolicitacao status);
+    boolean atualizarStatus(final Long id, final StatusSolicitacao status);
+    
+    boolean transitar(final TransicaoStatus transicao);
+    
+    /**
+     * Aplica a transição e, só se ela foi aplicada, devolve a solicitação já com o novo status. Quem perde a
+     * corrida pela transição não lê a solicitação.
+     */
+    Optional<SolicitacaoAberturaConta> transitarEBuscar(final TransicaoStatus transicao);
+    
+    boolean[] transitarEmLote(final List<TransicaoStatus> transicoes);
     
     boolean existeContaPorCpf(final String cpf);
 
     SolicitacaoAberturaConta criarSolicitacao(final SolicitacaoAberturaConta solicitacao);
+
+    List<SolicitacaoAberturaConta> salvarTodas(final List<SolicitacaoAberturaConta> solicitacoes);
+
+    Map<String, StatusSolicitacao> buscarStatusPorCpfs(final Collection<String> cpfs);
+
+    PaginaSolicitacoes listar(final ConsultaSolicitacoes consulta);
 }
\ No newline at end of file
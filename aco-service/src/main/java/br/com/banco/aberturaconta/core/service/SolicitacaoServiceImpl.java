@@ -1,18 +1,28 @@
 package br.com.banco.aberturaconta.core.service;
 
+import br.com.banco.aberturaconta.core.index.IndiceCpfContaAtiva;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.PaginaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
 import br.com.banco.aberturaconta.core.repository.SolicitacaoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 public class SolicitacaoServiceImpl implements ISolicitacaoService {
 
     private final SolicitacaoRepository repository;
+    private final IndiceCpfContaAtiva indiceCpf;
 
     @Override
     
@@ -32,25 +42,60 @@ public class SolicitacaoServiceImpl implements ISolicitacaoService {
     
     public SolicitacaoAberturaConta salvar(final SolicitacaoAberturaConta solicitacao) {
         log.info("Salvando solicitação para CPF: {}", solicitacao.getCpf());
-        return repository.save(solicitacao);
+        final SolicitacaoAberturaConta salva = repository.save(solicitacao);
+        registrarNoIndice(solicitacao);
+        return salva;
     }
 
     @Override
     
-    public void atualizarStatus(final Long id, final StatusSolicitacao status) {
-        log.info("Atualizando status da solicitação {} para {}", id, status);
-        final SolicitacaoAberturaConta solicitacao = buscarPorId(id);
-        solicitacao.atualizarStatus(status);
-        repository.save(solicitacao);
+    public boolean atualizarStatus(final Long id, final StatusSolicitacao status) {
+        return transitar(TransicaoStatus.para(id, status));
+    }
+
+    @Override
+    
+    public boolean transitar(final TransicaoStatus transicao) {
+        if (!aplicar(transicao)) {
+            return false;
+        }
+        registrarNoIndice(List.of(transicao));
+        return true;
+    }
+
+    @Override
+    
+    public Optional<SolicitacaoAberturaConta> transitarEBuscar(final TransicaoStatus transicao) {
+        if (!aplicar(transicao)) {
+            return Optional.empty();
+        }
+        final Optional<SolicitacaoAberturaConta> solicitacao = repository.findById(transicao.solicitacaoId());
+        solicitacao.ifPresent(this::registrarNoIndice);
+        return solicitacao;
+    }
+
+    @Override
+    
+    public boolean[] transitarEmLote(final List<TransicaoStatus> transicoes) {
+        log.info("Atualizando status de {} solicitações em lote", transicoes.size());
+        final boolean[] aplicadas = repository.transitarEmLote(transicoes);
+        final List<TransicaoStatus> transicoesAplicadas = new ArrayList<>(transicoes.size());
+        for (int i = 0; i < aplicadas.length; i++) {
+            if (aplicadas[i]) {
+                transicoesAplicadas.add(transicoes.get(i));
+            }
+        }
+        registrarNoIndice(transicoesAplicadas);
+        return aplicadas;
     }
 
     @Override
     
     public boolean existeContaPorCpf(final String cpf) {
-        return repository.existsByCpfAndStatusIn(
-                cpf, 
-                List.of(StatusSolicitacao.APROVADA, StatusSolicitacao.CONTA_ABERTA)
-        );
+        if (!indiceCpf.podeConter(cpf)) {
+            return false;
+        }
+        return repository.existsByCpfAndStatusIn(cpf, IndiceCpfContaAtiva.STATUS_CONTA_ATIVA);
     }
     
     @Override
@@ -64,4 +109,64 @@ public class SolicitacaoServiceImpl implements ISolicitacaoService {
         log.info("Criando nova solicitação para CPF: {}", solicitacao.getCpf());
         return salvar(solicitacao);
     }
-}
\ No newline at end of file
+
+    @Override
+    
+    public List<SolicitacaoAberturaConta> salvarTodas(final List<SolicitacaoAberturaConta> solicitacoes) {
+        log.info("Salvando lote de {} solicitações", solicitacoes.size());
+        final List<SolicitacaoAberturaConta> salvas = repository.saveAll(solicitacoes);
+        salvas.forEach(this::registrarNoIndice);
+        return salvas;
+    }
+
+    @Override
+    
+    public Map<String, StatusSolicitacao> buscarStatusPorCpfs(final Collection<String> cpfs) {
+        if (cpfs.isEmpty()) {
+            return Map.of();
+        }
+        return repository.findStatusByCpfIn(cpfs);
+    }
+
+    @Override
+    
+    public PaginaSolicitacoes listar(final ConsultaSolicitacoes consulta) {
+        // uma linha a mais só para saber se existe próxima página
+        final List<ResumoSolicitacao> linhas = repository.listar(consulta.comLimite(consulta.limite() + 1));
+        final boolean temMais = linhas.size() > consulta.limite();
+        return new PaginaSolicitacoes(temMais ? linhas.subList(0, consulta.limite()) : linhas, temMais);
+    }
+
+    private boolean aplicar(final TransicaoStatus transicao) {
+        log.info("Atualizando status da solicitação {} para {}", transicao.solicitacaoId(), transicao.novoStatus());
+        if (!repository.transitar(transicao)) {
+            log.warn("Status da solicitação {} não atualizado para {}: solicitação inexistente ou fora de {}",
+                    transicao.solicitacaoId(), transicao.novoStatus(), transicao.novoStatus().getOrigensPermitidas());
+            return false;
+        }
+        return true;
+    }
+
+    private void registrarNoIndice(final SolicitacaoAberturaConta solicitacao) {
+        if (IndiceCpfContaAtiva.isAtiva(solicitacao.getStatus())) {
+            indiceCpf.adicionar(solicitacao.getCpf());
+        }
+    }
+
+    private void registrarNoIndice(final List<TransicaoStatus> aplicadas) {
+        final List<TransicaoStatus> ativas = aplicadas.stream()
+                .filter(transicao -> IndiceCpfContaAtiva.isAtiva(transicao.novoStatus()))
+                .toList();
+        if (ativas.isEmpty()) {
+            return;
+        }
+
+        final List<Long> semCpf = ativas.stream()
+                .filter(transicao -> transicao.cpf() == null)
+                .map(TransicaoStatus::solicitacaoId)
+                .toList();
+        final Map<Long, String> cpfs = semCpf.isEmpty() ? Map.of() : repository.findCpfByIdIn(semCpf);
+        ativas.forEach(transicao -> indiceCpf.adicionar(
+                transicao.cpf() != null ? transicao.cpf() : cpfs.get(transicao.solicitacaoId())));
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.banco.aberturaconta.infra.bpmn.correlacao;
+
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+
+/**
+ * Mantém o correlation ID da requisição ao longo do processo, que roda em threads do job executor e de
+ * correlação de mensagens. No início do processo o ID da thread que o instancia vira a variável
+ * {@value #VARIAVEL}; no início de cada tarefa ele volta para a thread atual, sobrescrevendo o da
+ * tarefa anterior, e no fim do processo sai dela. Como um processo pode parar em um job sem chegar ao fim,
+ * quem devolve ao pool a thread do job sem o ID é o decorator do job executor
+ * ({@code AsyncConfig.camundaTaskExecutor}).
+ */
+public final class CorrelationIdExecutionListener implements ExecutionListener {
+
+    public static final String VARIAVEL = "correlationId";
+
+    static final CorrelationIdExecutionListener PROCESSO = new CorrelationIdExecutionListener(true);
+    static final CorrelationIdExecutionListener TAREFA = new CorrelationIdExecutionListener(false);
+
+    private final boolean processo;
+
+    private CorrelationIdExecutionListener(final boolean processo) {
+        this.processo = processo;
+    }
+
+    @Override
+    public void notify(final DelegateExecution execution) {
+        if (!processo) {
+            final Object correlationId = execution.getVariable(VARIAVEL);
+            if (correlationId != null) {
+                CorrelationIdUtil.setCorrelationId(correlationId.toString());
+            }
+        } else if (EVENTNAME_END.equals(execution.getEventName())) {
+            CorrelationIdUtil.clearCorrelationId();
+        } else if (!execution.hasVariable(VARIAVEL) && CorrelationIdUtil.hasCorrelationId()) {
+            execution.setVariable(VARIAVEL, CorrelationIdUtil.getCorrelationId());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.banco.aberturaconta.infra.bpmn.correlacao;
+
+import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.impl.bpmn.helper.BpmnProperties;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Liga o {@link CorrelationIdExecutionListener} ao início e fim de cada processo e ao início de cada tarefa,
+ * sem alterar os BPMNs.
+ */
+public class CorrelationIdParseListener extends AbstractBpmnParseListener {
+
+    private static final Set<String> TIPOS_TAREFA = Set.of(
+            ActivityTypes.TASK_SERVICE,
+            ActivityTypes.TASK_RECEIVE_TASK,
+            ActivityTypes.TASK_USER_TASK,
+            ActivityTypes.TASK_SEND_TASK,
+            ActivityTypes.TASK_SCRIPT,
+            ActivityTypes.TASK_BUSINESS_RULE,
+            ActivityTypes.CALL_ACTIVITY);
+
+    @Override
+    public void parseProcess(final Element processElement, final ProcessDefinitionEntity processDefinition) {
+        processDefinition.addListener(ExecutionListener.EVENTNAME_START, CorrelationIdExecutionListener.PROCESSO);
+        processDefinition.addListener(ExecutionListener.EVENTNAME_END, CorrelationIdExecutionListener.PROCESSO);
+        adicionarNasTarefas(processDefinition.getActivities());
+    }
+
+    private void adicionarNasTarefas(final List<ActivityImpl> atividades) {
+        for (ActivityImpl atividade : atividades) {
+            if (TIPOS_TAREFA.contains(atividade.getProperties().get(BpmnProperties.TYPE))) {
+                atividade.addListener(ExecutionListener.EVENTNAME_START, CorrelationIdExecutionListener.TAREFA);
+            }
+            adicionarNasTarefas(atividade.getActivities());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.banco.aberturaconta.infra.bpmn.correlacao;
+
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CorrelationIdProcessEnginePlugin extends AbstractProcessEnginePlugin {
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        List<BpmnParseListener> listeners = processEngineConfiguration.getCustomPostBPMNParseListeners();
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+            processEngineConfiguration.setCustomPostBPMNParseListeners(listeners);
+        }
+        listeners.add(new CorrelationIdParseListener());
+    }
+}
@@ -2,11 +2,13 @@ package br.com.banco.aberturaconta.infra.bpmn.delegate;
 
 import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -16,6 +18,9 @@ public class AbrirContaSistemaInternoDelegate implements JavaDelegate {
 
     private final SolicitacaoApplicationService solicitacaoService;
 
+    @Value("${aco.validacao.latencia-simulada-ms:60000}")
+    private long latenciaSimuladaMs;
+
     @Override
     public void execute(DelegateExecution execution) {
         var solicitacaoId = Long.parseLong(execution.getBusinessKey());
@@ -23,8 +28,8 @@ public class AbrirContaSistemaInternoDelegate implements JavaDelegate {
 
         try {
             
-            log.info("⏳ Processando abertura de conta no sistema interno (aguarde 60 segundos)...");
-            Thread.sleep(60000);
+            log.info("⏳ Processando abertura de conta no sistema interno (aguarde {} ms)...", latenciaSimuladaMs);
+            Thread.sleep(latenciaSimuladaMs);
             
             var numeroConta = abrirContaNoSistemaInterno(solicitacaoId);
             
@@ -32,10 +37,7 @@ public class AbrirContaSistemaInternoDelegate implements JavaDelegate {
             execution.setVariable("contaAberta", true);
             
             solicitacaoService.atualizarStatus(solicitacaoId, StatusSolicitacao.AGUARDANDO_SISTEMA_INTERNO);
-
-            var solicitacao = solicitacaoService.buscarPorId(solicitacaoId);
-            solicitacao.aprovar(numeroConta);
-            solicitacaoService.salvar(solicitacao);
+            solicitacaoService.transitar(TransicaoStatus.aprovacao(solicitacaoId, numeroConta));
             
             log.info("Conta aberta com sucesso no sistema interno para solicitação: {} - Conta: {}", solicitacaoId, numeroConta);
             
@@ -0,0 +1,51 @@
+package br.com.banco.aberturaconta.infra.bpmn.delegate;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacaoCorrelator;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ValidacaoProviders;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Dispara a validação da etapa no {@link br.com.banco.aberturaconta.infra.bpmn.validacao.ValidacaoProvider}
+ * e deixa o processo parado na receive task "Aguardar Resultado" seguinte. O disparo só acontece depois
+ * do commit, para que a resposta nunca chegue antes de o processo estar esperando por ela. Uma exceção
+ * do provedor no próprio disparo é tratada como a falha da resposta: vira rejeição no processo.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public abstract class AbstractValidacaoDelegate implements JavaDelegate {
+
+    private final ValidacaoProviders providers;
+    private final ResultadoValidacaoCorrelator correlator;
+
+    public abstract EtapaValidacao getEtapa();
+
+    @Override
+    public void execute(DelegateExecution execution) {
+        var etapa = getEtapa();
+        var solicitacaoId = Long.parseLong(execution.getBusinessKey());
+        log.info("Iniciando validação {} para solicitação: {}", etapa.getDescricao(), solicitacaoId);
+
+        Context.getCommandContext()
+                .getTransactionContext()
+                .addTransactionListener(TransactionState.COMMITTED, commandContext -> disparar(etapa, solicitacaoId));
+    }
+
+    private void disparar(final EtapaValidacao etapa, final Long solicitacaoId) {
+        CompletableFuture<ResultadoValidacao> resposta;
+        try {
+            resposta = providers.validar(etapa, solicitacaoId);
+        } catch (RuntimeException e) {
+            resposta = CompletableFuture.failedFuture(e);
+        }
+        correlator.aguardar(etapa, solicitacaoId, resposta);
+    }
+}
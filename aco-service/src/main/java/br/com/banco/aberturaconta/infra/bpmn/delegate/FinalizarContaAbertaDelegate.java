@@ -1,16 +1,21 @@
 package br.com.banco.aberturaconta.infra.bpmn.delegate;
 
 import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
-import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.infra.kafka.SolicitacaoKafkaPublisher;
+import br.com.banco.aberturaconta.infra.metrics.MetricasProcesso;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -18,6 +23,7 @@ public class FinalizarContaAbertaDelegate implements JavaDelegate {
 
     private final SolicitacaoApplicationService solicitacaoService;
     private final SolicitacaoKafkaPublisher kafkaPublisher;
+    private final MetricasProcesso metricas;
 
     @Override
     public void execute(final DelegateExecution execution) {
@@ -28,11 +34,18 @@ public class FinalizarContaAbertaDelegate implements JavaDelegate {
         log.info("Finalizando abertura de conta: solicitacaoId={}, numeroConta={}, correlationId={}", 
                 solicitacaoId, numeroConta, correlationId);
         
-        final SolicitacaoAberturaConta solicitacao = solicitacaoService.buscarPorId(solicitacaoId);
-        solicitacao.aprovar(numeroConta);
-        solicitacao.atualizarStatus(StatusSolicitacao.CONTA_ABERTA);
-        solicitacaoService.salvar(solicitacao);
+        final Optional<SolicitacaoAberturaConta> transitada =
+                solicitacaoService.transitarEBuscar(TransicaoStatus.contaAberta(solicitacaoId, numeroConta));
+        if (transitada.isEmpty()) {
+            log.warn("Solicitação {} não estava APROVADA, evento de conta aberta não publicado", solicitacaoId);
+            return;
+        }
+        final SolicitacaoAberturaConta solicitacao = transitada.get();
 
         kafkaPublisher.publicarContaAberta(solicitacao);
+
+        Context.getCommandContext()
+                .getTransactionContext()
+                .addTransactionListener(TransactionState.COMMITTED, commandContext -> metricas.registrarConclusao(solicitacao));
     }
 }
\ No newline at end of file
@@ -1,46 +1,58 @@
 package br.com.banco.aberturaconta.infra.bpmn.delegate;
 
 import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
 import br.com.banco.aberturaconta.infra.kafka.SolicitacaoKafkaPublisher;
+import br.com.banco.aberturaconta.infra.metrics.MetricasProcesso;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.delegate.DelegateExecution;
 import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
+/**
+ * O código da rejeição vem da variável preenchida pelo resultado da validação ou pelo evento de erro que
+ * trouxe o processo até aqui; sem ela, ou com um código que não é de etapa, a rejeição é {@link CodigoRejeicao#OUTROS}.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RejeitarSolicitacaoDelegate implements JavaDelegate {
 
-    private static final String MOTIVO_REJEICAO_DEFAULT = "Solicitação rejeitada durante o processo de validação";
-
     private final SolicitacaoApplicationService solicitacaoService;
     private final SolicitacaoKafkaPublisher kafkaPublisher;
+    private final MetricasProcesso metricas;
 
     @Override
     public void execute(final DelegateExecution execution) {
         final Long solicitacaoId = Long.parseLong(execution.getBusinessKey());
-        final String motivoRejeicao = (String) execution.getVariable("motivoRejeicao");
+        final CodigoRejeicao codigoRejeicao = CodigoRejeicao.fromCodigoErro(
+                (String) execution.getVariable(ResultadoValidacao.VARIAVEL_CODIGO_REJEICAO));
         final String correlationId = CorrelationIdUtil.getCorrelationId();
         
-        final String motivoFinal = obterMotivoFinal(motivoRejeicao);
+        log.warn("Rejeitando solicitação: solicitacaoId={}, codigo={}, correlationId={}", 
+                solicitacaoId, codigoRejeicao, correlationId);
         
-        log.warn("Rejeitando solicitação: solicitacaoId={}, motivo={}, correlationId={}", 
-                solicitacaoId, motivoFinal, correlationId);
-        
-        final SolicitacaoAberturaConta solicitacao = solicitacaoService.buscarPorId(solicitacaoId);
-        solicitacao.rejeitar(motivoFinal);
-        solicitacaoService.salvar(solicitacao);
+        final Optional<SolicitacaoAberturaConta> transitada =
+                solicitacaoService.transitarEBuscar(TransicaoStatus.rejeicao(solicitacaoId, codigoRejeicao));
+        if (transitada.isEmpty()) {
+            log.warn("Solicitação {} já estava finalizada, evento de rejeição não publicado", solicitacaoId);
+            return;
+        }
+        final SolicitacaoAberturaConta solicitacao = transitada.get();
 
         kafkaPublisher.publicarSolicitacaoRejeitada(solicitacao);
-    }
 
-    private String obterMotivoFinal(final String motivoRejeicao) {
-        return motivoRejeicao != null && !motivoRejeicao.isBlank() 
-                ? motivoRejeicao 
-                : MOTIVO_REJEICAO_DEFAULT;
+        Context.getCommandContext()
+                .getTransactionContext()
+                .addTransactionListener(TransactionState.COMMITTED, commandContext -> metricas.registrarConclusao(solicitacao));
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package br.com.banco.aberturaconta.infra.bpmn.historico;
+
+import br.com.banco.aberturaconta.infra.entity.HistoricoProcessoData;
+import br.com.banco.aberturaconta.infra.historico.HistoricoProcessoService;
+import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Substitui o DbHistoryEventHandler: converte os eventos do {@link HistoricoCompactoHistoryLevel} em
+ * {@link HistoricoProcessoData} e os entrega ao {@link HistoricoProcessoService} só depois do commit da
+ * transação do engine, sem nenhum insert dentro dela. Eventos de atividades que não são tarefas
+ * (gateways, eventos intermediários) são ignorados.
+ */
+public class HistoricoCompactoEventHandler implements HistoryEventHandler {
+
+    private static final Set<String> TIPOS_ATIVIDADE = Set.of(
+            ActivityTypes.TASK_SERVICE,
+            ActivityTypes.TASK_RECEIVE_TASK,
+            ActivityTypes.TASK_USER_TASK,
+            ActivityTypes.TASK_SEND_TASK,
+            ActivityTypes.TASK_SCRIPT,
+            ActivityTypes.TASK_BUSINESS_RULE,
+            ActivityTypes.CALL_ACTIVITY);
+
+    private final HistoricoProcessoService historicoProcesso;
+
+    public HistoricoCompactoEventHandler(final HistoricoProcessoService historicoProcesso) {
+        this.historicoProcesso = historicoProcesso;
+    }
+
+    @Override
+    public void handleEvent(final HistoryEvent evento) {
+        final HistoricoProcessoData linha = converter(evento);
+        if (linha == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            historicoProcesso.registrar(List.of(linha));
+            return;
+        }
+        linhasDaTransacao().linhas.add(linha);
+    }
+
+    @Override
+    public void handleEvents(final List<HistoryEvent> eventos) {
+        eventos.forEach(this::handleEvent);
+    }
+
+    /**
+     * Um acumulador por transação, ligado como recurso da transação com o handler como chave e registrado como
+     * sincronização dela. Em uma REQUIRES_NEW a transação externa é suspensa e o acumulador dela se desliga
+     * até a retomada, então cada transação entrega só as suas linhas.
+     */
+    private LinhasDaTransacao linhasDaTransacao() {
+        LinhasDaTransacao acumulador = (LinhasDaTransacao) TransactionSynchronizationManager.getResource(this);
+        if (acumulador == null) {
+            acumulador = new LinhasDaTransacao();
+            TransactionSynchronizationManager.bindResource(this, acumulador);
+            TransactionSynchronizationManager.registerSynchronization(acumulador);
+        }
+        return acumulador;
+    }
+
+    static HistoricoProcessoData converter(final HistoryEvent evento) {
+        if (evento instanceof HistoricProcessInstanceEventEntity processo) {
+            final boolean inicio = processo.isEventOfType(HistoryEventTypes.PROCESS_INSTANCE_START);
+            return linha(processo, processo.getBusinessKey(),
+                    inicio ? HistoricoProcessoData.Tipo.INICIO_PROCESSO : HistoricoProcessoData.Tipo.FIM_PROCESSO,
+                    inicio ? processo.getStartActivityId() : processo.getEndActivityId(),
+                    inicio ? processo.getStartTime() : processo.getEndTime());
+        }
+        if (evento instanceof HistoricActivityInstanceEventEntity atividade
+                && TIPOS_ATIVIDADE.contains(atividade.getActivityType())) {
+            final boolean inicio = atividade.isEventOfType(HistoryEventTypes.ACTIVITY_INSTANCE_START);
+            return linha(atividade, null,
+                    inicio ? HistoricoProcessoData.Tipo.INICIO_ATIVIDADE : HistoricoProcessoData.Tipo.FIM_ATIVIDADE,
+                    atividade.getActivityId(),
+                    inicio ? atividade.getStartTime() : atividade.getEndTime());
+        }
+        return null;
+    }
+
+    private static HistoricoProcessoData linha(final HistoryEvent evento, final String chaveNegocio,
+                                               final HistoricoProcessoData.Tipo tipo, final String atividade,
+                                               final Date instante) {
+        return HistoricoProcessoData.builder()
+                .processoInstanciaId(evento.getProcessInstanceId())
+                .chaveNegocio(chaveNegocio)
+                .tipo(tipo)
+                .atividade(atividade)
+                .instante(instante == null ? LocalDateTime.now()
+                        : LocalDateTime.ofInstant(instante.toInstant(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private final class LinhasDaTransacao implements TransactionSynchronization {
+
+        private final List<HistoricoProcessoData> linhas = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(HistoricoCompactoEventHandler.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(HistoricoCompactoEventHandler.this, this);
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(HistoricoCompactoEventHandler.this);
+            if (status == STATUS_COMMITTED) {
+                historicoProcesso.registrar(linhas);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.banco.aberturaconta.infra.bpmn.historico;
+
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventType;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+
+import java.util.Set;
+
+/**
+ * Nível de histórico "compacto": o engine só produz início e fim de processos e de atividades.
+ * Variáveis, tarefas, jobs e incidentes não geram evento de histórico.
+ */
+public class HistoricoCompactoHistoryLevel implements HistoryLevel {
+
+    public static final String NOME = "compacto";
+
+    private static final int ID = 15;
+
+    private static final Set<HistoryEventType> EVENTOS = Set.of(
+            HistoryEventTypes.PROCESS_INSTANCE_START,
+            HistoryEventTypes.PROCESS_INSTANCE_END,
+            HistoryEventTypes.ACTIVITY_INSTANCE_START,
+            HistoryEventTypes.ACTIVITY_INSTANCE_END);
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NOME;
+    }
+
+    @Override
+    public boolean isHistoryEventProduced(final HistoryEventType eventType, final Object entity) {
+        return EVENTOS.contains(eventType);
+    }
+}
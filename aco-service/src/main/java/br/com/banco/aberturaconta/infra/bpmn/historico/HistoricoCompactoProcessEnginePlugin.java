@@ -0,0 +1,35 @@
+package br.com.banco.aberturaconta.infra.bpmn.historico;
+
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registra o nível {@link HistoricoCompactoHistoryLevel} e troca o handler padrão, que grava ACT_HI_*
+ * na transação do engine, pelo {@link HistoricoCompactoEventHandler}. Com ele o HistoryService e as
+ * telas de histórico do Cockpit ficam vazios; o histórico fica em historico_processo.
+ */
+@RequiredArgsConstructor
+public class HistoricoCompactoProcessEnginePlugin extends AbstractProcessEnginePlugin {
+
+    private final HistoricoCompactoEventHandler handler;
+
+    @Override
+    public void preInit(final ProcessEngineConfigurationImpl processEngineConfiguration) {
+        final List<HistoryLevel> niveis = processEngineConfiguration.getCustomHistoryLevels() == null
+                ? new ArrayList<>() : new ArrayList<>(processEngineConfiguration.getCustomHistoryLevels());
+        niveis.add(new HistoricoCompactoHistoryLevel());
+        processEngineConfiguration.setCustomHistoryLevels(niveis);
+
+        final List<HistoryEventHandler> handlers = processEngineConfiguration.getCustomHistoryEventHandlers() == null
+                ? new ArrayList<>() : new ArrayList<>(processEngineConfiguration.getCustomHistoryEventHandlers());
+        handlers.add(handler);
+        processEngineConfiguration.setCustomHistoryEventHandlers(handlers);
+        processEngineConfiguration.setEnableDefaultDbHistoryEventHandler(false);
+    }
+}
@@ -1,13 +1,21 @@
 package br.com.banco.aberturaconta.infra.bpmn.listener;
 
+import br.com.banco.aberturaconta.core.domain.Canal;
 import br.com.banco.aberturaconta.infra.event.SolicitacaoCriadaEvent;
+import br.com.banco.aberturaconta.infra.event.SolicitacoesCriadasEmLoteEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.engine.RuntimeService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -15,31 +23,77 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class SolicitacaoCriadaListener {
     
     private static final String PROCESSO_ABERTURA = "ProcessoAberturaContaPF";
+    private static final String PROCESSO_ABERTURA_PARALELO = "ProcessoAberturaContaPFParalelo";
     
     private final RuntimeService runtimeService;
     
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${aco.processo.paralelo.canais:}")
+    private Set<Canal> canaisProcessoParalelo;
+    
+    @Value("${aco.lote.grupo-processos:50}")
+    private int tamanhoGrupoProcessos;
+    
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = SolicitacaoCriadaEvent.class)
     public void onSolicitacaoCriadaEvent(SolicitacaoCriadaEvent event) {
+        final String processo = definirProcesso(event.getCanal());
         try {
             if (!existeInstanciaCamunda(event.getSolicitacaoId().toString())) {
-                log.info("Instanciando o processo {} para a solicitação {}", PROCESSO_ABERTURA, event.getSolicitacaoId());
+                log.info("Instanciando o processo {} para a solicitação {}", processo, event.getSolicitacaoId());
                 
-                var processInstance = runtimeService
-                        .createProcessInstanceByKey(PROCESSO_ABERTURA)
-                        .businessKey(event.getSolicitacaoId().toString())
-                        .setVariables(event.getVariaveis())
-                        .execute();
-                
-                log.info("✅ Processo {} instanciado com sucesso. ID: {} para solicitação: {}", 
-                        PROCESSO_ABERTURA, processInstance.getId(), event.getSolicitacaoId());
+                instanciar(processo, event);
             } else {
-                log.warn("Processo {} já existe para a solicitação {}", PROCESSO_ABERTURA, event.getSolicitacaoId());
+                log.warn("Processo {} já existe para a solicitação {}", processo, event.getSolicitacaoId());
             }
         } catch (Exception e) {
             log.error("❌ Erro ao instanciar processo {} para solicitação {}: {}", 
-                    PROCESSO_ABERTURA, event.getSolicitacaoId(), e.getMessage(), e);
+                    processo, event.getSolicitacaoId(), e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Solicitações do lote acabaram de ser criadas, então não há instância anterior a procurar. Cada grupo
+     * de processos é iniciado em uma única transação; se o grupo falhar, ele é refeito um a um para que uma
+     * solicitação com problema não impeça as demais.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = SolicitacoesCriadasEmLoteEvent.class)
+    public void onSolicitacoesCriadasEmLoteEvent(SolicitacoesCriadasEmLoteEvent event) {
+        final List<SolicitacaoCriadaEvent> solicitacoes = event.getSolicitacoes();
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        for (int inicio = 0; inicio < solicitacoes.size(); inicio += tamanhoGrupoProcessos) {
+            final List<SolicitacaoCriadaEvent> grupo =
+                    solicitacoes.subList(inicio, Math.min(inicio + tamanhoGrupoProcessos, solicitacoes.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        grupo.forEach(solicitacao -> instanciar(definirProcesso(solicitacao.getCanal()), solicitacao)));
+            } catch (Exception e) {
+                log.warn("Falha ao instanciar grupo de {} processos ({}), instanciando um a um", 
+                        grupo.size(), e.getMessage());
+                grupo.forEach(this::onSolicitacaoCriadaEvent);
+            }
         }
+        log.info("✅ {} processos do lote instanciados", solicitacoes.size());
+    }
+    
+    private void instanciar(final String processo, final SolicitacaoCriadaEvent event) {
+        var processInstance = runtimeService
+                .createProcessInstanceByKey(processo)
+                .businessKey(event.getSolicitacaoId().toString())
+                .setVariables(event.getVariaveis())
+                .execute();
+        
+        log.info("✅ Processo {} instanciado com sucesso. ID: {} para solicitação: {}", 
+                processo, processInstance.getId(), event.getSolicitacaoId());
+    }
+    
+    private String definirProcesso(final String canal) {
+        return canaisProcessoParalelo.contains(Canal.fromString(canal))
+                ? PROCESSO_ABERTURA_PARALELO
+                : PROCESSO_ABERTURA;
     }
     
     private boolean existeInstanciaCamunda(String businessKey) {
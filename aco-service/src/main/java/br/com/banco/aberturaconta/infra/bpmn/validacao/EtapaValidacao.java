@@ -0,0 +1,86 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum EtapaValidacao {
+    TOPAZ("Topaz", "validarTopazDelegate", StatusSolicitacao.VALIDANDO_TOPAZ, CodigoRejeicao.TOPAZ, "ERRO_TOPAZ", "topazAprovado"),
+    ANTIFRAUDE("Antifraude", "validarAntifraudeDelegate", StatusSolicitacao.VALIDANDO_ANTIFRAUDE, CodigoRejeicao.ANTIFRAUDE, "ERRO_ANTIFRAUDE", "antifraudeAprovado"),
+    PIX("PIX", "validarPixDelegate", StatusSolicitacao.VALIDANDO_PIX, CodigoRejeicao.PIX, "ERRO_PIX", "pixAprovado"),
+    SERASA("Serasa", "validarSerasaDelegate", StatusSolicitacao.VALIDANDO_SERASA, CodigoRejeicao.SERASA, "ERRO_SERASA", "serasaAprovado"),
+    PROVA_VIDA("Prova de Vida", "validarProvaVidaDelegate", StatusSolicitacao.VALIDANDO_PROVA_VIDA, CodigoRejeicao.PROVA_VIDA, "ERRO_PROVA_VIDA", "provaVidaAprovado");
+
+    private static final String PREFIXO_TOPICO = "validacao-";
+    private static final String PREFIXO_MENSAGEM_RESULTADO = "RESULTADO_VALIDACAO_";
+
+    private final String descricao;
+    private final String delegate;
+    private final StatusSolicitacao status;
+    private final CodigoRejeicao codigoRejeicao;
+    private final String codigoErro;
+    private final String variavelAprovado;
+
+    EtapaValidacao(final String descricao, final String delegate, final StatusSolicitacao status,
+                   final CodigoRejeicao codigoRejeicao, final String codigoErro, final String variavelAprovado) {
+        this.descricao = descricao;
+        this.delegate = delegate;
+        this.status = status;
+        this.codigoRejeicao = codigoRejeicao;
+        this.codigoErro = codigoErro;
+        this.variavelAprovado = variavelAprovado;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public String getDelegate() {
+        return delegate;
+    }
+
+    public StatusSolicitacao getStatus() {
+        return status;
+    }
+
+    public CodigoRejeicao getCodigoRejeicao() {
+        return codigoRejeicao;
+    }
+
+    public String getCodigoErro() {
+        return codigoErro;
+    }
+
+    /**
+     * Variável booleana lida pelo gateway "Aprovado?" da etapa nos BPMNs.
+     */
+    public String getVariavelAprovado() {
+        return variavelAprovado;
+    }
+
+    public String getTopico() {
+        return PREFIXO_TOPICO + name().toLowerCase().replace('_', '-');
+    }
+
+    public String getMensagemResultado() {
+        return PREFIXO_MENSAGEM_RESULTADO + name();
+    }
+
+    public static Optional<EtapaValidacao> fromMensagemResultado(final String mensagem) {
+        return Arrays.stream(values())
+                .filter(etapa -> etapa.getMensagemResultado().equals(mensagem))
+                .findFirst();
+    }
+
+    public static Optional<EtapaValidacao> fromDelegateExpression(final String delegateExpression) {
+        if (delegateExpression == null || delegateExpression.isBlank()) {
+            return Optional.empty();
+        }
+
+        return Arrays.stream(values())
+                .filter(etapa -> delegateExpression.equals("${" + etapa.delegate + "}"))
+                .findFirst();
+    }
+}
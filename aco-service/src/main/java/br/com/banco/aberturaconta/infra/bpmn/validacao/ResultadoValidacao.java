@@ -0,0 +1,43 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Na rejeição, o processo recebe em {@link #VARIAVEL_CODIGO_REJEICAO} o código de erro BPMN da etapa
+ * ({@code SERASA_REJEITADO}...), a mesma variável que os eventos de erro de contorno preenchem com
+ * {@code camunda:errorCodeVariable}. A falha técnica do provedor também chega ao processo como rejeição,
+ * com o código {@code ERRO_<ETAPA>}, que não é de nenhuma etapa e vira {@code CodigoRejeicao.OUTROS}.
+ */
+public record ResultadoValidacao(
+        boolean aprovado,
+        Map<String, Object> variaveis,
+        String codigoErroRejeicao,
+        String mensagem
+) {
+
+    public static final String VARIAVEL_CODIGO_REJEICAO = "codigoRejeicao";
+
+    public Map<String, Object> variaveisProcesso() {
+        if (aprovado) {
+            return variaveis;
+        }
+
+        final Map<String, Object> variaveisRejeicao = new HashMap<>(variaveis);
+        variaveisRejeicao.put(VARIAVEL_CODIGO_REJEICAO, codigoErroRejeicao);
+        return variaveisRejeicao;
+    }
+
+    public static ResultadoValidacao aprovado(final Map<String, Object> variaveis) {
+        return new ResultadoValidacao(true, variaveis, null, null);
+    }
+
+    public static ResultadoValidacao rejeitado(final Map<String, Object> variaveis, final EtapaValidacao etapa,
+                                               final String mensagem) {
+        return new ResultadoValidacao(false, variaveis, etapa.getCodigoRejeicao().getCodigoErro(), mensagem);
+    }
+
+    public static ResultadoValidacao falha(final EtapaValidacao etapa, final String mensagem) {
+        return new ResultadoValidacao(false, Map.of(etapa.getVariavelAprovado(), false), etapa.getCodigoErro(), mensagem);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.runtime.Execution;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Devolve ao processo o resultado de uma validação, correlacionando a mensagem da etapa pela business key.
+ *
+ * No processo paralelo várias respostas da mesma solicitação podem chegar juntas (ou depois de um ramo irmão
+ * já ter cancelado o subprocesso); o conflito é tratado reagendando a correlação com espera aleatória, sem
+ * prender a thread. Na nova tentativa, se o processo não aguarda mais a mensagem, nada é correlacionado.
+ *
+ * A falha do provedor é correlacionada como rejeição ({@link ResultadoValidacao#falha}). Se nem assim a
+ * correlação passa, a receive task da etapa recebe um incidente; o timer de {@link #getPrazoResultado()}
+ * nos BPMNs cobre o que não chega a lugar nenhum (resultado perdido em uma queda da aplicação).
+ */
+@Slf4j
+@Component
+public class ResultadoValidacaoCorrelator {
+
+    public static final String TIPO_INCIDENTE = "falhaCorrelacaoValidacao";
+
+    private static final int MAX_TENTATIVAS = 10;
+    private static final long ESPERA_BASE_MS = 100;
+
+    private final RuntimeService runtimeService;
+    private final SolicitacaoApplicationService solicitacaoService;
+    private final Executor validacaoExecutor;
+    private final String prazoResultado;
+
+    public ResultadoValidacaoCorrelator(final RuntimeService runtimeService,
+                                        final SolicitacaoApplicationService solicitacaoService,
+                                        @Qualifier("validacaoExecutor") final Executor validacaoExecutor,
+                                        @Value("${aco.validacao.prazo-resultado:PT10M}") final String prazoResultado) {
+        this.runtimeService = runtimeService;
+        this.solicitacaoService = solicitacaoService;
+        this.validacaoExecutor = validacaoExecutor;
+        this.prazoResultado = prazoResultado;
+    }
+
+    /**
+     * Duração ISO-8601 dos timers das receive tasks "Aguardar Resultado" ({@code aco.validacao.prazo-resultado}).
+     */
+    public String getPrazoResultado() {
+        return prazoResultado;
+    }
+
+    /**
+     * Correlaciona a resposta do provedor quando ela chegar. A correlação roda sempre no validacaoExecutor,
+     * mesmo que a resposta já esteja pronta: quem dispara está dentro do fim de uma transação do engine.
+     */
+    public void aguardar(final EtapaValidacao etapa, final Long solicitacaoId,
+                         final CompletableFuture<ResultadoValidacao> resposta) {
+        resposta.whenCompleteAsync((resultado, erro) -> {
+            if (erro != null) {
+                registrarFalha(etapa, solicitacaoId, erro);
+            } else {
+                solicitacaoService.atualizarStatus(solicitacaoId, etapa.getStatus());
+                correlacionar(etapa, solicitacaoId, resultado, 1);
+            }
+        }, validacaoExecutor);
+    }
+
+    private void registrarFalha(final EtapaValidacao etapa, final Long solicitacaoId, final Throwable erro) {
+        log.error("Erro na validação {} para solicitação {}: {}", etapa.getDescricao(), solicitacaoId, erro.getMessage(), erro);
+        correlacionar(etapa, solicitacaoId, ResultadoValidacao.falha(etapa, erro.getMessage()), 1);
+    }
+
+    private void correlacionar(final EtapaValidacao etapa, final Long solicitacaoId, final ResultadoValidacao resultado,
+                               final int tentativa) {
+        try {
+            var correlacoes = runtimeService.createMessageCorrelation(etapa.getMensagemResultado())
+                    .processInstanceBusinessKey(solicitacaoId.toString())
+                    .setVariables(resultado.variaveisProcesso())
+                    .correlateAllWithResult();
+
+            if (correlacoes.isEmpty()) {
+                log.info("Solicitação {} não aguarda mais o resultado da validação {}", solicitacaoId, etapa.getDescricao());
+                return;
+            }
+            log.info("Resultado da validação {} correlacionado para solicitação {} - aprovado: {}",
+                    etapa.getDescricao(), solicitacaoId, resultado.aprovado());
+
+        } catch (RuntimeException e) {
+            if (tentativa >= MAX_TENTATIVAS) {
+                log.error("Não foi possível correlacionar a validação {} da solicitação {} após {} tentativas: {}",
+                        etapa.getDescricao(), solicitacaoId, tentativa, e.getMessage(), e);
+                abrirIncidente(etapa, solicitacaoId, e);
+                return;
+            }
+
+            var espera = ThreadLocalRandom.current().nextLong(ESPERA_BASE_MS, ESPERA_BASE_MS * (tentativa + 1));
+            log.debug("Conflito ao correlacionar validação {} da solicitação {} (tentativa {}), nova tentativa em {} ms: {}",
+                    etapa.getDescricao(), solicitacaoId, tentativa, espera, e.getMessage());
+            CompletableFuture.delayedExecutor(espera, TimeUnit.MILLISECONDS, validacaoExecutor)
+                    .execute(() -> correlacionar(etapa, solicitacaoId, resultado, tentativa + 1));
+        }
+    }
+
+    private void abrirIncidente(final EtapaValidacao etapa, final Long solicitacaoId, final RuntimeException erro) {
+        try {
+            final Execution aguardando = runtimeService.createExecutionQuery()
+                    .processInstanceBusinessKey(solicitacaoId.toString())
+                    .messageEventSubscriptionName(etapa.getMensagemResultado())
+                    .singleResult();
+            if (aguardando == null) {
+                log.info("Solicitação {} não aguarda mais o resultado da validação {}", solicitacaoId, etapa.getDescricao());
+                return;
+            }
+            runtimeService.createIncident(TIPO_INCIDENTE, aguardando.getId(), etapa.name(), erro.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Não foi possível abrir incidente para a validação {} da solicitação {}; o prazo {} do resultado rejeita a solicitação: {}",
+                    etapa.getDescricao(), solicitacaoId, prazoResultado, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.engine.impl.bpmn.behavior.ExternalTaskActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.behavior.TaskActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.core.variable.mapping.value.ConstantValueProvider;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+/**
+ * Troca o comportamento das service tasks de validação por external tasks no tópico da etapa,
+ * mantendo os mesmos BPMNs para os dois modos de execução. Como a própria external task já é o ponto
+ * de espera pelo resultado, as receive tasks "Aguardar Resultado" passam direto nesse modo.
+ */
+@Slf4j
+public class ValidacaoExternalTaskParseListener extends AbstractBpmnParseListener {
+
+    @Override
+    public void parseServiceTask(Element serviceTaskElement, ScopeImpl scope, ActivityImpl activity) {
+        var delegateExpression = serviceTaskElement.attributeNS(BpmnParse.CAMUNDA_BPMN_EXTENSIONS_NS, "delegateExpression");
+
+        EtapaValidacao.fromDelegateExpression(delegateExpression).ifPresent(etapa -> {
+            log.debug("Atividade {} convertida para external task no tópico {}", activity.getId(), etapa.getTopico());
+            activity.setActivityBehavior(new ExternalTaskActivityBehavior(new ConstantValueProvider(etapa.getTopico()), null));
+        });
+    }
+
+    @Override
+    public void parseReceiveTask(Element receiveTaskElement, ScopeImpl scope, ActivityImpl activity) {
+        EtapaValidacao.fromMensagemResultado(receiveTaskElement.attribute("messageRef"))
+                .ifPresent(etapa -> activity.setActivityBehavior(new TaskActivityBehavior()));
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.ExternalTaskClient;
+import org.camunda.bpm.client.exception.ExternalTaskClientException;
+import org.camunda.bpm.client.exception.NotFoundException;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker das validações no modo external-task.
+ *
+ * Um único fetch-and-lock com long polling busca até {@code max-tasks} tarefas de todos os tópicos de validação.
+ * Cada tarefa dispara o {@link ValidacaoProvider} da etapa e a conclusão (chamada REST) roda em um pool
+ * limitado; quando o pool enche, a thread que entregou o resultado conclui a tarefa ela mesma (CallerRunsPolicy).
+ *
+ * O pool não limita quantas tarefas estão travadas esperando resposta dos provedores: isso fica com o
+ * semáforo de {@code max-em-andamento}. O handler toma uma permissão antes de disparar a validação e a
+ * permissão só volta quando o complete ou o handleBpmnError termina, então com o limite atingido a thread
+ * de fetch fica parada no handler e não busca um novo lote. Conflitos ao concluir (ramos do processo
+ * paralelo chegando juntos ao join) são reenviados algumas vezes, ainda com a permissão, antes de deixar a
+ * tarefa para a expiração do lock.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aco.validacao.worker.habilitado", havingValue = "true")
+public class ValidacaoExternalTaskWorker {
+
+    private static final int MAX_TENTATIVAS_CONCLUSAO = 5;
+    private static final long ESPERA_BASE_MS = 100;
+
+    private final ValidacaoProviders providers;
+    private final SolicitacaoApplicationService solicitacaoService;
+    private final String urlEngine;
+    private final int maxTasks;
+    private final long longPollingMs;
+    private final long lockDurationMs;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore emAndamento;
+
+    private ExternalTaskClient client;
+
+    public ValidacaoExternalTaskWorker(final ValidacaoProviders providers,
+                                       final SolicitacaoApplicationService solicitacaoService,
+                                       @Value("${aco.validacao.worker.url-engine}") final String urlEngine,
+                                       @Value("${aco.validacao.worker.max-tasks:10}") final int maxTasks,
+                                       @Value("${aco.validacao.worker.long-polling-ms:30000}") final long longPollingMs,
+                                       @Value("${aco.validacao.worker.lock-duration-ms:120000}") final long lockDurationMs,
+                                       @Value("${aco.validacao.worker.threads:10}") final int threads,
+                                       @Value("${aco.validacao.worker.max-em-andamento:20}") final int maxEmAndamento) {
+        this.providers = providers;
+        this.solicitacaoService = solicitacaoService;
+        this.urlEngine = urlEngine;
+        this.maxTasks = maxTasks;
+        this.longPollingMs = longPollingMs;
+        this.lockDurationMs = lockDurationMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxTasks), new CustomizableThreadFactory("validacao-worker-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.emAndamento = new Semaphore(maxEmAndamento);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        client = ExternalTaskClient.create()
+                .baseUrl(urlEngine)
+                .workerId("aco-validacao-" + ProcessHandle.current().pid())
+                .maxTasks(maxTasks)
+                .asyncResponseTimeout(longPollingMs)
+                .lockDuration(lockDurationMs)
+                .usePriority(false)
+                .build();
+
+        Arrays.stream(EtapaValidacao.values()).forEach(etapa -> client.subscribe(etapa.getTopico())
+                .handler((tarefa, servico) -> processar(etapa, tarefa, servico))
+                .open());
+
+        log.info("Worker de validações iniciado em {} - tópicos: {}", urlEngine,
+                Arrays.stream(EtapaValidacao.values()).map(EtapaValidacao::getTopico).toList());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (client != null) {
+            client.stop();
+        }
+        executor.shutdown();
+    }
+
+    void processar(final EtapaValidacao etapa, final ExternalTask tarefa, final ExternalTaskService servico) {
+        var solicitacaoId = Long.parseLong(tarefa.getBusinessKey());
+        try {
+            emAndamento.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Worker encerrando; validação {} da solicitação {} volta para a fila ao expirar o lock",
+                    etapa.getDescricao(), solicitacaoId);
+            return;
+        }
+        log.info("Iniciando validação {} para solicitação: {}", etapa.getDescricao(), solicitacaoId);
+
+        CompletableFuture<ResultadoValidacao> resposta;
+        try {
+            resposta = providers.validar(etapa, solicitacaoId);
+        } catch (RuntimeException e) {
+            resposta = CompletableFuture.failedFuture(e);
+        }
+        resposta.whenCompleteAsync((resultado, erro) -> {
+            if (erro != null) {
+                reportarErro(etapa, solicitacaoId, erro, tarefa, servico);
+                return;
+            }
+            concluir(etapa, solicitacaoId, resultado, tarefa, servico);
+        }, executor);
+    }
+
+    /**
+     * O erro {@code ERRO_<ETAPA>} é capturado pelos eventos de erro sem código dos BPMNs e rejeita a solicitação.
+     */
+    private void reportarErro(final EtapaValidacao etapa, final Long solicitacaoId, final Throwable erro,
+                              final ExternalTask tarefa, final ExternalTaskService servico) {
+        log.error("Erro na validação {} para solicitação {}: {}", etapa.getDescricao(), solicitacaoId,
+                erro.getMessage(), erro);
+        try {
+            servico.handleBpmnError(tarefa, etapa.getCodigoErro(), erro.getMessage());
+        } catch (NotFoundException e) {
+            log.info("Validação {} da solicitação {} já foi cancelada pelo processo", etapa.getDescricao(), solicitacaoId);
+        } catch (ExternalTaskClientException e) {
+            log.warn("Falha ao reportar o erro da validação {} da solicitação {}; a tarefa volta para a fila ao expirar o lock: {}",
+                    etapa.getDescricao(), solicitacaoId, e.getMessage());
+        } finally {
+            emAndamento.release();
+        }
+    }
+
+    private void concluir(final EtapaValidacao etapa, final Long solicitacaoId, final ResultadoValidacao resultado,
+                          final ExternalTask tarefa, final ExternalTaskService servico) {
+        try {
+            solicitacaoService.atualizarStatus(solicitacaoId, etapa.getStatus());
+        } catch (RuntimeException e) {
+            emAndamento.release();
+            log.warn("Falha ao atualizar o status da validação {} da solicitação {}; a tarefa volta para a fila ao expirar o lock: {}",
+                    etapa.getDescricao(), solicitacaoId, e.getMessage());
+            return;
+        }
+        concluir(etapa, solicitacaoId, resultado, tarefa, servico, 1);
+    }
+
+    private void concluir(final EtapaValidacao etapa, final Long solicitacaoId, final ResultadoValidacao resultado,
+                          final ExternalTask tarefa, final ExternalTaskService servico, final int tentativa) {
+        var reenviada = false;
+        try {
+            servico.complete(tarefa, resultado.variaveisProcesso());
+
+        } catch (NotFoundException e) {
+            log.info("Validação {} da solicitação {} já foi cancelada pelo processo", etapa.getDescricao(), solicitacaoId);
+        } catch (ExternalTaskClientException e) {
+            if (tentativa >= MAX_TENTATIVAS_CONCLUSAO) {
+                log.warn("Falha ao reportar a validação {} da solicitação {}; a tarefa volta para a fila ao expirar o lock: {}",
+                        etapa.getDescricao(), solicitacaoId, e.getMessage());
+                return;
+            }
+
+            var espera = ThreadLocalRandom.current().nextLong(ESPERA_BASE_MS, ESPERA_BASE_MS * (tentativa + 1));
+            log.debug("Conflito ao reportar validação {} da solicitação {} (tentativa {}), nova tentativa em {} ms",
+                    etapa.getDescricao(), solicitacaoId, tentativa, espera);
+            CompletableFuture.delayedExecutor(espera, TimeUnit.MILLISECONDS, executor)
+                    .execute(() -> concluir(etapa, solicitacaoId, resultado, tarefa, servico, tentativa + 1));
+            reenviada = true;
+        } finally {
+            if (!reenviada) {
+                emAndamento.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SPI dos provedores externos de validação (Topaz, Antifraude, PIX, Serasa, Prova de Vida).
+ *
+ * A chamada não deve bloquear quem a dispara: o resultado chega pelo {@link CompletableFuture}
+ * e é devolvido ao processo por correlação de mensagem.
+ */
+public interface ValidacaoProvider {
+
+    EtapaValidacao getEtapa();
+
+    CompletableFuture<ResultadoValidacao> validar(Long solicitacaoId);
+}
@@ -0,0 +1,47 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import br.com.banco.aberturaconta.infra.metrics.MetricasProcesso;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class ValidacaoProviders {
+
+    private final Map<EtapaValidacao, ValidacaoProvider> providers = new EnumMap<>(EtapaValidacao.class);
+    private final MetricasProcesso metricas;
+
+    public ValidacaoProviders(final List<ValidacaoProvider> providers, final MetricasProcesso metricas) {
+        providers.forEach(provider -> this.providers.put(provider.getEtapa(), provider));
+        this.metricas = metricas;
+    }
+
+    /**
+     * Dispara a validação da etapa e mede o tempo até a resposta do provedor.
+     */
+    public CompletableFuture<ResultadoValidacao> validar(final EtapaValidacao etapa, final Long solicitacaoId) {
+        final long inicio = System.nanoTime();
+        return obter(etapa)
+                .validar(solicitacaoId)
+                .whenComplete((resultado, erro) -> metricas.registrarValidacao(etapa, resultadoMetrica(resultado, erro),
+                        System.nanoTime() - inicio));
+    }
+
+    public ValidacaoProvider obter(final EtapaValidacao etapa) {
+        var provider = providers.get(etapa);
+        if (provider == null) {
+            throw new IllegalStateException("Nenhum ValidacaoProvider registrado para a etapa " + etapa);
+        }
+        return provider;
+    }
+
+    private static String resultadoMetrica(final ResultadoValidacao resultado, final Throwable erro) {
+        if (erro != null) {
+            return MetricasProcesso.RESULTADO_ERRO_TECNICO;
+        }
+        return resultado.aprovado() ? MetricasProcesso.RESULTADO_APROVADO : MetricasProcesso.RESULTADO_REJEITADO;
+    }
+}
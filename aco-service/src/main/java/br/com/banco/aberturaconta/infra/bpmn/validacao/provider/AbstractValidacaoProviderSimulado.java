@@ -0,0 +1,38 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao.provider;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ValidacaoProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provedor local que simula a latência do serviço externo sem segurar thread: a avaliação é agendada
+ * com {@link CompletableFuture#delayedExecutor} e só ocupa uma thread do validacaoExecutor quando o prazo vence.
+ */
+@Slf4j
+public abstract class AbstractValidacaoProviderSimulado implements ValidacaoProvider {
+
+    @Value("${aco.validacao.latencia-simulada-ms:60000}")
+    private long latenciaSimuladaMs;
+
+    @Autowired
+    @Qualifier("validacaoExecutor")
+    private Executor validacaoExecutor;
+
+    protected abstract ResultadoValidacao avaliar(Long solicitacaoId);
+
+    @Override
+    public CompletableFuture<ResultadoValidacao> validar(final Long solicitacaoId) {
+        log.info("⏳ Processando validação {} para solicitação {} (aguarde {} ms)...",
+                getEtapa().getDescricao(), solicitacaoId, latenciaSimuladaMs);
+
+        return CompletableFuture.supplyAsync(() -> avaliar(solicitacaoId),
+                CompletableFuture.delayedExecutor(latenciaSimuladaMs, TimeUnit.MILLISECONDS, validacaoExecutor));
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao.provider;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ValidacaoAntifraudeProviderSimulado extends AbstractValidacaoProviderSimulado {
+
+    @Override
+    public EtapaValidacao getEtapa() {
+        return EtapaValidacao.ANTIFRAUDE;
+    }
+
+    @Override
+    protected ResultadoValidacao avaliar(final Long solicitacaoId) {
+        var aprovado = validarAntifraude(solicitacaoId);
+        var variaveis = Map.<String, Object>of(
+                "antifraudeAprovado", aprovado);
+
+        if (!aprovado) {
+            return ResultadoValidacao.rejeitado(variaveis, getEtapa(),
+                    "Validação Antifraude reprovada");
+        }
+        return ResultadoValidacao.aprovado(variaveis);
+    }
+
+    private boolean validarAntifraude(Long solicitacaoId) {
+        
+        return Math.random() > 0.15;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao.provider;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ValidacaoPixProviderSimulado extends AbstractValidacaoProviderSimulado {
+
+    @Override
+    public EtapaValidacao getEtapa() {
+        return EtapaValidacao.PIX;
+    }
+
+    @Override
+    protected ResultadoValidacao avaliar(final Long solicitacaoId) {
+        var aprovado = validarPix(solicitacaoId);
+        var variaveis = Map.<String, Object>of(
+                "pixAprovado", aprovado,
+                "quantidadeFraudesPix", aprovado ? 0 : 3);
+
+        if (!aprovado) {
+            return ResultadoValidacao.rejeitado(variaveis, getEtapa(),
+                    "Validação PIX reprovada - fraudes detectadas");
+        }
+        return ResultadoValidacao.aprovado(variaveis);
+    }
+
+    private boolean validarPix(Long solicitacaoId) {
+        
+        return Math.random() > 0.1;
+    }
+}
\ No newline at end of file
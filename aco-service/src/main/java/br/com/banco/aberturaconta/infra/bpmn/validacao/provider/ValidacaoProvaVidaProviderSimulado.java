@@ -0,0 +1,35 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao.provider;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ValidacaoProvaVidaProviderSimulado extends AbstractValidacaoProviderSimulado {
+
+    @Override
+    public EtapaValidacao getEtapa() {
+        return EtapaValidacao.PROVA_VIDA;
+    }
+
+    @Override
+    protected ResultadoValidacao avaliar(final Long solicitacaoId) {
+        var aprovado = validarProvaVida(solicitacaoId);
+        var variaveis = Map.<String, Object>of(
+                "provaVidaAprovado", aprovado,
+                "similaridadeBiometrica", aprovado ? 0.95 : 0.60);
+
+        if (!aprovado) {
+            return ResultadoValidacao.rejeitado(variaveis, getEtapa(),
+                    "Validação Prova de Vida reprovada - similaridade insuficiente");
+        }
+        return ResultadoValidacao.aprovado(variaveis);
+    }
+
+    private boolean validarProvaVida(Long solicitacaoId) {
+        
+        return Math.random() > 0.1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao.provider;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ValidacaoSerasaProviderSimulado extends AbstractValidacaoProviderSimulado {
+
+    @Override
+    public EtapaValidacao getEtapa() {
+        return EtapaValidacao.SERASA;
+    }
+
+    @Override
+    protected ResultadoValidacao avaliar(final Long solicitacaoId) {
+        var aprovado = validarSerasa(solicitacaoId);
+        var variaveis = Map.<String, Object>of(
+                "serasaAprovado", aprovado,
+                "scoreSerasa", aprovado ? 750 : 400);
+
+        if (!aprovado) {
+            return ResultadoValidacao.rejeitado(variaveis, getEtapa(),
+                    "Validação Serasa reprovada - score insuficiente");
+        }
+        return ResultadoValidacao.aprovado(variaveis);
+    }
+
+    private boolean validarSerasa(Long solicitacaoId) {
+        
+        return Math.random() > 0.25;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao.provider;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class ValidacaoTopazProviderSimulado extends AbstractValidacaoProviderSimulado {
+
+    @Override
+    public EtapaValidacao getEtapa() {
+        return EtapaValidacao.TOPAZ;
+    }
+
+    @Override
+    protected ResultadoValidacao avaliar(final Long solicitacaoId) {
+        var aprovado = validarTopaz(solicitacaoId);
+        var variaveis = Map.<String, Object>of(
+                "topazAprovado", aprovado,
+                "topazScore", aprovado ? 85 : 30);
+
+        if (!aprovado) {
+            return ResultadoValidacao.rejeitado(variaveis, getEtapa(),
+                    "Validação Topaz reprovada - problemas com dispositivo");
+        }
+        return ResultadoValidacao.aprovado(variaveis);
+    }
+
+    private boolean validarTopaz(Long solicitacaoId) {
+        
+        return Math.random() > 0.2;
+    }
+}
\ No newline at end of file
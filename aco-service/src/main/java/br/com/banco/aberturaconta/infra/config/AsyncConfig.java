@@ -1,24 +1,143 @@
 package br.com.banco.aberturaconta.infra.config;
 
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import org.camunda.bpm.spring.boot.starter.property.CamundaBpmProperties;
+import org.camunda.bpm.spring.boot.starter.property.JobExecutionProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * Executores da aplicação.
+ *
+ * Com {@code spring.threads.virtual.enabled=true} o Tomcat, o {@code @Async} e o job executor do Camunda
+ * passam a usar uma thread virtual por tarefa. O limite de concorrência substitui o tamanho do pool:
+ * ao atingi-lo a thread que submete espera, em vez de a tarefa ser rejeitada.
+ *
+ * Todos os executores levam o correlation ID de quem submete para a tarefa e devolvem a thread sem o ID
+ * no fim, inclusive o job executor do Camunda.
+ */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
+    private static final long TERMINO_JOBS_MS = 10_000;
+
     @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public Executor taskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("camunda-async-");
+        executor.setTaskDecorator(CorrelationIdUtil::propagar);
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor taskExecutorVirtual(@Value("${aco.threads-virtuais.concorrencia-async:200}") final int concorrencia) {
+        return executorVirtual("camunda-async-", concorrencia);
+    }
+
+    @Bean(name = "validacaoExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor validacaoExecutor(@Value("${aco.validacao.threads:4}") final int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("validacao-");
+        executor.setTaskDecorator(CorrelationIdUtil::propagar);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Sem limite: quem submete aqui é a thread única do {@code CompletableFuture.delayedExecutor},
+     * que não pode ficar bloqueada.
+     */
+    @Bean(name = "validacaoExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor validacaoExecutorVirtual() {
+        return executorVirtual("validacao-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+    }
+
+    /**
+     * Envio dos eventos SSE, uma tarefa por assinatura com fila pendente. Fila sem limite: quem submete é o
+     * listener pós-commit e o heartbeat, que não podem esperar um cliente lento.
+     */
+    @Bean(name = "sseExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor sseExecutor(@Value("${aco.sse.threads:8}") final int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("sse-");
+        executor.setTaskDecorator(CorrelationIdUtil::propagar);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "sseExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor sseExecutorVirtual() {
+        return executorVirtual("sse-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY);
+    }
+
+    /**
+     * Mesmo pool que o starter do Camunda cria a partir de {@code camunda.bpm.job-execution}, com o decorator
+     * de correlation ID: o listener das tarefas define o ID do processo na thread do job, e o decorator
+     * o tira no fim do job, antes de a thread pegar o job de outro processo.
+     */
+    @Bean(name = "camundaTaskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor camundaTaskExecutor(final CamundaBpmProperties properties) {
+        final JobExecutionProperty jobExecution = properties.getJobExecution();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobExecution.getCorePoolSize());
+        executor.setMaxPoolSize(jobExecution.getMaxPoolSize());
+        executor.setQueueCapacity(jobExecution.getQueueCapacity());
+        if (jobExecution.getKeepAliveSeconds() != null) {
+            executor.setKeepAliveSeconds(jobExecution.getKeepAliveSeconds());
+        }
+        executor.setThreadNamePrefix("camunda-job-");
+        executor.setTaskDecorator(CorrelationIdUtil::propagar);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Substitui o pool do job executor do Camunda. O limite deve ficar abaixo do pool do Hikari:
+     * cada job segura uma conexão do início ao fim. No desligamento, os jobs em andamento têm
+     * alguns segundos para terminar antes de o contexto fechar.
+     */
+    @Bean(name = "camundaTaskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor camundaTaskExecutorVirtual(@Value("${aco.threads-virtuais.concorrencia-jobs:50}") final int concorrencia) {
+        SimpleAsyncTaskExecutor executor = executorVirtual("camunda-job-", concorrencia);
+        executor.setTaskTerminationTimeout(TERMINO_JOBS_MS);
+        return executor;
+    }
+
+    private SimpleAsyncTaskExecutor executorVirtual(final String prefixo, final int concorrencia) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefixo);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concorrencia);
+        executor.setTaskDecorator(CorrelationIdUtil::propagar);
+        return executor;
+    }
+}
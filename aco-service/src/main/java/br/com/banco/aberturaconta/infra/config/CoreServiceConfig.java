@@ -1,8 +1,10 @@
 package br.com.banco.aberturaconta.infra.config;
 
+import br.com.banco.aberturaconta.core.index.IndiceCpfContaAtiva;
 import br.com.banco.aberturaconta.core.repository.SolicitacaoRepository;
 import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
 import br.com.banco.aberturaconta.core.service.SolicitacaoServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,7 +12,14 @@ import org.springframework.context.annotation.Configuration;
 public class CoreServiceConfig {
     
     @Bean
-    public ISolicitacaoService solicitacaoService(SolicitacaoRepository repository) {
-        return new SolicitacaoServiceImpl(repository);
+    public ISolicitacaoService solicitacaoService(SolicitacaoRepository repository, IndiceCpfContaAtiva indiceCpf) {
+        return new SolicitacaoServiceImpl(repository, indiceCpf);
+    }
+
+    @Bean
+    public IndiceCpfContaAtiva indiceCpfContaAtiva(
+            @Value("${aco.indice-cpf.capacidade-esperada:1000000}") final int capacidadeEsperada,
+            @Value("${aco.indice-cpf.taxa-falso-positivo:0.01}") final double taxaFalsoPositivo) {
+        return new IndiceCpfContaAtiva(capacidadeEsperada, taxaFalsoPositivo);
     }
 }
\ No newline at end of file
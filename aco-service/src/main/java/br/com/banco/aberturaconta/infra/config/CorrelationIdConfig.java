@@ -0,0 +1,15 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import br.com.banco.aberturaconta.infra.bpmn.correlacao.CorrelationIdProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CorrelationIdConfig {
+
+    @Bean
+    public ProcessEnginePlugin correlationIdProcessEnginePlugin() {
+        return new CorrelationIdProcessEnginePlugin();
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import br.com.banco.aberturaconta.infra.bpmn.historico.HistoricoCompactoEventHandler;
+import br.com.banco.aberturaconta.infra.bpmn.historico.HistoricoCompactoHistoryLevel;
+import br.com.banco.aberturaconta.infra.bpmn.historico.HistoricoCompactoProcessEnginePlugin;
+import br.com.banco.aberturaconta.infra.historico.HistoricoProcessoService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ativo com {@code camunda.bpm.history-level: compacto}; com full, audit, activity ou none o engine
+ * volta ao histórico padrão.
+ */
+@Configuration
+@ConditionalOnProperty(name = "camunda.bpm.history-level", havingValue = HistoricoCompactoHistoryLevel.NOME)
+public class HistoricoCompactoConfig {
+
+    @Bean
+    public ProcessEnginePlugin historicoCompactoProcessEnginePlugin(final HistoricoProcessoService historicoProcesso) {
+        return new HistoricoCompactoProcessEnginePlugin(new HistoricoCompactoEventHandler(historicoProcesso));
+    }
+}
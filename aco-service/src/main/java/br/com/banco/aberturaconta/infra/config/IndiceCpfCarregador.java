@@ -0,0 +1,35 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import br.com.banco.aberturaconta.core.index.IndiceCpfContaAtiva;
+import br.com.banco.aberturaconta.infra.repository.jpa.SolicitacaoJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Carrega o {@link IndiceCpfContaAtiva} na subida lendo os CPFs ativos em stream, sem materializar a tabela.
+ * Transições concorrentes com a carga entram no índice pelo próprio serviço.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndiceCpfCarregador {
+
+    private final SolicitacaoJpaRepository jpaRepository;
+    private final IndiceCpfContaAtiva indiceCpf;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void carregar() {
+        final long inicio = System.nanoTime();
+        try (var cpfs = jpaRepository.streamCpfsPorStatus(IndiceCpfContaAtiva.STATUS_CONTA_ATIVA)) {
+            cpfs.forEach(indiceCpf::adicionar);
+        }
+        indiceCpf.marcarCarregado();
+        log.info("Índice de CPFs com conta ativa carregado: {} CPFs em {} ms", indiceCpf.tamanho(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
@@ -16,6 +16,10 @@ public class KafkaCorrelationIdInterceptor implements ProducerInterceptor<String
     @Override
     public ProducerRecord<String, String> onSend(final ProducerRecord<String, String> record) {
         
+        if (record.headers().lastHeader(CORRELATION_ID_HEADER) != null) {
+            return record;
+        }
+        
         final String correlationId = CorrelationIdUtil.getCorrelationId();
 
         record.headers().add(CORRELATION_ID_HEADER, correlationId.getBytes());
@@ -0,0 +1,16 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import br.com.banco.aberturaconta.infra.metrics.MetricasProcessEnginePlugin;
+import br.com.banco.aberturaconta.infra.metrics.MetricasProcesso;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public ProcessEnginePlugin metricasProcessEnginePlugin(final MetricasProcesso metricas) {
+        return new MetricasProcessEnginePlugin(metricas);
+    }
+}
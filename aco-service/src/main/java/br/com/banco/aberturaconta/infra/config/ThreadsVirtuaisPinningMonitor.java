@@ -0,0 +1,101 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta threads virtuais presas à thread carregadora (pinning) pelo evento JFR {@code jdk.VirtualThreadPinned}.
+ *
+ * No Java 21 um bloco {@code synchronized} que bloqueia (engine do Camunda, driver JDBC) prende a carregadora
+ * durante toda a espera. Cada ocorrência acima do limite incrementa {@code aco.threads.virtuais.pinning},
+ * com o primeiro frame fora do JDK como tag; a pilha é logada em WARN só na primeira vez de cada local.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "aco.threads-virtuais.monitor-pinning.habilitado", havingValue = "true", matchIfMissing = true)
+public class ThreadsVirtuaisPinningMonitor {
+
+    private static final String EVENTO_PINNING = "jdk.VirtualThreadPinned";
+    private static final String METRICA_PINNING = "aco.threads.virtuais.pinning";
+    private static final String LOCAL_DESCONHECIDO = "desconhecido";
+
+    private final MeterRegistry meterRegistry;
+    private final long limiteMs;
+    private final int framesLog;
+    private final Set<String> locaisReportados = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public ThreadsVirtuaisPinningMonitor(final MeterRegistry meterRegistry,
+                                         @Value("${aco.threads-virtuais.monitor-pinning.limite-ms:20}") final long limiteMs,
+                                         @Value("${aco.threads-virtuais.monitor-pinning.frames-log:12}") final int framesLog) {
+        this.meterRegistry = meterRegistry;
+        this.limiteMs = limiteMs;
+        this.framesLog = framesLog;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        stream = new RecordingStream();
+        stream.enable(EVENTO_PINNING).withThreshold(Duration.ofMillis(limiteMs)).withStackTrace();
+        stream.onEvent(EVENTO_PINNING, this::registrar);
+        stream.startAsync();
+        log.info("Monitor de pinning de threads virtuais iniciado (limite {} ms)", limiteMs);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void registrar(final RecordedEvent evento) {
+        var frames = evento.getStackTrace() == null ? List.<RecordedFrame>of() : evento.getStackTrace().getFrames();
+        var local = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(this::descrever)
+                .filter(metodo -> !metodo.startsWith("java.") && !metodo.startsWith("jdk.") && !metodo.startsWith("sun."))
+                .findFirst()
+                .orElse(LOCAL_DESCONHECIDO);
+
+        meterRegistry.counter(METRICA_PINNING, "local", local).increment();
+
+        var thread = evento.getThread() == null ? LOCAL_DESCONHECIDO : evento.getThread().getJavaName();
+        if (locaisReportados.add(local)) {
+            log.warn("Thread virtual {} presa à carregadora por {} ms em {}:\n{}", thread,
+                    evento.getDuration().toMillis(), local, formatar(frames));
+        } else {
+            log.debug("Thread virtual {} presa à carregadora por {} ms em {}", thread,
+                    evento.getDuration().toMillis(), local);
+        }
+    }
+
+    private String formatar(final List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(framesLog)
+                .map(frame -> "\tat " + descrever(frame) + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String descrever(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
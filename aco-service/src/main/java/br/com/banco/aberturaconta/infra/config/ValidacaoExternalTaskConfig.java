@@ -0,0 +1,17 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ValidacaoExternalTaskPlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "aco.validacao.modo", havingValue = "external-task")
+public class ValidacaoExternalTaskConfig {
+
+    @Bean
+    public ProcessEnginePlugin validacaoExternalTaskPlugin() {
+        return new ValidacaoExternalTaskPlugin();
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.banco.aberturaconta.infra.dto;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Tempo que as solicitações passaram em um status até a transição seguinte")
+public record DuracaoEtapaDTO(
+        @Schema(description = "Status da etapa", example = "VALIDANDO_SERASA")
+        StatusSolicitacao status,
+
+        @Schema(description = "Quantidade de passagens pela etapa na janela", example = "1250")
+        long total,
+
+        @Schema(description = "Mediana da duração, em ms", example = "61850")
+        long p50Ms,
+
+        @Schema(description = "Percentil 90 da duração, em ms", example = "64210")
+        long p90Ms,
+
+        @Schema(description = "Percentil 99 da duração, em ms", example = "71003")
+        long p99Ms,
+
+        @Schema(description = "Maior duração, em ms", example = "95320")
+        long maximoMs
+) {
+}
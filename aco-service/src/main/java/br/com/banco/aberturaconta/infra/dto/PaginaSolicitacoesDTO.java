@@ -0,0 +1,15 @@
+package br.com.banco.aberturaconta.infra.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Página da listagem de solicitações, em ordem de criação")
+public record PaginaSolicitacoesDTO(
+        @Schema(description = "Solicitações da página")
+        List<RespostaSolicitacaoDTO> itens,
+
+        @Schema(description = "Cursor da próxima página; ausente na última", example = "MjAyNC0wMS0wMVQxMDowMHwx")
+        String proximoCursor
+) {
+}
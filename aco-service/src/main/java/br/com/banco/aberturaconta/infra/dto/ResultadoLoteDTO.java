@@ -0,0 +1,29 @@
+package br.com.banco.aberturaconta.infra.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de uma linha do lote de solicitações (uma linha NDJSON por linha recebida)")
+public record ResultadoLoteDTO(
+        @Schema(description = "Número da linha no corpo recebido, a partir de 1", example = "1")
+        long linha,
+
+        @Schema(description = "Status HTTP equivalente ao da criação individual (201, 400, 409 ou 500)", example = "201")
+        int status,
+
+        @Schema(description = "ID da solicitação criada", example = "1")
+        Long id,
+
+        @Schema(description = "CPF da linha", example = "12345678901")
+        String cpf,
+
+        @Schema(description = "Motivo da recusa da linha", example = "Já existe uma conta ativa para este CPF: 12345678901")
+        String erro
+) {
+    public static ResultadoLoteDTO criada(long linha, Long id, String cpf) {
+        return new ResultadoLoteDTO(linha, 201, id, cpf, null);
+    }
+
+    public static ResultadoLoteDTO recusada(long linha, int status, String cpf, String erro) {
+        return new ResultadoLoteDTO(linha, status, null, cpf, erro);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.banco.aberturaconta.infra.dto;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Linha da exportação de solicitações (NDJSON ou CSV)")
+public record SolicitacaoExportadaDTO(
+        @Schema(description = "ID da solicitação", example = "1")
+        Long id,
+
+        @Schema(description = "CPF do solicitante", example = "12345678901")
+        String cpf,
+
+        @Schema(description = "Nome do solicitante", example = "João Silva")
+        String nome,
+
+        @Schema(description = "E-mail do solicitante", example = "joao.silva@email.com")
+        String email,
+
+        @Schema(description = "Telefone do solicitante", example = "11987654321")
+        String telefone,
+
+        @Schema(description = "Canal de origem", example = "AMERICA")
+        String canal,
+
+        @Schema(description = "Status da solicitação", example = "CONTA_ABERTA")
+        StatusSolicitacao status,
+
+        @Schema(description = "Número da conta", example = "12345-6")
+        String numeroConta,
+
+        @Schema(description = "Motivo da rejeição", example = "SERASA - Pendências no Serasa que precisam ser regularizadas antes de abrir sua conta")
+        String motivoRejeicao,
+
+        @Schema(description = "Data de criação da solicitação")
+        LocalDateTime dataCriacao,
+
+        @Schema(description = "Data da última atualização")
+        LocalDateTime dataAtualizacao
+) {
+
+    /**
+     * Usado pela projeção da consulta: a coluna guarda só o código e o motivo exportado é o texto dele.
+     */
+    public SolicitacaoExportadaDTO(final Long id, final String cpf, final String nome, final String email,
+                                   final String telefone, final String canal, final StatusSolicitacao status,
+                                   final String numeroConta, final CodigoRejeicao codigoRejeicao,
+                                   final LocalDateTime dataCriacao, final LocalDateTime dataAtualizacao) {
+        this(id, cpf, nome, email, telefone, canal, status, numeroConta, CodigoRejeicao.motivoDe(codigoRejeicao),
+                dataCriacao, dataAtualizacao);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.banco.aberturaconta.infra.dto;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Evento SSE enviado a cada mudança de status da solicitação")
+public record StatusSolicitacaoEventoDTO(
+        @Schema(description = "ID da solicitação", example = "1")
+        Long id,
+
+        @Schema(description = "Status da solicitação", example = "VALIDANDO_SERASA")
+        StatusSolicitacao status,
+
+        @Schema(description = "Instante da mudança de status (ou da assinatura, para o status inicial)")
+        LocalDateTime instante,
+
+        @Schema(description = "true em CONTA_ABERTA e REJEITADA; o stream é encerrado em seguida", example = "false")
+        boolean fim
+) {
+}
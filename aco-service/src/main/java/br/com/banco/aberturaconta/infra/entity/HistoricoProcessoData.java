@@ -0,0 +1,55 @@
+package br.com.banco.aberturaconta.infra.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do histórico compacto do Camunda: início e fim do processo e das tarefas, sem variáveis.
+ * No fim do processo, {@code atividade} é o evento de fim alcançado, ou seja, o desfecho da solicitação.
+ * A duração não é gravada: o engine não a informa nos eventos de fim sem o registro de início, e ela sai
+ * da diferença entre as linhas de início e fim da mesma instância e atividade.
+ */
+@Entity
+@Table(name = "historico_processo", indexes = {
+        @Index(name = "idx_historico_processo_instancia", columnList = "processo_instancia_id"),
+        @Index(name = "idx_historico_processo_instante", columnList = "instante")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoProcessoData {
+
+    public enum Tipo {
+        INICIO_PROCESSO,
+        FIM_PROCESSO,
+        INICIO_ATIVIDADE,
+        FIM_ATIVIDADE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "historico_processo_seq")
+    @SequenceGenerator(name = "historico_processo_seq", sequenceName = "historico_processo_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "processo_instancia_id", nullable = false, length = 64)
+    private String processoInstanciaId;
+
+    @Column(name = "chave_negocio", length = 64)
+    private String chaveNegocio;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Tipo tipo;
+
+    @Column(length = 64)
+    private String atividade;
+
+    @Column(nullable = false)
+    private LocalDateTime instante;
+}
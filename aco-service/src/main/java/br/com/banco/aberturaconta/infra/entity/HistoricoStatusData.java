@@ -0,0 +1,44 @@
+package br.com.banco.aberturaconta.infra.entity;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha do histórico de status, só de inclusão. O status de origem e a duração de cada etapa saem da
+ * linha seguinte da mesma solicitação, então a linha guarda apenas o status de destino.
+ */
+@Entity
+@Table(name = "historico_status", indexes = {
+        @Index(name = "idx_historico_status_instante", columnList = "instante"),
+        @Index(name = "idx_historico_status_solicitacao", columnList = "solicitacao_id, instante")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoStatusData {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "historico_status_seq")
+    @SequenceGenerator(name = "historico_status_seq", sequenceName = "historico_status_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "solicitacao_id", nullable = false)
+    private Long solicitacaoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private StatusSolicitacao status;
+
+    @Column(nullable = false)
+    private LocalDateTime instante;
+
+    @Column(name = "no", nullable = false, length = 64)
+    private String no;
+}
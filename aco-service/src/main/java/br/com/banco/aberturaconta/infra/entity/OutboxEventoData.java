@@ -0,0 +1,69 @@
+package br.com.banco.aberturaconta.infra.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_evento", indexes = @Index(name = "idx_outbox_evento_pendentes", columnList = "situacao, tentativas, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventoData {
+
+    /**
+     * ERRO: esgotou as tentativas de publicação e saiu da fila do relay; fica na tabela para análise e reenvio manual.
+     */
+    public enum Situacao {
+        PENDENTE,
+        ERRO
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topico;
+
+    @Column(nullable = false)
+    private String chave;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "correlation_id")
+    private String correlationId;
+
+    @Column(nullable = false)
+    private int tentativas;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    @Builder.Default
+    private Situacao situacao = Situacao.PENDENTE;
+
+    /**
+     * Lote do relay que reservou o evento para publicação; a reserva vale até {@code reservadoAte} e, vencida,
+     * o evento pode ser reservado por outra instância.
+     */
+    @Column(length = 36)
+    private String reserva;
+
+    @Column(name = "reservado_ate")
+    private LocalDateTime reservadoAte;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @PrePersist
+    protected void onCreate() {
+        dataCriacao = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.banco.aberturaconta.infra.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "resposta_idempotente", indexes = @Index(name = "idx_resposta_idempotente_data", columnList = "data_criacao"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RespostaIdempotenteData implements Persistable<String> {
+
+    @Id
+    @Column(length = 100)
+    private String chave;
+
+    @Column(name = "hash_requisicao", nullable = false, length = 64)
+    private String hashRequisicao;
+
+    @Column(name = "status_http", nullable = false)
+    private int statusHttp;
+
+    @Lob
+    @Column(nullable = false)
+    private String corpo;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    /**
+     * A chave vem do cliente: sem isto o {@code save} faria merge e sobrescreveria a resposta de outra
+     * instância em vez de falhar na chave primária. Resposta nova só entra por INSERT.
+     */
+    @Transient
+    @Builder.Default
+    private boolean nova = true;
+
+    @PrePersist
+    protected void onCreate() {
+        if (dataCriacao == null) {
+            dataCriacao = LocalDateTime.now();
+        }
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void onPersistida() {
+        nova = false;
+    }
+
+    @Override
+    public String getId() {
+        return chave;
+    }
+
+    @Override
+    public boolean isNew() {
+        return nova;
+    }
+}
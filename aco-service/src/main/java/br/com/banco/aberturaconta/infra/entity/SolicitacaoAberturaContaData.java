@@ -1,5 +1,6 @@
 package br.com.banco.aberturaconta.infra.entity;
 
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -10,15 +11,24 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "solicitacao_abertura_conta")
+// índices da listagem paginada: cada combinação de filtro lê uma faixa já em ordem de (data_criacao, id)
+@Table(name = "solicitacao_abertura_conta", indexes = {
+        @Index(name = "idx_solicitacao_criacao", columnList = "data_criacao, id"),
+        @Index(name = "idx_solicitacao_status_criacao", columnList = "status, data_criacao, id"),
+        @Index(name = "idx_solicitacao_canal_criacao", columnList = "canal, data_criacao, id"),
+        @Index(name = "idx_solicitacao_status_canal_criacao", columnList = "status, canal, data_criacao, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class SolicitacaoAberturaContaData {
 
+    // sequência com alocação em blocos: com IDENTITY o Hibernate não agrupa os inserts em lote JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "solicitacao_abertura_conta_seq")
+    @SequenceGenerator(name = "solicitacao_abertura_conta_seq", sequenceName = "solicitacao_abertura_conta_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -49,8 +59,9 @@ public class SolicitacaoAberturaContaData {
     @Column(name = "numero_conta")
     private String numeroConta;
 
-    @Column(name = "motivo_rejeicao")
-    private String motivoRejeicao;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "codigo_rejeicao", length = 20)
+    private CodigoRejeicao codigoRejeicao;
 
     @PrePersist
     protected void onCreate() {
@@ -5,10 +5,12 @@ import java.util.Map;
 public class SolicitacaoCriadaEvent {
     
     private final Long solicitacaoId;
+    private final String canal;
     private final Map<String, Object> variaveis;
     
-    public SolicitacaoCriadaEvent(Long solicitacaoId, Map<String, Object> variaveis) {
+    public SolicitacaoCriadaEvent(Long solicitacaoId, String canal, Map<String, Object> variaveis) {
         this.solicitacaoId = solicitacaoId;
+        this.canal = canal;
         this.variaveis = variaveis;
     }
     
@@ -16,6 +18,10 @@ public class SolicitacaoCriadaEvent {
         return solicitacaoId;
     }
     
+    public String getCanal() {
+        return canal;
+    }
+    
     public Map<String, Object> getVariaveis() {
         return variaveis;
     }
@@ -0,0 +1,16 @@
+package br.com.banco.aberturaconta.infra.event;
+
+import java.util.List;
+
+public class SolicitacoesCriadasEmLoteEvent {
+    
+    private final List<SolicitacaoCriadaEvent> solicitacoes;
+    
+    public SolicitacoesCriadasEmLoteEvent(List<SolicitacaoCriadaEvent> solicitacoes) {
+        this.solicitacoes = solicitacoes;
+    }
+    
+    public List<SolicitacaoCriadaEvent> getSolicitacoes() {
+        return solicitacoes;
+    }
+}
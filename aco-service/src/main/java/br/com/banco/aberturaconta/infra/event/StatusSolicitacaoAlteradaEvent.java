@@ -0,0 +1,30 @@
+package br.com.banco.aberturaconta.infra.event;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+
+import java.time.LocalDateTime;
+
+public class StatusSolicitacaoAlteradaEvent {
+    
+    private final Long solicitacaoId;
+    private final StatusSolicitacao status;
+    private final LocalDateTime instante;
+    
+    public StatusSolicitacaoAlteradaEvent(Long solicitacaoId, StatusSolicitacao status, LocalDateTime instante) {
+        this.solicitacaoId = solicitacaoId;
+        this.status = status;
+        this.instante = instante;
+    }
+    
+    public Long getSolicitacaoId() {
+        return solicitacaoId;
+    }
+    
+    public StatusSolicitacao getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+}
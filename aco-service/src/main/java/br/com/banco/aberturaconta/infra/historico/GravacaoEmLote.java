@@ -0,0 +1,59 @@
+package br.com.banco.aberturaconta.infra.historico;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Fila em memória limitada com gravação periódica em lotes, compartilhada pelos históricos.
+ *
+ * Quem registra nunca espera: com a fila cheia a linha é descartada e contada em {@code <metrica>.descartados},
+ * assim como os lotes cuja gravação falha. O tamanho da fila fica em {@code <metrica>.pendentes}.
+ * O dono agenda {@link #gravarPendentes()} e o chama de novo no desligamento.
+ */
+@Slf4j
+class GravacaoEmLote<T> {
+
+    private final String descricao;
+    private final Consumer<List<T>> gravar;
+    private final BlockingQueue<T> pendentes;
+    private final Counter descartados;
+    private final int tamanhoLote;
+
+    GravacaoEmLote(final String metrica, final String descricao, final Consumer<List<T>> gravar,
+                   final MeterRegistry meterRegistry, final int capacidadeFila, final int tamanhoLote) {
+        this.descricao = descricao;
+        this.gravar = gravar;
+        this.pendentes = new LinkedBlockingQueue<>(capacidadeFila);
+        this.tamanhoLote = tamanhoLote;
+        this.descartados = Counter.builder(metrica + ".descartados")
+                .description("Linhas do " + descricao + " descartadas com a fila cheia")
+                .register(meterRegistry);
+        meterRegistry.gauge(metrica + ".pendentes", pendentes, BlockingQueue::size);
+    }
+
+    void registrar(final T linha) {
+        if (!pendentes.offer(linha)) {
+            descartados.increment();
+        }
+    }
+
+    void gravarPendentes() {
+        final List<T> lote = new ArrayList<>(tamanhoLote);
+        while (pendentes.drainTo(lote, tamanhoLote) > 0) {
+            try {
+                gravar.accept(lote);
+            } catch (RuntimeException e) {
+                log.error("Erro ao gravar {} linhas do {}, descartadas", lote.size(), descricao, e);
+                descartados.increment(lote.size());
+            }
+            lote.clear();
+        }
+    }
+}
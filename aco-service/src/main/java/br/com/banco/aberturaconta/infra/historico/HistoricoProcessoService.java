@@ -0,0 +1,46 @@
+package br.com.banco.aberturaconta.infra.historico;
+
+import br.com.banco.aberturaconta.infra.entity.HistoricoProcessoData;
+import br.com.banco.aberturaconta.infra.repository.jpa.HistoricoProcessoJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Destino do histórico compacto do Camunda (camunda.bpm.history-level: compacto).
+ *
+ * Recebe as linhas de transações do engine já confirmadas e as grava periodicamente com inserts em lote,
+ * com uma {@link GravacaoEmLote}, como o {@link HistoricoStatusService}: a transação do engine não paga a escrita
+ * do histórico. Com a fila cheia a linha é descartada e contada em {@code aco.historico.processo.descartados}.
+ */
+@Service
+public class HistoricoProcessoService {
+
+    private final GravacaoEmLote<HistoricoProcessoData> gravacao;
+
+    public HistoricoProcessoService(final HistoricoProcessoJpaRepository repository,
+                                    final MeterRegistry meterRegistry,
+                                    @Value("${aco.historico-processo.capacidade-fila:200000}") final int capacidadeFila,
+                                    @Value("${aco.historico-processo.tamanho-lote:1000}") final int tamanhoLote) {
+        this.gravacao = new GravacaoEmLote<>("aco.historico.processo", "histórico compacto do Camunda",
+                repository::saveAll, meterRegistry, capacidadeFila, tamanhoLote);
+    }
+
+    public void registrar(final List<HistoricoProcessoData> linhas) {
+        linhas.forEach(gravacao::registrar);
+    }
+
+    @Scheduled(fixedDelayString = "${aco.historico-processo.intervalo-ms:1000}")
+    public void gravarPendentes() {
+        gravacao.gravarPendentes();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        gravarPendentes();
+    }
+}
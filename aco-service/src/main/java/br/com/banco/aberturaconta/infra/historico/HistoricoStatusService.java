@@ -0,0 +1,93 @@
+package br.com.banco.aberturaconta.infra.historico;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.dto.DuracaoEtapaDTO;
+import br.com.banco.aberturaconta.infra.entity.HistoricoStatusData;
+import br.com.banco.aberturaconta.infra.event.SolicitacaoCriadaEvent;
+import br.com.banco.aberturaconta.infra.event.SolicitacoesCriadasEmLoteEvent;
+import br.com.banco.aberturaconta.infra.event.StatusSolicitacaoAlteradaEvent;
+import br.com.banco.aberturaconta.infra.repository.jpa.HistoricoStatusJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Histórico de status de cada solicitação, só de inclusão, para medir quanto tempo ela passou em cada etapa
+ * sem o histórico completo do Camunda.
+ *
+ * As transições confirmadas entram na fila de uma {@link GravacaoEmLote} e são gravadas periodicamente com
+ * inserts em lote, fora da transação do processo. Com a fila cheia a linha é descartada e contada em
+ * {@code aco.historico.status.descartados}: o histórico serve à medição e não pode segurar o processo.
+ */
+@Service
+public class HistoricoStatusService {
+
+    private final HistoricoStatusJpaRepository repository;
+    private final GravacaoEmLote<HistoricoStatusData> gravacao;
+    private final String no;
+
+    public HistoricoStatusService(final HistoricoStatusJpaRepository repository,
+                                  final MeterRegistry meterRegistry,
+                                  @Value("${aco.historico-status.capacidade-fila:100000}") final int capacidadeFila,
+                                  @Value("${aco.historico-status.tamanho-lote:500}") final int tamanhoLote,
+                                  @Value("${aco.historico-status.no:${HOSTNAME:local}}") final String no) {
+        this.repository = repository;
+        this.no = no;
+        this.gravacao = new GravacaoEmLote<>("aco.historico.status", "histórico de status",
+                repository::saveAll, meterRegistry, capacidadeFila, tamanhoLote);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = SolicitacaoCriadaEvent.class)
+    public void onSolicitacaoCriada(final SolicitacaoCriadaEvent event) {
+        registrar(event.getSolicitacaoId(), StatusSolicitacao.INICIADA, LocalDateTime.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = SolicitacoesCriadasEmLoteEvent.class)
+    public void onSolicitacoesCriadasEmLote(final SolicitacoesCriadasEmLoteEvent event) {
+        final LocalDateTime instante = LocalDateTime.now();
+        event.getSolicitacoes().forEach(solicitacao ->
+                registrar(solicitacao.getSolicitacaoId(), StatusSolicitacao.INICIADA, instante));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = StatusSolicitacaoAlteradaEvent.class)
+    public void onStatusAlterado(final StatusSolicitacaoAlteradaEvent event) {
+        registrar(event.getSolicitacaoId(), event.getStatus(), event.getInstante());
+    }
+
+    @Scheduled(fixedDelayString = "${aco.historico-status.intervalo-ms:1000}")
+    public void gravarPendentes() {
+        gravacao.gravarPendentes();
+    }
+
+    public List<DuracaoEtapaDTO> duracoesPorEtapa(final Canal canal, final LocalDateTime desde, final LocalDateTime ate) {
+        return repository.duracoesPorEtapa(canal == null ? null : canal.name(), desde, ate).stream()
+                .sorted(Comparator.comparing(HistoricoStatusJpaRepository.DuracaoEtapa::getStatus))
+                .map(etapa -> new DuracaoEtapaDTO(etapa.getStatus(), etapa.getTotal(),
+                        Math.round(etapa.getP50()), Math.round(etapa.getP90()), Math.round(etapa.getP99()),
+                        etapa.getMaximo()))
+                .toList();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        gravarPendentes();
+    }
+
+    private void registrar(final Long solicitacaoId, final StatusSolicitacao status, final LocalDateTime instante) {
+        gravacao.registrar(HistoricoStatusData.builder()
+                .solicitacaoId(solicitacaoId)
+                .status(status)
+                .instante(instante)
+                .no(no)
+                .build());
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.banco.aberturaconta.infra.kafka;
+
+import br.com.banco.aberturaconta.infra.entity.OutboxEventoData;
+import br.com.banco.aberturaconta.infra.repository.jpa.OutboxEventoJpaRepository;
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drena a tabela outbox_evento para o Kafka em lotes.
+ *
+ * Cada lote é reservado antes do envio: um UPDATE grava um identificador do lote e o prazo da reserva
+ * ({@code reserva-ms}) nas linhas pendentes sem reserva válida, e só as linhas que esse UPDATE pegou são
+ * publicadas. Assim várias instâncias drenam a tabela sem publicar o mesmo evento em paralelo; a reserva de
+ * uma instância que caiu no meio do lote vence e os eventos voltam para a fila.
+ *
+ * Todos os registros do lote são enviados de uma vez pelo {@link PipelineKafkaPublisher} (o producer agrupa
+ * por partição, com linger e compressão) e só então as confirmações são aguardadas. Os confirmados são apagados
+ * em um único DELETE; os que falharam ficam na tabela com {@code tentativas} incrementado e voltam em um ciclo
+ * seguinte, até {@code max-tentativas}, quando passam para {@link OutboxEventoData.Situacao#ERRO} e saem da fila.
+ * A entrega é at-least-once: um evento confirmado pelo broker cuja linha não chegou a ser apagada antes de a
+ * reserva vencer é publicado de novo, e o consumidor pode recebê-lo mais de uma vez.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aco.outbox.relay.habilitado", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventoJpaRepository outboxRepository;
+    private final PipelineKafkaPublisher kafkaPublisher;
+    private final int tamanhoLote;
+    private final long timeoutEnvioMs;
+    private final int maxTentativas;
+    private final long reservaMs;
+
+    public OutboxRelay(final OutboxEventoJpaRepository outboxRepository,
+                       final PipelineKafkaPublisher kafkaPublisher,
+                       @Value("${aco.outbox.relay.tamanho-lote:200}") final int tamanhoLote,
+                       @Value("${aco.outbox.relay.timeout-envio-ms:10000}") final long timeoutEnvioMs,
+                       @Value("${aco.outbox.relay.max-tentativas:20}") final int maxTentativas,
+                       @Value("${aco.outbox.relay.reserva-ms:60000}") final long reservaMs) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaPublisher = kafkaPublisher;
+        this.tamanhoLote = tamanhoLote;
+        this.timeoutEnvioMs = timeoutEnvioMs;
+        this.maxTentativas = maxTentativas;
+        this.reservaMs = reservaMs;
+    }
+
+    @Scheduled(fixedDelayString = "${aco.outbox.relay.intervalo-ms:500}")
+    public void publicarPendentes() {
+        List<OutboxEventoData> lote;
+        boolean loteCompleto;
+        do {
+            lote = reservarLote();
+            loteCompleto = !lote.isEmpty() && publicar(lote) && lote.size() == tamanhoLote;
+        } while (loteCompleto);
+    }
+
+    /**
+     * @return os eventos que esta instância conseguiu reservar; vazio se não há pendentes ou se outra instância
+     * reservou todos antes
+     */
+    List<OutboxEventoData> reservarLote() {
+        final var agora = LocalDateTime.now();
+        final List<Long> candidatos = outboxRepository.buscarPendentes(agora, Limit.of(tamanhoLote));
+        if (candidatos.isEmpty()) {
+            return List.of();
+        }
+        final String reserva = UUID.randomUUID().toString();
+        if (outboxRepository.reservar(candidatos, reserva, agora, agora.plus(reservaMs, ChronoUnit.MILLIS)) == 0) {
+            return List.of();
+        }
+        return outboxRepository.buscarReservados(reserva);
+    }
+
+    /**
+     * @return true se todos os eventos do lote foram confirmados pelo broker
+     */
+    boolean publicar(final List<OutboxEventoData> lote) {
+        final Map<Long, CompletableFuture<SendResult<String, String>>> envios = new LinkedHashMap<>();
+        for (OutboxEventoData evento : lote) {
+            final var envio = enviar(evento);
+            envios.put(evento.getId(), envio);
+            if (envio.isCompletedExceptionally()) {
+                // Falha síncrona (broker indisponível): o restante do lote esperaria o mesmo max.block.ms
+                break;
+            }
+        }
+
+        final List<Long> confirmados = new ArrayList<>();
+        final List<Long> falhas = new ArrayList<>();
+        final long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutEnvioMs);
+        envios.forEach((id, envio) -> {
+            try {
+                envio.get(Math.max(0, prazo - System.nanoTime()), TimeUnit.NANOSECONDS);
+                confirmados.add(id);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                falhas.add(id);
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Falha ao publicar evento {} do outbox: {}", id, e.getMessage());
+                falhas.add(id);
+            }
+        });
+
+        if (!confirmados.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(confirmados);
+        }
+        if (!falhas.isEmpty()) {
+            outboxRepository.incrementarTentativas(falhas);
+            final int comErro = outboxRepository.marcarComErro(falhas, maxTentativas);
+            if (comErro > 0) {
+                log.error("Outbox: {} eventos esgotaram {} tentativas de publicação e foram marcados com ERRO",
+                        comErro, maxTentativas);
+            }
+        }
+        if (envios.size() < lote.size()) {
+            outboxRepository.liberar(lote.stream().map(OutboxEventoData::getId).filter(id -> !envios.containsKey(id)).toList());
+        }
+
+        log.debug("Outbox: {} eventos publicados, {} com falha, {} não enviados", confirmados.size(), falhas.size(),
+                lote.size() - envios.size());
+        return confirmados.size() == lote.size();
+    }
+
+    private CompletableFuture<SendResult<String, String>> enviar(final OutboxEventoData evento) {
+        final var registro = new ProducerRecord<String, String>(evento.getTopico(), evento.getChave(), evento.getPayload());
+        if (evento.getCorrelationId() != null) {
+            registro.headers().add(CorrelationIdUtil.getCorrelationIdHeader(),
+                    evento.getCorrelationId().getBytes(StandardCharsets.UTF_8));
+        }
+        return kafkaPublisher.enviar(registro);
+    }
+}
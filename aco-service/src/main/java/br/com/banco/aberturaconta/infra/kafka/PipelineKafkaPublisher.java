@@ -0,0 +1,87 @@
+package br.com.banco.aberturaconta.infra.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Envio ao Kafka com janela limitada de registros em voo.
+ *
+ * Cada envio ocupa uma permissão até o broker confirmar (ou recusar). Com o broker lento a janela enche
+ * e quem chama espera até {@code espera-janela-ms} por uma vaga; passado o prazo o envio falha sem ir
+ * ao producer. A latência até a confirmação é registrada em {@code aco.kafka.envio} por tópico e resultado.
+ */
+@Slf4j
+@Component
+public class PipelineKafkaPublisher {
+
+    private static final String METRICA_ENVIO = "aco.kafka.envio";
+    private static final String METRICA_EM_VOO = "aco.kafka.envio.em.voo";
+    private static final String RESULTADO_SUCESSO = "sucesso";
+    private static final String RESULTADO_FALHA = "falha";
+    private static final String RESULTADO_JANELA_CHEIA = "janela_cheia";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore janela;
+    private final long esperaJanelaMs;
+
+    public PipelineKafkaPublisher(final KafkaTemplate<String, String> kafkaTemplate,
+                                  final MeterRegistry meterRegistry,
+                                  @Value("${aco.kafka.publicacao.max-em-voo:1000}") final int maxEmVoo,
+                                  @Value("${aco.kafka.publicacao.espera-janela-ms:5000}") final long esperaJanelaMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.janela = new Semaphore(maxEmVoo);
+        this.esperaJanelaMs = esperaJanelaMs;
+        meterRegistry.gauge(METRICA_EM_VOO, janela, permissoes -> maxEmVoo - permissoes.availablePermits());
+    }
+
+    public CompletableFuture<SendResult<String, String>> enviar(final ProducerRecord<String, String> registro) {
+        try {
+            if (!janela.tryAcquire(esperaJanelaMs, TimeUnit.MILLISECONDS)) {
+                registrar(registro.topic(), RESULTADO_JANELA_CHEIA, 0);
+                return CompletableFuture.failedFuture(new KafkaException(
+                        "Janela de envio cheia há " + esperaJanelaMs + " ms para o tópico " + registro.topic()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final long inicio = System.nanoTime();
+        CompletableFuture<SendResult<String, String>> envio;
+        try {
+            envio = kafkaTemplate.send(registro);
+        } catch (RuntimeException e) {
+            envio = CompletableFuture.failedFuture(e);
+        }
+
+        return envio.whenComplete((resultado, erro) -> {
+            janela.release();
+            registrar(registro.topic(), erro == null ? RESULTADO_SUCESSO : RESULTADO_FALHA, System.nanoTime() - inicio);
+            if (erro != null) {
+                log.debug("Envio ao tópico {} falhou: {}", registro.topic(), erro.getMessage());
+            }
+        });
+    }
+
+    private void registrar(final String topico, final String resultado, final long duracaoNanos) {
+        Timer.builder(METRICA_ENVIO)
+                .description("Tempo até a confirmação do broker")
+                .tag("topico", topico)
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .record(duracaoNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.banco.aberturaconta.infra.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.delegate.BpmnError;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.impl.bpmn.delegate.JavaDelegateInvocation;
+import org.camunda.bpm.engine.impl.delegate.DefaultDelegateInterceptor;
+import org.camunda.bpm.engine.impl.delegate.DelegateInvocation;
+
+/**
+ * Mede cada chamada de {@code JavaDelegate} feita pela engine, por atividade do BPMN.
+ *
+ * Terminar normalmente conta como aprovado, {@link BpmnError} como rejeitado e qualquer outra exceção
+ * como erro técnico. Listeners e demais invocações passam sem medição.
+ */
+@RequiredArgsConstructor
+public class MetricasDelegateInterceptor extends DefaultDelegateInterceptor {
+
+    private final MetricasProcesso metricas;
+
+    @Override
+    public void handleInvocation(final DelegateInvocation invocation) throws Exception {
+        if (!(invocation instanceof JavaDelegateInvocation)
+                || !(invocation.getContextExecution() instanceof DelegateExecution execution)) {
+            super.handleInvocation(invocation);
+            return;
+        }
+
+        final String atividade = execution.getCurrentActivityId();
+        final long inicio = System.nanoTime();
+        String resultado = MetricasProcesso.RESULTADO_ERRO_TECNICO;
+        try {
+            super.handleInvocation(invocation);
+            resultado = MetricasProcesso.RESULTADO_APROVADO;
+        } catch (BpmnError e) {
+            resultado = MetricasProcesso.RESULTADO_REJEITADO;
+            throw e;
+        } finally {
+            metricas.registrarDelegate(atividade, resultado, System.nanoTime() - inicio);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.banco.aberturaconta.infra.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+
+@RequiredArgsConstructor
+public class MetricasProcessEnginePlugin extends AbstractProcessEnginePlugin {
+
+    private final MetricasProcesso metricas;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setDelegateInterceptor(new MetricasDelegateInterceptor(metricas));
+    }
+}
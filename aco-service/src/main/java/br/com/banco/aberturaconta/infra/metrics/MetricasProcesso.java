@@ -0,0 +1,65 @@
+package br.com.banco.aberturaconta.infra.metrics;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers do processo de abertura de conta. Os nomes começam com {@code aco.} para herdar o histograma
+ * de percentis configurado em {@code management.metrics.distribution.percentiles-histogram.aco}.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricasProcesso {
+
+    public static final String RESULTADO_APROVADO = "aprovado";
+    public static final String RESULTADO_REJEITADO = "rejeitado";
+    public static final String RESULTADO_ERRO_TECNICO = "erro_tecnico";
+
+    private static final String METRICA_DELEGATE = "aco.processo.delegate";
+    private static final String METRICA_VALIDACAO = "aco.processo.validacao";
+    private static final String METRICA_DURACAO = "aco.solicitacao.duracao";
+
+    private final MeterRegistry meterRegistry;
+
+    public void registrarDelegate(final String atividade, final String resultado, final long duracaoNanos) {
+        Timer.builder(METRICA_DELEGATE)
+                .description("Execução síncrona de cada JavaDelegate do processo")
+                .tag("atividade", atividade)
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .record(duracaoNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registrarValidacao(final EtapaValidacao etapa, final String resultado, final long duracaoNanos) {
+        Timer.builder(METRICA_VALIDACAO)
+                .description("Tempo do disparo da validação até a resposta do provedor")
+                .tag("etapa", etapa.name())
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .record(duracaoNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Tempo total da solicitação, de {@code dataCriacao} até o status final (CONTA_ABERTA ou REJEITADA).
+     */
+    public void registrarConclusao(final SolicitacaoAberturaConta solicitacao) {
+        if (solicitacao.getDataCriacao() == null) {
+            return;
+        }
+        Timer.builder(METRICA_DURACAO)
+                .description("Tempo da criação da solicitação até o status final")
+                .tag("canal", Canal.fromString(solicitacao.getCanal()).name())
+                .tag("status", solicitacao.getStatus().name())
+                .register(meterRegistry)
+                .record(Duration.between(solicitacao.getDataCriacao(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.banco.aberturaconta.infra.metrics;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.repository.jpa.SolicitacaoJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Quantidade de solicitações em cada {@link StatusSolicitacao}, por {@link Canal}.
+ *
+ * A contagem vem de um GROUP BY periódico em vez de contadores incrementados a cada transição,
+ * que divergiriam do banco a cada rollback ou reinício. Os status em andamento são contados a cada
+ * {@code intervalo-ms} pela faixa deles no índice de status; REJEITADA e CONTA_ABERTA, que só crescem,
+ * são reconciliados no intervalo bem maior {@code intervalo-finais-ms}. Todas as combinações são
+ * publicadas, com zero quando não há solicitações, para o gráfico não ter buracos.
+ */
+@Component
+public class SolicitacoesPorStatusGauge {
+
+    private static final String METRICA_SOLICITACOES = "aco.solicitacoes";
+    private static final Set<StatusSolicitacao> EM_ANDAMENTO = EnumSet.noneOf(StatusSolicitacao.class);
+    private static final Set<StatusSolicitacao> FINAIS = EnumSet.noneOf(StatusSolicitacao.class);
+
+    static {
+        for (StatusSolicitacao status : StatusSolicitacao.values()) {
+            (status.isFinal() ? FINAIS : EM_ANDAMENTO).add(status);
+        }
+    }
+
+    private final SolicitacaoJpaRepository jpaRepository;
+    private final MultiGauge gauge;
+    private final Map<StatusSolicitacao, long[]> contagens = new ConcurrentHashMap<>();
+
+    public SolicitacoesPorStatusGauge(final SolicitacaoJpaRepository jpaRepository, final MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.gauge = MultiGauge.builder(METRICA_SOLICITACOES)
+                .description("Solicitações por status e canal")
+                .register(meterRegistry);
+        for (StatusSolicitacao status : StatusSolicitacao.values()) {
+            contagens.put(status, new long[Canal.values().length]);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${aco.metricas.solicitacoes.intervalo-ms:5000}")
+    public void atualizar() {
+        contar(EM_ANDAMENTO);
+    }
+
+    @Scheduled(fixedDelayString = "${aco.metricas.solicitacoes.intervalo-finais-ms:600000}")
+    public void atualizarFinais() {
+        contar(FINAIS);
+    }
+
+    private void contar(final Set<StatusSolicitacao> status) {
+        final Map<StatusSolicitacao, long[]> lidas = new EnumMap<>(StatusSolicitacao.class);
+        status.forEach(cada -> lidas.put(cada, new long[Canal.values().length]));
+        for (var contagem : jpaRepository.contarPorStatusECanal(status)) {
+            lidas.get(contagem.getStatus())[Canal.fromString(contagem.getCanal()).ordinal()] += contagem.getTotal();
+        }
+        contagens.putAll(lidas);
+        publicar();
+    }
+
+    private void publicar() {
+        final List<MultiGauge.Row<?>> linhas = new ArrayList<>();
+        for (StatusSolicitacao status : StatusSolicitacao.values()) {
+            final long[] porCanal = contagens.get(status);
+            for (Canal canal : Canal.values()) {
+                linhas.add(MultiGauge.Row.of(Tags.of("status", status.name(), "canal", canal.name()),
+                        porCanal[canal.ordinal()]));
+            }
+        }
+        gauge.register(linhas, true);
+    }
+}
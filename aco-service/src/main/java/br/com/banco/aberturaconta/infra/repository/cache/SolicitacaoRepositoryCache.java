@@ -0,0 +1,200 @@
+package br.com.banco.aberturaconta.infra.repository.cache;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
+import br.com.banco.aberturaconta.core.repository.SolicitacaoRepository;
+import br.com.banco.aberturaconta.infra.repository.impl.SolicitacaoRepositoryImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache read-through de {@link SolicitacaoRepositoryImpl} para {@code findById} e {@code findByCpf}.
+ *
+ * As solicitações ficam em um cache Caffeine limitado por tamanho e TTL, chaveado por id; o CPF aponta
+ * para o id em um segundo cache com o mesmo TTL. Cada leitura devolve uma cópia, para que um delegate que
+ * altera o modelo em memória não altere o que está no cache.
+ *
+ * Toda escrita ({@code save}, {@code saveAll}, {@code transitar}, {@code transitarEmLote}) remove o id
+ * na hora e de novo ao fim da transação, e cada remoção anota o id com uma nova geração. Uma leitura que
+ * foi ao banco antes da última remoção do id (feita antes do commit, ou dentro de uma transação que depois
+ * é desfeita) não fica no cache: depois de guardar, ela confere a geração e desfaz o próprio put. Cada
+ * instância invalida só as escritas que ela executa; para as demais, o TTL limita quanto tempo um status
+ * antigo pode ser servido.
+ *
+ * Métricas de acerto, falta e despejo em {@code cache.gets}, {@code cache.evictions} e {@code cache.size}
+ * com a tag {@code cache=solicitacoes}.
+ */
+@Primary
+@Repository
+public class SolicitacaoRepositoryCache implements SolicitacaoRepository {
+
+    private final SolicitacaoRepositoryImpl delegate;
+    private final Cache<Long, SolicitacaoAberturaConta> porId;
+    private final Cache<String, Long> idPorCpf;
+    private final Cache<Long, Long> invalidacoes;
+    private final AtomicLong geracao = new AtomicLong();
+
+    public SolicitacaoRepositoryCache(final SolicitacaoRepositoryImpl delegate,
+                                      final MeterRegistry meterRegistry,
+                                      @Value("${aco.cache.solicitacoes.tamanho:100000}") final long tamanho,
+                                      @Value("${aco.cache.solicitacoes.ttl-ms:60000}") final long ttlMs) {
+        this.delegate = delegate;
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanho)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        this.idPorCpf = Caffeine.newBuilder()
+                .maximumSize(tamanho)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        this.invalidacoes = Caffeine.newBuilder()
+                .maximumSize(tamanho)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, porId, "solicitacoes");
+        CaffeineCacheMetrics.monitor(meterRegistry, idPorCpf, "solicitacoes-cpf");
+    }
+
+    @Override
+    public Optional<SolicitacaoAberturaConta> findById(final Long id) {
+        final SolicitacaoAberturaConta emCache = porId.getIfPresent(id);
+        if (emCache != null) {
+            return Optional.of(copiar(emCache));
+        }
+        final long lidaEm = geracao.get();
+        return delegate.findById(id).map(solicitacao -> guardar(solicitacao, lidaEm));
+    }
+
+    @Override
+    public Optional<SolicitacaoAberturaConta> findByCpf(final String cpf) {
+        final Long id = idPorCpf.getIfPresent(cpf);
+        if (id != null) {
+            final Optional<SolicitacaoAberturaConta> solicitacao = findById(id);
+            if (solicitacao.isPresent() && cpf.equals(solicitacao.get().getCpf())) {
+                return solicitacao;
+            }
+            idPorCpf.invalidate(cpf);
+        }
+        final long lidaEm = geracao.get();
+        return delegate.findByCpf(cpf).map(solicitacao -> guardar(solicitacao, lidaEm));
+    }
+
+    @Override
+    public boolean existsByCpfAndStatusIn(final String cpf, final List<StatusSolicitacao> status) {
+        return delegate.existsByCpfAndStatusIn(cpf, status);
+    }
+
+    @Override
+    public SolicitacaoAberturaConta save(final SolicitacaoAberturaConta solicitacao) {
+        final SolicitacaoAberturaConta salva = delegate.save(solicitacao);
+        invalidar(List.of(salva.getId()));
+        return salva;
+    }
+
+    @Override
+    public List<SolicitacaoAberturaConta> saveAll(final List<SolicitacaoAberturaConta> solicitacoes) {
+        final List<SolicitacaoAberturaConta> salvas = delegate.saveAll(solicitacoes);
+        invalidar(salvas.stream().map(SolicitacaoAberturaConta::getId).toList());
+        return salvas;
+    }
+
+    @Override
+    public Map<String, StatusSolicitacao> findStatusByCpfIn(final Collection<String> cpfs) {
+        return delegate.findStatusByCpfIn(cpfs);
+    }
+
+    @Override
+    public Map<Long, String> findCpfByIdIn(final Collection<Long> ids) {
+        return delegate.findCpfByIdIn(ids);
+    }
+
+    @Override
+    public boolean transitar(final TransicaoStatus transicao) {
+        final boolean aplicada = delegate.transitar(transicao);
+        if (aplicada) {
+            invalidar(List.of(transicao.solicitacaoId()));
+        }
+        return aplicada;
+    }
+
+    @Override
+    public boolean[] transitarEmLote(final List<TransicaoStatus> transicoes) {
+        final boolean[] aplicadas = delegate.transitarEmLote(transicoes);
+        invalidar(transicoes.stream().map(TransicaoStatus::solicitacaoId).toList());
+        return aplicadas;
+    }
+
+    @Override
+    public List<ResumoSolicitacao> listar(final ConsultaSolicitacoes consulta) {
+        return delegate.listar(consulta);
+    }
+
+    /**
+     * O put vem antes da conferência da geração, e a remoção anota a geração antes de tirar o id do cache:
+     * se a remoção acontece durante a leitura, ou a conferência enxerga a nova geração, ou a remoção tira
+     * do cache o que acabou de ser guardado.
+     */
+    private SolicitacaoAberturaConta guardar(final SolicitacaoAberturaConta solicitacao, final long lidaEm) {
+        final SolicitacaoAberturaConta copia = copiar(solicitacao);
+        porId.put(solicitacao.getId(), copia);
+        final Long invalidadaEm = invalidacoes.getIfPresent(solicitacao.getId());
+        if (invalidadaEm != null && invalidadaEm > lidaEm) {
+            porId.asMap().remove(solicitacao.getId(), copia);
+        }
+        idPorCpf.put(solicitacao.getCpf(), solicitacao.getId());
+        return solicitacao;
+    }
+
+    private void invalidar(final List<Long> ids) {
+        remover(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    remover(ids);
+                }
+            });
+        }
+    }
+
+    private void remover(final List<Long> ids) {
+        final long atual = geracao.incrementAndGet();
+        ids.forEach(id -> invalidacoes.put(id, atual));
+        porId.invalidateAll(ids);
+    }
+
+    private static SolicitacaoAberturaConta copiar(final SolicitacaoAberturaConta solicitacao) {
+        return SolicitacaoAberturaConta.builder()
+                .id(solicitacao.getId())
+                .cpf(solicitacao.getCpf())
+                .nome(solicitacao.getNome())
+                .email(solicitacao.getEmail())
+                .telefone(solicitacao.getTelefone())
+                .canal(solicitacao.getCanal())
+                .status(solicitacao.getStatus())
+                .dataCriacao(solicitacao.getDataCriacao())
+                .dataAtualizacao(solicitacao.getDataAtualizacao())
+                .numeroConta(solicitacao.getNumeroConta())
+                .codigoRejeicao(solicitacao.getCodigoRejeicao())
+                .build();
+    }
+}
@@ -1,22 +1,46 @@
 package br.com.banco.aberturaconta.infra.repository.impl;
 
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.core.repository.SolicitacaoRepository;
 import br.com.banco.aberturaconta.infra.entity.SolicitacaoAberturaContaData;
 import br.com.banco.aberturaconta.infra.mapper.SolicitacaoAberturaContaMapper;
 import br.com.banco.aberturaconta.infra.repository.jpa.SolicitacaoJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class SolicitacaoRepositoryImpl implements SolicitacaoRepository {
 
+    private static final String SQL_TRANSICAO = "UPDATE solicitacao_abertura_conta SET status = ?, "
+            + "numero_conta = COALESCE(?, numero_conta), codigo_rejeicao = COALESCE(?, codigo_rejeicao), "
+            + "data_atualizacao = ? WHERE id = ? AND status IN (%s)";
+
+    private static final String JPQL_LISTAGEM = "select new " + ResumoSolicitacao.class.getName()
+            + "(s.id, s.cpf, s.nome, s.canal, s.status, s.numeroConta, s.codigoRejeicao, s.dataCriacao, "
+            + "s.dataAtualizacao) from SolicitacaoAberturaContaData s";
+
     private final SolicitacaoJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
     private final SolicitacaoAberturaContaMapper mapper = SolicitacaoAberturaContaMapper.INSTANCE;
     
     @Override
@@ -42,4 +66,110 @@ public class SolicitacaoRepositoryImpl implements SolicitacaoRepository {
         SolicitacaoAberturaContaData saved = jpaRepository.save(data); 
         return mapper.toModel(saved);                 
     }
+    
+    @Override
+    public List<SolicitacaoAberturaConta> saveAll(List<SolicitacaoAberturaConta> solicitacoes) {
+        List<SolicitacaoAberturaContaData> dados = solicitacoes.stream().map(mapper::toData).toList();
+        return jpaRepository.saveAll(dados).stream()
+                .map(mapper::toModel)
+                .toList();
+    }
+    
+    @Override
+    public Map<String, StatusSolicitacao> findStatusByCpfIn(Collection<String> cpfs) {
+        return jpaRepository.findStatusPorCpfIn(cpfs).stream()
+                .collect(Collectors.toMap(SolicitacaoJpaRepository.StatusPorCpf::getCpf,
+                        SolicitacaoJpaRepository.StatusPorCpf::getStatus));
+    }
+    
+    @Override
+    public Map<Long, String> findCpfByIdIn(Collection<Long> ids) {
+        return jpaRepository.findCpfPorIdIn(ids).stream()
+                .collect(Collectors.toMap(SolicitacaoJpaRepository.CpfPorId::getId,
+                        SolicitacaoJpaRepository.CpfPorId::getCpf));
+    }
+    
+    @Override
+    public boolean transitar(TransicaoStatus transicao) {
+        if (transicao.codigoRejeicao() != null) {
+            return jpaRepository.transitarComRejeicao(transicao.solicitacaoId(),
+                    transicao.novoStatus().getOrigensPermitidas(), transicao.novoStatus(), transicao.codigoRejeicao(),
+                    LocalDateTime.now()) > 0;
+        }
+        return jpaRepository.transitar(transicao.solicitacaoId(), transicao.novoStatus().getOrigensPermitidas(),
+                transicao.novoStatus(), transicao.numeroConta(), LocalDateTime.now()) > 0;
+    }
+    
+    @Override
+    public boolean[] transitarEmLote(List<TransicaoStatus> transicoes) {
+        // o UPDATE em JDBC não passa pelo contexto de persistência: alterações pendentes vão antes
+        jpaRepository.flush();
+        
+        Map<StatusSolicitacao, List<Integer>> posicoesPorDestino = new EnumMap<>(StatusSolicitacao.class);
+        for (int i = 0; i < transicoes.size(); i++) {
+            posicoesPorDestino.computeIfAbsent(transicoes.get(i).novoStatus(), status -> new ArrayList<>()).add(i);
+        }
+        
+        boolean[] aplicadas = new boolean[transicoes.size()];
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        posicoesPorDestino.forEach((destino, posicoes) -> {
+            String origens = destino.getOrigensPermitidas().stream()
+                    .map(status -> "'" + status.name() + "'")
+                    .collect(Collectors.joining(", "));
+            int[][] linhas = jdbcTemplate.batchUpdate(SQL_TRANSICAO.formatted(origens), posicoes, posicoes.size(),
+                    (ps, posicao) -> {
+                        TransicaoStatus transicao = transicoes.get(posicao);
+                        ps.setString(1, destino.name());
+                        ps.setString(2, transicao.numeroConta());
+                        ps.setString(3, transicao.codigoRejeicao() == null ? null : transicao.codigoRejeicao().name());
+                        ps.setTimestamp(4, agora);
+                        ps.setLong(5, transicao.solicitacaoId());
+                    });
+            for (int i = 0; i < posicoes.size(); i++) {
+                int linhasAlteradas = linhas[0][i];
+                aplicadas[posicoes.get(i)] = linhasAlteradas > 0 || linhasAlteradas == Statement.SUCCESS_NO_INFO;
+            }
+        });
+        return aplicadas;
+    }
+    
+    @Override
+    public List<ResumoSolicitacao> listar(ConsultaSolicitacoes consulta) {
+        // só os filtros informados entram no WHERE: "(:status is null or ...)" impediria o uso dos índices
+        List<String> condicoes = new ArrayList<>();
+        if (consulta.status() != null) {
+            condicoes.add("s.status = :status");
+        }
+        if (consulta.canal() != null) {
+            condicoes.add("s.canal = :canal");
+        }
+        if (consulta.desde() != null) {
+            condicoes.add("s.dataCriacao >= :desde");
+        }
+        if (consulta.temCursor()) {
+            // (dataCriacao, id) > cursor, com o ">=" isolado para limitar a faixa lida do índice
+            condicoes.add("s.dataCriacao >= :aposDataCriacao "
+                    + "and (s.dataCriacao > :aposDataCriacao or s.id > :aposId)");
+        }
+        
+        String jpql = JPQL_LISTAGEM
+                + (condicoes.isEmpty() ? "" : " where " + String.join(" and ", condicoes))
+                + " order by s.dataCriacao, s.id";
+        TypedQuery<ResumoSolicitacao> query = entityManager.createQuery(jpql, ResumoSolicitacao.class)
+                .setMaxResults(consulta.limite());
+        if (consulta.status() != null) {
+            query.setParameter("status", consulta.status());
+        }
+        if (consulta.canal() != null) {
+            query.setParameter("canal", consulta.canal());
+        }
+        if (consulta.desde() != null) {
+            query.setParameter("desde", consulta.desde());
+        }
+        if (consulta.temCursor()) {
+            query.setParameter("aposDataCriacao", consulta.aposDataCriacao());
+            query.setParameter("aposId", consulta.aposId());
+        }
+        return query.getResultList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package br.com.banco.aberturaconta.infra.repository.jpa;
+
+import br.com.banco.aberturaconta.infra.entity.HistoricoProcessoData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HistoricoProcessoJpaRepository extends JpaRepository<HistoricoProcessoData, Long> {
+
+    long countByTipo(HistoricoProcessoData.Tipo tipo);
+}
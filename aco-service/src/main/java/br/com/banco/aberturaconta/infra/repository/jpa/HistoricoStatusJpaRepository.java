@@ -0,0 +1,57 @@
+package br.com.banco.aberturaconta.infra.repository.jpa;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.entity.HistoricoStatusData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HistoricoStatusJpaRepository extends JpaRepository<HistoricoStatusData, Long> {
+
+    /**
+     * Duração de cada etapa = instante da linha seguinte da mesma solicitação menos o da própria linha.
+     * A linha seguinte pode cair depois de {@code ate}; etapas ainda sem linha seguinte ficam de fora.
+     */
+    @Query(nativeQuery = true, value = """
+            select e.status as status, count(*) as total,
+                   percentile_cont(0.5) within group (order by e.duracao_ms) as p50,
+                   percentile_cont(0.9) within group (order by e.duracao_ms) as p90,
+                   percentile_cont(0.99) within group (order by e.duracao_ms) as p99,
+                   max(e.duracao_ms) as maximo
+            from (
+                select t.status, t.instante, datediff('MILLISECOND', t.instante, t.proximo) as duracao_ms
+                from (
+                    select h.status, h.instante,
+                           lead(h.instante) over (partition by h.solicitacao_id order by h.instante, h.id) as proximo
+                    from historico_status h
+                    join solicitacao_abertura_conta s on s.id = h.solicitacao_id
+                    where h.instante >= :desde and (:canal is null or s.canal = :canal)
+                ) t
+                where t.proximo is not null and t.instante < :ate
+            ) e
+            group by e.status
+            """)
+    List<DuracaoEtapa> duracoesPorEtapa(@Param("canal") String canal,
+                                        @Param("desde") LocalDateTime desde,
+                                        @Param("ate") LocalDateTime ate);
+
+    interface DuracaoEtapa {
+
+        StatusSolicitacao getStatus();
+
+        long getTotal();
+
+        double getP50();
+
+        double getP90();
+
+        double getP99();
+
+        long getMaximo();
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.banco.aberturaconta.infra.repository.jpa;
+
+import br.com.banco.aberturaconta.infra.entity.OutboxEventoData;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventoJpaRepository extends JpaRepository<OutboxEventoData, Long> {
+
+    /**
+     * Candidatos a reserva: pendentes sem reserva válida. Eventos que já falharam vão para o fim da fila, para
+     * não bloquear os novos.
+     */
+    @Query("select e.id from OutboxEventoData e where e.situacao = br.com.banco.aberturaconta.infra.entity.OutboxEventoData$Situacao.PENDENTE and (e.reservadoAte is null or e.reservadoAte < :agora) order by e.tentativas, e.id")
+    List<Long> buscarPendentes(@Param("agora") LocalDateTime agora, Limit limite);
+
+    /**
+     * O UPDATE repete o filtro da busca: entre duas instâncias que leram os mesmos candidatos, o banco trava a
+     * linha e reavalia a condição, então só uma delas fica com cada evento.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventoData e set e.reserva = :reserva, e.reservadoAte = :reservadoAte where e.id in :ids and e.situacao = br.com.banco.aberturaconta.infra.entity.OutboxEventoData$Situacao.PENDENTE and (e.reservadoAte is null or e.reservadoAte < :agora)")
+    int reservar(@Param("ids") Collection<Long> ids, @Param("reserva") String reserva,
+                 @Param("agora") LocalDateTime agora, @Param("reservadoAte") LocalDateTime reservadoAte);
+
+    @Query("select e from OutboxEventoData e where e.reserva = :reserva order by e.tentativas, e.id")
+    List<OutboxEventoData> buscarReservados(@Param("reserva") String reserva);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventoData e set e.reserva = null, e.reservadoAte = null where e.id in :ids")
+    int liberar(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventoData e set e.tentativas = e.tentativas + 1, e.reserva = null, e.reservadoAte = null where e.id in :ids")
+    int incrementarTentativas(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEventoData e set e.situacao = br.com.banco.aberturaconta.infra.entity.OutboxEventoData$Situacao.ERRO where e.id in :ids and e.tentativas >= :maxTentativas")
+    int marcarComErro(@Param("ids") Collection<Long> ids, @Param("maxTentativas") int maxTentativas);
+}
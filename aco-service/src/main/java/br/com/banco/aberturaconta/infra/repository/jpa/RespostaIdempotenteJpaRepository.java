@@ -0,0 +1,20 @@
+package br.com.banco.aberturaconta.infra.repository.jpa;
+
+import br.com.banco.aberturaconta.infra.entity.RespostaIdempotenteData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RespostaIdempotenteJpaRepository extends JpaRepository<RespostaIdempotenteData, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from RespostaIdempotenteData r where r.dataCriacao < :limite")
+    int removerAnterioresA(@Param("limite") LocalDateTime limite);
+}
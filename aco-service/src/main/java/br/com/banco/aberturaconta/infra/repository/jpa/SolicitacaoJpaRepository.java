@@ -1,17 +1,110 @@
 package br.com.banco.aberturaconta.infra.repository.jpa;
 
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoExportadaDTO;
 import br.com.banco.aberturaconta.infra.entity.SolicitacaoAberturaContaData;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface SolicitacaoJpaRepository extends JpaRepository<SolicitacaoAberturaContaData, Long> {
+
+    String FETCH_SIZE_EXPORTACAO = "2000";
     
     Optional<SolicitacaoAberturaContaData> findByCpf(String cpf);
     
     boolean existsByCpfAndStatusIn(String cpf, List<StatusSolicitacao> status);
-}
\ No newline at end of file
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select s.cpf from SolicitacaoAberturaContaData s where s.status in :status")
+    Stream<String> streamCpfsPorStatus(@Param("status") Collection<StatusSolicitacao> status);
+
+    /**
+     * Cursor JDBC em ordem de (dataCriacao, id), lido em blocos de {@code FETCH_SIZE_EXPORTACAO} linhas.
+     * A projeção por construtor não coloca entidades no contexto de persistência.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = FETCH_SIZE_EXPORTACAO))
+    @Query("select new br.com.banco.aberturaconta.infra.dto.SolicitacaoExportadaDTO(s.id, s.cpf, s.nome, s.email, "
+            + "s.telefone, s.canal, s.status, s.numeroConta, s.codigoRejeicao, s.dataCriacao, s.dataAtualizacao) "
+            + "from SolicitacaoAberturaContaData s where s.dataCriacao >= :desde and s.dataCriacao < :ate "
+            + "order by s.dataCriacao, s.id")
+    Stream<SolicitacaoExportadaDTO> streamExportacao(@Param("desde") LocalDateTime desde,
+                                                     @Param("ate") LocalDateTime ate);
+
+    @Query("select s.cpf as cpf, s.status as status from SolicitacaoAberturaContaData s where s.cpf in :cpfs")
+    List<StatusPorCpf> findStatusPorCpfIn(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("select s.id as id, s.cpf as cpf from SolicitacaoAberturaContaData s where s.id in :ids")
+    List<CpfPorId> findCpfPorIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update SolicitacaoAberturaContaData s set s.status = :novoStatus, "
+            + "s.numeroConta = coalesce(cast(:numeroConta as String), s.numeroConta), "
+            + "s.dataAtualizacao = :dataAtualizacao "
+            + "where s.id = :id and s.status in :origens")
+    int transitar(@Param("id") Long id,
+                  @Param("origens") Collection<StatusSolicitacao> origens,
+                  @Param("novoStatus") StatusSolicitacao novoStatus,
+                  @Param("numeroConta") String numeroConta,
+                  @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+    /**
+     * Transição para REJEITADA com o código. Fica separada de {@link #transitar} porque o Hibernate não
+     * infere o tipo de um enum nulo dentro de coalesce.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update SolicitacaoAberturaContaData s set s.status = :novoStatus, s.codigoRejeicao = :codigoRejeicao, "
+            + "s.dataAtualizacao = :dataAtualizacao "
+            + "where s.id = :id and s.status in :origens")
+    int transitarComRejeicao(@Param("id") Long id,
+                             @Param("origens") Collection<StatusSolicitacao> origens,
+                             @Param("novoStatus") StatusSolicitacao novoStatus,
+                             @Param("codigoRejeicao") CodigoRejeicao codigoRejeicao,
+                             @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+    /**
+     * Contagem só dos status pedidos: a faixa de cada um é lida no índice (status, canal, data_criacao, id),
+     * sem passar pelas linhas dos demais.
+     */
+    @Query("select s.status as status, s.canal as canal, count(s) as total "
+            + "from SolicitacaoAberturaContaData s where s.status in :status group by s.status, s.canal")
+    List<ContagemPorStatus> contarPorStatusECanal(@Param("status") Collection<StatusSolicitacao> status);
+
+    interface ContagemPorStatus {
+
+        StatusSolicitacao getStatus();
+
+        String getCanal();
+
+        long getTotal();
+    }
+
+    interface CpfPorId {
+
+        Long getId();
+
+        String getCpf();
+    }
+
+    interface StatusPorCpf {
+
+        String getCpf();
+
+        StatusSolicitacao getStatus();
+    }
+}
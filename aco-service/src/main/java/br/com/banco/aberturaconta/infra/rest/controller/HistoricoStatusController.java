@@ -0,0 +1,75 @@
+package br.com.banco.aberturaconta.infra.rest.controller;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.infra.dto.DuracaoEtapaDTO;
+import br.com.banco.aberturaconta.infra.historico.HistoricoStatusService;
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/solicitacoes/etapas")
+@RequiredArgsConstructor
+@Tag(name = "Etapas das Solicitações", description = "Duração das etapas do processo, a partir do histórico de status")
+public class HistoricoStatusController {
+
+    private static final long JANELA_PADRAO_HORAS = 24;
+
+    private final HistoricoStatusService historicoStatusService;
+
+    @Operation(
+            summary = "Percentis da duração de cada etapa",
+            description = "Tempo entre a entrada em cada status e a transição seguinte, para as etapas iniciadas na janela. "
+                    + "Sem desde/ate, considera as últimas 24 horas."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Duração por etapa",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = DuracaoEtapaDTO.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Canal ou janela inválidos",
+                    content = @Content
+            )
+    })
+    @GetMapping("/duracoes")
+    public ResponseEntity<List<DuracaoEtapaDTO>> duracoesPorEtapa(
+            @Parameter(description = "Canal de origem (FLAMENGO, AZUL, AMERICA); vazio = todos")
+            @RequestParam(required = false) final Canal canal,
+            @Parameter(description = "Início da janela (ISO-8601)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime desde,
+            @Parameter(description = "Fim da janela (ISO-8601)", example = "2024-01-02T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime ate) {
+        final LocalDateTime fim = ate != null ? ate : LocalDateTime.now();
+        final LocalDateTime inicio = desde != null ? desde : fim.minusHours(JANELA_PADRAO_HORAS);
+        if (!inicio.isBefore(fim)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "desde deve ser anterior a ate");
+        }
+        log.debug("Consultando duração das etapas: canal={}, desde={}, ate={}, correlationId={}",
+                canal, inicio, fim, CorrelationIdUtil.getCorrelationId());
+
+        return ResponseEntity.ok(historicoStatusService.duracoesPorEtapa(canal, inicio, fim));
+    }
+}
@@ -1,9 +1,23 @@
 package br.com.banco.aberturaconta.infra.rest.controller;
 
 import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.PaginaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.dto.PaginaSolicitacoesDTO;
 import br.com.banco.aberturaconta.infra.dto.RespostaSolicitacaoDTO;
+import br.com.banco.aberturaconta.infra.dto.ResultadoLoteDTO;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoExportadaDTO;
+import br.com.banco.aberturaconta.infra.dto.StatusSolicitacaoEventoDTO;
 import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
+import br.com.banco.aberturaconta.infra.rest.exportacao.SolicitacaoExportador;
+import br.com.banco.aberturaconta.infra.rest.idempotencia.IdempotenciaService;
+import br.com.banco.aberturaconta.infra.rest.lote.SolicitacaoLoteProcessor;
+import br.com.banco.aberturaconta.infra.rest.paginacao.CursorSolicitacao;
+import br.com.banco.aberturaconta.infra.rest.sse.AssinaturasStatusRegistry;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,13 +27,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/solicitacoes")
@@ -27,11 +53,18 @@ import jakarta.validation.Valid;
 @Tag(name = "Solicitações de Abertura de Conta", description = "API para gerenciamento de solicitações de abertura de conta online")
 public class SolicitacaoAberturaContaController {
 
+    private static final int LIMITE_MAXIMO_PAGINA = 500;
+
     private final SolicitacaoApplicationService solicitacaoService;
+    private final IdempotenciaService idempotenciaService;
+    private final SolicitacaoLoteProcessor loteProcessor;
+    private final AssinaturasStatusRegistry assinaturasStatus;
+    private final SolicitacaoExportador exportador;
 
     @Operation(
             summary = "Criar nova solicitação de abertura de conta",
-            description = "Cria uma nova solicitação de abertura de conta e inicia o processo de validação no Camunda BPM"
+            description = "Cria uma nova solicitação de abertura de conta e inicia o processo de validação no Camunda BPM. "
+                    + "Com o header Idempotency-Key, repetições da mesma requisição recebem a primeira resposta (201 ou 409)."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -48,22 +81,145 @@ public class SolicitacaoAberturaContaController {
                     responseCode = "400",
                     description = "Dados inválidos",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key já usada com outro corpo de requisição",
+                    content = @Content
             )
     })
     @PostMapping
     public ResponseEntity<RespostaSolicitacaoDTO> solicitarAberturaConta(
             @Parameter(description = "Dados da solicitação de abertura de conta", required = true)
-            @Valid @RequestBody final SolicitacaoAberturaContaDTO dto) {
+            @Valid @RequestBody final SolicitacaoAberturaContaDTO dto,
+            @Parameter(description = "Chave para repetição segura da requisição")
+            @RequestHeader(value = IdempotenciaService.HEADER_IDEMPOTENCY_KEY, required = false) final String idempotencyKey) {
         
         final String correlationId = CorrelationIdUtil.getCorrelationId();
         log.info("Recebida solicitação de abertura de conta: cpf={}, correlationId={}", dto.cpf(), correlationId);
 
-        final SolicitacaoAberturaConta solicitacao = solicitacaoService.criarSolicitacao(dto);
-        
-        log.info("Solicitação {} criada. Processo Camunda será iniciado assincronamente após commit. correlationId={}", 
-                solicitacao.getId(), correlationId);
+        if (idempotencyKey == null) {
+            return criar(dto, correlationId);
+        }
+        return idempotenciaService.executar(idempotencyKey, dto, RespostaSolicitacaoDTO.class,
+                () -> criar(dto, correlationId));
+    }
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(toDTO(solicitacao));
+    @Operation(
+            summary = "Criar solicitações em lote (NDJSON)",
+            description = "Recebe uma solicitação por linha (application/x-ndjson) e devolve, em streaming, um resultado "
+                    + "por linha com o status equivalente ao da criação individual. As linhas são gravadas em trechos "
+                    + "com inserts em lote e os processos Camunda são iniciados em grupos após o commit de cada trecho."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultados por linha (application/x-ndjson)",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ResultadoLoteDTO.class))
+            )
+    })
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void solicitarAberturaContaEmLote(
+            @Parameter(description = "Solicitações de abertura de conta, uma por linha", required = true)
+            final InputStream corpo,
+            final HttpServletResponse response) throws IOException {
+        log.info("Recebido lote de solicitações de abertura de conta: correlationId={}", CorrelationIdUtil.getCorrelationId());
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        loteProcessor.processar(corpo, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Listar solicitações",
+            description = "Lista as solicitações em ordem de criação, com paginação por cursor sobre (dataCriacao, id): "
+                    + "a próxima página é pedida com o proximoCursor da anterior e os mesmos filtros. O custo de cada "
+                    + "página não cresce com a posição na listagem nem com o tamanho da tabela."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de solicitações",
+                    content = @Content(schema = @Schema(implementation = PaginaSolicitacoesDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Filtro, cursor ou limite inválidos",
+                    content = @Content
+            )
+    })
+    @GetMapping
+    public ResponseEntity<PaginaSolicitacoesDTO> listarSolicitacoes(
+            @Parameter(description = "Status atual da solicitação")
+            @RequestParam(required = false) final StatusSolicitacao status,
+            @Parameter(description = "Canal de origem (FLAMENGO, AZUL, AMERICA)")
+            @RequestParam(required = false) final Canal canal,
+            @Parameter(description = "Só solicitações criadas a partir deste instante (ISO-8601)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime desde,
+            @Parameter(description = "proximoCursor devolvido pela página anterior")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Tamanho da página (1 a " + LIMITE_MAXIMO_PAGINA + ")")
+            @RequestParam(defaultValue = "50") final int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "limite deve estar entre 1 e " + LIMITE_MAXIMO_PAGINA);
+        }
+        log.debug("Listando solicitações: status={}, canal={}, desde={}, cursor={}, correlationId={}",
+                status, canal, desde, cursor, CorrelationIdUtil.getCorrelationId());
+
+        final CursorSolicitacao posicao = cursor == null ? null : CursorSolicitacao.decodificar(cursor);
+        final PaginaSolicitacoes pagina = solicitacaoService.listar(new ConsultaSolicitacoes(status,
+                canal == null ? null : canal.name(), desde,
+                posicao == null ? null : posicao.dataCriacao(), posicao == null ? null : posicao.id(), limite));
+
+        return ResponseEntity.ok(new PaginaSolicitacoesDTO(
+                pagina.itens().stream().map(this::toDTO).toList(),
+                pagina.temMais() ? CursorSolicitacao.de(pagina.ultimo()).codificar() : null));
+    }
+
+    @Operation(
+            summary = "Exportar solicitações de uma janela (NDJSON ou CSV)",
+            description = "Envia, em streaming, todas as solicitações criadas em [desde, ate), em ordem de criação. "
+                    + "As linhas saem do cursor do banco direto para a resposta, sem montar o resultado em memória."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Solicitações exportadas (application/x-ndjson ou text/csv)",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = SolicitacaoExportadaDTO.class)),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Janela ou formato inválidos",
+                    content = @Content
+            )
+    })
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportarSolicitacoes(
+            @Parameter(description = "Início da janela de criação, inclusivo (ISO-8601)", required = true, example = "2024-01-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime desde,
+            @Parameter(description = "Fim da janela de criação, exclusivo (ISO-8601)", required = true, example = "2024-01-02T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime ate,
+            @Parameter(description = "NDJSON ou CSV")
+            @RequestParam(defaultValue = "NDJSON") final SolicitacaoExportador.Formato formato) {
+        if (!desde.isBefore(ate)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "desde deve ser anterior a ate");
+        }
+        log.info("Exportando solicitações: formato={}, desde={}, ate={}, correlationId={}",
+                formato, desde, ate, CorrelationIdUtil.getCorrelationId());
+
+        final StreamingResponseBody corpo = saida -> exportador.exportar(formato, desde, ate, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"solicitacoes-"
+                        + desde.toLocalDate() + "." + formato.getExtensao() + "\"")
+                .body(corpo);
     }
 
     @Operation(
@@ -93,6 +249,33 @@ public class SolicitacaoAberturaContaController {
         return ResponseEntity.ok(toDTO(solicitacao));
     }
 
+    @Operation(
+            summary = "Acompanhar mudanças de status (Server-Sent Events)",
+            description = "Abre um stream text/event-stream que envia o status atual e um evento 'status' a cada transição. "
+                    + "O stream é encerrado pelo servidor em CONTA_ABERTA ou REJEITADA."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream de eventos de status",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = StatusSolicitacaoEventoDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Solicitação não encontrada",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharStatus(
+            @Parameter(description = "ID da solicitação", required = true)
+            @PathVariable final Long id) {
+        log.debug("Assinatura de status da solicitação: id={}, correlationId={}", id, CorrelationIdUtil.getCorrelationId());
+        
+        return assinaturasStatus.assinar(id, () -> solicitacaoService.buscarPorId(id));
+    }
+
     @Operation(
             summary = "Buscar solicitação por CPF",
             description = "Retorna os dados de uma solicitação de abertura de conta pelo CPF"
@@ -141,6 +324,28 @@ public class SolicitacaoAberturaContaController {
         return ResponseEntity.ok(solicitacaoService.existeContaPorCpf(cpf));
     }
 
+    private ResponseEntity<RespostaSolicitacaoDTO> criar(final SolicitacaoAberturaContaDTO dto, final String correlationId) {
+        final SolicitacaoAberturaConta solicitacao = solicitacaoService.criarSolicitacao(dto);
+        
+        log.info("Solicitação {} criada. Processo Camunda será iniciado assincronamente após commit. correlationId={}", 
+                solicitacao.getId(), correlationId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(toDTO(solicitacao));
+    }
+
+    private RespostaSolicitacaoDTO toDTO(final ResumoSolicitacao solicitacao) {
+        return new RespostaSolicitacaoDTO(
+                solicitacao.id(),
+                solicitacao.cpf(),
+                solicitacao.nome(),
+                solicitacao.status(),
+                solicitacao.numeroConta(),
+                solicitacao.motivoRejeicao(),
+                solicitacao.dataCriacao(),
+                solicitacao.dataAtualizacao()
+        );
+    }
+
     private RespostaSolicitacaoDTO toDTO(final SolicitacaoAberturaConta solicitacao) {
         return new RespostaSolicitacaoDTO(
                 solicitacao.getId(),
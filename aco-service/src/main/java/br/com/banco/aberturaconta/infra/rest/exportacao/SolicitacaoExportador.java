@@ -0,0 +1,165 @@
+package br.com.banco.aberturaconta.infra.rest.exportacao;
+
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoExportadaDTO;
+import br.com.banco.aberturaconta.infra.repository.jpa.SolicitacaoJpaRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+/**
+ * Escreve as solicitações de uma janela de criação direto do cursor JDBC para a resposta HTTP.
+ *
+ * A leitura acontece em uma transação somente leitura aberta na thread do streaming (com autocommit
+ * desligado o driver respeita o fetch size em vez de trazer o result set inteiro), e cada linha é
+ * serializada e descartada antes da próxima. A memória usada não depende da quantidade de linhas.
+ */
+@Slf4j
+@Component
+public class SolicitacaoExportador {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private static final String CABECALHO_CSV = "id,cpf,nome,email,telefone,canal,status,numero_conta,"
+            + "motivo_rejeicao,data_criacao,data_atualizacao";
+
+    private final SolicitacaoJpaRepository jpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter escritorJson;
+
+    public SolicitacaoExportador(final SolicitacaoJpaRepository jpaRepository,
+                                 final PlatformTransactionManager transactionManager,
+                                 final ObjectMapper objectMapper) {
+        this.jpaRepository = jpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        // sem flush por linha: o buffer só vai para o socket quando enche
+        this.escritorJson = objectMapper.writerFor(SolicitacaoExportadaDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+    }
+
+    public enum Formato {
+        NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extensao;
+
+        Formato(final String contentType, final String extensao) {
+            this.contentType = contentType;
+            this.extensao = extensao;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+    }
+
+    /**
+     * @return quantidade de solicitações exportadas
+     */
+    public long exportar(final Formato formato, final LocalDateTime desde, final LocalDateTime ate,
+                         final OutputStream saida) {
+        final long inicio = System.nanoTime();
+        final Long linhas = transactionTemplate.execute(status -> {
+            try (var solicitacoes = jpaRepository.streamExportacao(desde, ate)) {
+                return formato == Formato.CSV
+                        ? escreverCsv(solicitacoes.iterator(), saida)
+                        : escreverNdjson(solicitacoes.iterator(), saida);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        final long ms = Math.max(1, (System.nanoTime() - inicio) / 1_000_000);
+        log.info("Exportação {} de {} a {}: {} solicitações em {} ms ({} linhas/s)",
+                formato, desde, ate, linhas, ms, linhas * 1000 / ms);
+        return linhas;
+    }
+
+    private long escreverNdjson(final Iterator<SolicitacaoExportadaDTO> solicitacoes, final OutputStream saida)
+            throws IOException {
+        long linhas = 0;
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(new BufferedWriter(
+                new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER))) {
+            while (solicitacoes.hasNext()) {
+                escritorJson.writeValue(gerador, solicitacoes.next());
+                linhas++;
+            }
+            if (linhas > 0) {
+                gerador.writeRaw('\n');
+            }
+        }
+        return linhas;
+    }
+
+    private long escreverCsv(final Iterator<SolicitacaoExportadaDTO> solicitacoes, final OutputStream saida)
+            throws IOException {
+        long linhas = 0;
+        try (Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER)) {
+            escritor.write(CABECALHO_CSV);
+            escritor.write('\n');
+            while (solicitacoes.hasNext()) {
+                final SolicitacaoExportadaDTO s = solicitacoes.next();
+                escritor.write(String.valueOf(s.id()));
+                campoCsv(escritor, s.cpf());
+                campoCsv(escritor, s.nome());
+                campoCsv(escritor, s.email());
+                campoCsv(escritor, s.telefone());
+                campoCsv(escritor, s.canal());
+                campoCsv(escritor, s.status() == null ? null : s.status().name());
+                campoCsv(escritor, s.numeroConta());
+                campoCsv(escritor, s.motivoRejeicao());
+                campoCsv(escritor, s.dataCriacao() == null ? null : s.dataCriacao().toString());
+                campoCsv(escritor, s.dataAtualizacao() == null ? null : s.dataAtualizacao().toString());
+                escritor.write('\n');
+                linhas++;
+            }
+        }
+        return linhas;
+    }
+
+    /**
+     * Campo precedido da vírgula; entre aspas (RFC 4180) só quando contém vírgula, aspas ou quebra de linha.
+     */
+    private static void campoCsv(final Writer escritor, final String valor) throws IOException {
+        escritor.write(',');
+        if (valor == null) {
+            return;
+        }
+        boolean precisaAspas = false;
+        for (int i = 0; i < valor.length() && !precisaAspas; i++) {
+            final char c = valor.charAt(i);
+            precisaAspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!precisaAspas) {
+            escritor.write(valor);
+            return;
+        }
+        escritor.write('"');
+        escritor.write(valor.replace("\"", "\"\""));
+        escritor.write('"');
+    }
+}
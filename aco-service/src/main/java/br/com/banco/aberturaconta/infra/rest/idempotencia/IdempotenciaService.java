@@ -0,0 +1,238 @@
+package br.com.banco.aberturaconta.infra.rest.idempotencia;
+
+import br.com.banco.aberturaconta.infra.entity.RespostaIdempotenteData;
+import br.com.banco.aberturaconta.infra.repository.jpa.RespostaIdempotenteJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Repetição segura de requisições com o header {@code Idempotency-Key}.
+ *
+ * A primeira resposta definitiva (2xx ou 409) fica em um cache Caffeine limitado por tamanho e TTL,
+ * com cópia na tabela resposta_idempotente para sobreviver a reinício e despejo do cache. A repetição
+ * devolve a resposta guardada sem executar a operação de novo. Requisições simultâneas com a mesma chave
+ * esperam o resultado da primeira em vez de competir pela constraint do banco. A mesma chave com outro
+ * corpo recebe 422. Outros erros não são guardados: o cliente pode tentar de novo com a mesma chave.
+ * Se a operação já concluiu e só a gravação na tabela falha, o cliente recebe a resposta da operação e a
+ * repetição fica garantida apenas pelo cache desta instância.
+ */
+@Slf4j
+@Component
+public class IdempotenciaService {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_REPETICAO = "Idempotent-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 100;
+
+    private final RespostaIdempotenteJpaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RespostaIdempotente> cache;
+    private final ConcurrentMap<String, CompletableFuture<RespostaIdempotente>> emAndamento = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final long esperaMs;
+
+    public IdempotenciaService(final RespostaIdempotenteJpaRepository repository,
+                               final ObjectMapper objectMapper,
+                               @Value("${aco.idempotencia.tamanho-cache:10000}") final long tamanhoCache,
+                               @Value("${aco.idempotencia.ttl-minutos:1440}") final long ttlMinutos,
+                               @Value("${aco.idempotencia.espera-ms:30000}") final long esperaMs) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMinutes(ttlMinutos);
+        this.esperaMs = esperaMs;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoCache)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public <T> ResponseEntity<T> executar(final String chave, final Object requisicao, final Class<T> tipoResposta,
+                                          final Supplier<ResponseEntity<T>> operacao) {
+        validarChave(chave);
+        final String hashRequisicao = hash(requisicao);
+
+        final RespostaIdempotente emCache = cache.getIfPresent(chave);
+        if (emCache != null) {
+            return repetir(chave, emCache, hashRequisicao, tipoResposta);
+        }
+
+        final var resultado = new CompletableFuture<RespostaIdempotente>();
+        final var primeira = emAndamento.putIfAbsent(chave, resultado);
+        if (primeira != null) {
+            log.info("Requisição com Idempotency-Key {} em andamento, aguardando o resultado", chave);
+            return repetir(chave, aguardar(chave, primeira), hashRequisicao, tipoResposta);
+        }
+
+        try {
+            final RespostaIdempotente persistida = buscarNaTabela(chave);
+            if (persistida != null) {
+                cache.put(chave, persistida);
+                resultado.complete(persistida);
+                return repetir(chave, persistida, hashRequisicao, tipoResposta);
+            }
+
+            return executarOperacao(chave, hashRequisicao, operacao, resultado);
+        } finally {
+            emAndamento.remove(chave, resultado);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${aco.idempotencia.limpeza-intervalo-ms:600000}")
+    public void removerExpiradas() {
+        final int removidas = repository.removerAnterioresA(LocalDateTime.now().minus(ttl));
+        if (removidas > 0) {
+            log.info("{} respostas idempotentes expiradas removidas", removidas);
+        }
+    }
+
+    private <T> ResponseEntity<T> executarOperacao(final String chave, final String hashRequisicao,
+                                                   final Supplier<ResponseEntity<T>> operacao,
+                                                   final CompletableFuture<RespostaIdempotente> resultado) {
+        try {
+            final ResponseEntity<T> resposta = operacao.get();
+            final var armazenada = new RespostaIdempotente(hashRequisicao, resposta.getStatusCode().value(),
+                    serializar(resposta.getBody()));
+            if (resposta.getStatusCode().is2xxSuccessful()) {
+                armazenar(chave, armazenada);
+            }
+            resultado.complete(armazenada);
+            return resposta;
+
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().value() == HttpStatus.CONFLICT.value()) {
+                final var armazenada = new RespostaIdempotente(hashRequisicao, e.getStatusCode().value(), e.getReason());
+                armazenar(chave, armazenada);
+                resultado.complete(armazenada);
+            } else {
+                resultado.completeExceptionally(e);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            resultado.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private <T> ResponseEntity<T> repetir(final String chave, final RespostaIdempotente resposta,
+                                          final String hashRequisicao, final Class<T> tipoResposta) {
+        if (!resposta.hashRequisicao().equals(hashRequisicao)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key " + chave + " já usada com outro corpo de requisição");
+        }
+
+        log.info("Repetindo resposta {} para Idempotency-Key {}", resposta.statusHttp(), chave);
+        final HttpStatusCode status = HttpStatusCode.valueOf(resposta.statusHttp());
+        if (status.isError()) {
+            throw new ResponseStatusException(status, resposta.corpo());
+        }
+
+        final var headers = new HttpHeaders();
+        headers.add(HEADER_REPETICAO, "true");
+        return new ResponseEntity<>(desserializar(resposta.corpo(), tipoResposta), headers, status);
+    }
+
+    private RespostaIdempotente aguardar(final String chave, final CompletableFuture<RespostaIdempotente> primeira) {
+        try {
+            return primeira.get(esperaMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Requisição com a Idempotency-Key " + chave + " ainda em processamento", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Espera interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private RespostaIdempotente buscarNaTabela(final String chave) {
+        final RespostaIdempotenteData data = repository.findById(chave).orElse(null);
+        if (data == null) {
+            return null;
+        }
+        if (!data.getDataCriacao().isAfter(LocalDateTime.now().minus(ttl))) {
+            // expirada e ainda não removida pela limpeza: sai já para a nova resposta poder ser inserida
+            repository.delete(data);
+            return null;
+        }
+        return new RespostaIdempotente(data.getHashRequisicao(), data.getStatusHttp(), data.getCorpo());
+    }
+
+    private void armazenar(final String chave, final RespostaIdempotente resposta) {
+        cache.put(chave, resposta);
+        try {
+            repository.save(RespostaIdempotenteData.builder()
+                    .chave(chave)
+                    .hashRequisicao(resposta.hashRequisicao())
+                    .statusHttp(resposta.statusHttp())
+                    .corpo(resposta.corpo() == null ? "" : resposta.corpo())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Resposta da Idempotency-Key {} já registrada por outra instância", chave);
+        } catch (DataAccessException e) {
+            log.error("Falha ao gravar a resposta da Idempotency-Key {}; repetição só pelo cache", chave, e);
+        }
+    }
+
+    private void validarChave(final String chave) {
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+    }
+
+    private String hash(final Object requisicao) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(requisicao)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Erro ao calcular hash da requisição", e);
+        }
+    }
+
+    private String serializar(final Object corpo) {
+        try {
+            return objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar resposta idempotente", e);
+        }
+    }
+
+    private <T> T desserializar(final String corpo, final Class<T> tipo) {
+        try {
+            return objectMapper.readValue(corpo, tipo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao desserializar resposta idempotente", e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.banco.aberturaconta.infra.rest.idempotencia;
+
+/**
+ * Resposta guardada para uma Idempotency-Key: corpo JSON nas respostas de sucesso, motivo nas de erro.
+ */
+record RespostaIdempotente(String hashRequisicao, int statusHttp, String corpo) {
+}
@@ -0,0 +1,179 @@
+package br.com.banco.aberturaconta.infra.rest.lote;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.dto.ResultadoLoteDTO;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Lê um corpo NDJSON (uma solicitação por linha) e escreve um {@link ResultadoLoteDTO} por linha à medida
+ * que cada trecho é gravado, sem manter o arquivo inteiro em memória.
+ *
+ * Linhas com JSON inválido ou que não passam na validação do {@link SolicitacaoAberturaContaDTO} são recusadas
+ * com 400 sem ir ao banco. As demais são gravadas em trechos de {@code aco.lote.tamanho} linhas, uma transação
+ * por trecho. Se outra requisição gravar o mesmo CPF durante o trecho, a constraint derruba a transação e o
+ * trecho é refeito linha a linha pelo fluxo individual.
+ */
+@Slf4j
+@Component
+public class SolicitacaoLoteProcessor {
+
+    private final SolicitacaoApplicationService solicitacaoService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int tamanhoLote;
+
+    public SolicitacaoLoteProcessor(final SolicitacaoApplicationService solicitacaoService,
+                                    final ObjectMapper objectMapper,
+                                    final Validator validator,
+                                    @Value("${aco.lote.tamanho:500}") final int tamanhoLote) {
+        this.solicitacaoService = solicitacaoService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public void processar(final InputStream entrada, final OutputStream saida) throws IOException {
+        final long inicio = System.nanoTime();
+        final var leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        final var escritor = new OutputStreamWriter(saida, StandardCharsets.UTF_8);
+        final var trecho = new Trecho();
+        long numeroLinha = 0;
+        String linha;
+
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            ler(numeroLinha, linha, trecho);
+            if (trecho.tamanho() >= tamanhoLote) {
+                gravar(trecho, escritor);
+            }
+        }
+        gravar(trecho, escritor);
+
+        log.info("Lote processado: {} linhas lidas, {} solicitações criadas, {} recusadas em {} ms",
+                numeroLinha, trecho.criadas, trecho.recusadas, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void ler(final long numeroLinha, final String linha, final Trecho trecho) {
+        final SolicitacaoAberturaContaDTO dto;
+        try {
+            dto = objectMapper.readValue(linha, SolicitacaoAberturaContaDTO.class);
+        } catch (JsonProcessingException e) {
+            trecho.recusar(ResultadoLoteDTO.recusada(numeroLinha, HttpStatus.BAD_REQUEST.value(), null,
+                    "JSON inválido: " + e.getOriginalMessage()));
+            return;
+        }
+
+        final var violacoes = validator.validate(dto);
+        if (!violacoes.isEmpty()) {
+            trecho.recusar(ResultadoLoteDTO.recusada(numeroLinha, HttpStatus.BAD_REQUEST.value(), dto.cpf(),
+                    violacoes.stream()
+                            .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining("; "))));
+            return;
+        }
+        trecho.validas.put(numeroLinha, dto);
+    }
+
+    private void gravar(final Trecho trecho, final Writer escritor) throws IOException {
+        if (trecho.tamanho() == 0) {
+            return;
+        }
+
+        final List<ResultadoLoteDTO> resultados = new ArrayList<>(trecho.recusas);
+        if (!trecho.validas.isEmpty()) {
+            resultados.addAll(criar(trecho.validas));
+        }
+        resultados.sort(Comparator.comparingLong(ResultadoLoteDTO::linha));
+
+        for (ResultadoLoteDTO resultado : resultados) {
+            if (resultado.status() == HttpStatus.CREATED.value()) {
+                trecho.criadas++;
+            } else {
+                trecho.recusadas++;
+            }
+            escritor.write(objectMapper.writeValueAsString(resultado));
+            escritor.write('\n');
+        }
+        escritor.flush();
+        trecho.limpar();
+    }
+
+    private List<ResultadoLoteDTO> criar(final Map<Long, SolicitacaoAberturaContaDTO> validas) {
+        try {
+            return solicitacaoService.criarLote(validas);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("CPF gravado em paralelo durante o trecho de {} linhas, gravando linha a linha", validas.size());
+            final List<ResultadoLoteDTO> resultados = new ArrayList<>(validas.size());
+            validas.forEach((linha, dto) -> resultados.add(criarIndividual(linha, dto)));
+            return resultados;
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar trecho de {} linhas do lote", validas.size(), e);
+            return validas.entrySet().stream()
+                    .map(linha -> ResultadoLoteDTO.recusada(linha.getKey(), HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            linha.getValue().cpf(), "Erro ao gravar a solicitação"))
+                    .toList();
+        }
+    }
+
+    private ResultadoLoteDTO criarIndividual(final long linha, final SolicitacaoAberturaContaDTO dto) {
+        try {
+            final SolicitacaoAberturaConta solicitacao = solicitacaoService.criarSolicitacao(dto);
+            return ResultadoLoteDTO.criada(linha, solicitacao.getId(), solicitacao.getCpf());
+        } catch (ResponseStatusException e) {
+            return ResultadoLoteDTO.recusada(linha, e.getStatusCode().value(), dto.cpf(), e.getReason());
+        } catch (DataIntegrityViolationException e) {
+            return ResultadoLoteDTO.recusada(linha, HttpStatus.CONFLICT.value(), dto.cpf(),
+                    "Já existe uma solicitação para este CPF: " + dto.cpf());
+        }
+    }
+
+    private static final class Trecho {
+
+        private final Map<Long, SolicitacaoAberturaContaDTO> validas = new LinkedHashMap<>();
+        private final List<ResultadoLoteDTO> recusas = new ArrayList<>();
+        private long criadas;
+        private long recusadas;
+
+        void recusar(final ResultadoLoteDTO resultado) {
+            recusas.add(resultado);
+        }
+
+        int tamanho() {
+            return validas.size() + recusas.size();
+        }
+
+        void limpar() {
+            validas.clear();
+            recusas.clear();
+        }
+    }
+}
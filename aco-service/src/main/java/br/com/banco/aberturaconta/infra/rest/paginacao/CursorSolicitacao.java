@@ -0,0 +1,39 @@
+package br.com.banco.aberturaconta.infra.rest.paginacao;
+
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição da listagem de solicitações: (dataCriacao, id) da última linha entregue, em Base64 URL-safe.
+ * O cliente trata o valor como opaco e o devolve com os mesmos filtros da página anterior.
+ */
+public record CursorSolicitacao(LocalDateTime dataCriacao, Long id) {
+
+    private static final String SEPARADOR = "|";
+
+    public static CursorSolicitacao de(final ResumoSolicitacao ultima) {
+        return new CursorSolicitacao(ultima.dataCriacao(), ultima.id());
+    }
+
+    public String codificar() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((dataCriacao + SEPARADOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorSolicitacao decodificar(final String cursor) {
+        try {
+            final String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separador = valor.indexOf(SEPARADOR);
+            return new CursorSolicitacao(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.valueOf(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.banco.aberturaconta.infra.rest.sse;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.dto.StatusSolicitacaoEventoDTO;
+import br.com.banco.aberturaconta.infra.event.StatusSolicitacaoAlteradaEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Assinaturas SSE de mudança de status, por solicitação, alimentadas pelas transições confirmadas
+ * ({@link StatusSolicitacaoAlteradaEvent}).
+ *
+ * Cada stream é um {@link SseEmitter} sobre o processamento assíncrono do servlet: a conexão aberta não
+ * prende thread, só o envio de cada evento. O stream termina no primeiro status final. O heartbeat mantém
+ * a conexão viva em proxies com timeout de inatividade e detecta clientes que já foram embora.
+ *
+ * Cada assinatura tem uma fila própria, drenada por uma tarefa de cada vez no {@code sseExecutor}: os eventos
+ * saem na ordem em que entraram e quem publica ou agenda o heartbeat nunca espera o socket. Um evento com
+ * {@code instante} anterior ao último enviado é descartado, e a assinatura cujo envio fica bloqueado além de
+ * {@code aco.sse.limite-envio-ms} é encerrada no heartbeat seguinte.
+ */
+@Slf4j
+@Component
+public class AssinaturasStatusRegistry {
+
+    private static final String EVENTO_STATUS = "status";
+
+    private final ConcurrentMap<Long, Set<Assinatura>> assinaturas = new ConcurrentHashMap<>();
+    private final AtomicInteger abertas = new AtomicInteger();
+    private final Counter expiradas;
+    private final Executor executor;
+    private final long timeoutMs;
+    private final long limiteEnvioNanos;
+
+    public AssinaturasStatusRegistry(final MeterRegistry meterRegistry,
+                                     @Qualifier("sseExecutor") final Executor executor,
+                                     @Value("${aco.sse.timeout-ms:1800000}") final long timeoutMs,
+                                     @Value("${aco.sse.limite-envio-ms:10000}") final long limiteEnvioMs) {
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.limiteEnvioNanos = TimeUnit.MILLISECONDS.toNanos(limiteEnvioMs);
+        this.expiradas = Counter.builder("aco.sse.assinaturas.expiradas")
+                .description("Assinaturas SSE encerradas por envio bloqueado além do limite")
+                .register(meterRegistry);
+        meterRegistry.gauge("aco.sse.assinaturas", abertas);
+    }
+
+    /**
+     * Registra a assinatura antes de ler a solicitação: uma transição confirmada entre a leitura e o
+     * registro não se perde. O status lido vale a partir da última atualização da linha, então um evento
+     * anterior a ela que ainda esteja a caminho é descartado, e status repetidos em sequência são enviados
+     * uma vez só.
+     */
+    public SseEmitter assinar(final Long solicitacaoId, final Supplier<SolicitacaoAberturaConta> solicitacaoAtual) {
+        final var emitter = new SseEmitter(timeoutMs);
+        final var assinatura = new Assinatura(solicitacaoId, emitter);
+
+        assinaturas.computeIfAbsent(solicitacaoId, id -> ConcurrentHashMap.newKeySet()).add(assinatura);
+        abertas.incrementAndGet();
+        emitter.onCompletion(() -> remover(assinatura));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(erro -> remover(assinatura));
+
+        final SolicitacaoAberturaConta solicitacao;
+        try {
+            solicitacao = solicitacaoAtual.get();
+        } catch (RuntimeException e) {
+            remover(assinatura);
+            throw e;
+        }
+        assinatura.agendar(new Envio(solicitacao.getStatus(), ultimaAtualizacao(solicitacao)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = StatusSolicitacaoAlteradaEvent.class)
+    public void onStatusAlterado(final StatusSolicitacaoAlteradaEvent event) {
+        final Set<Assinatura> daSolicitacao = assinaturas.get(event.getSolicitacaoId());
+        if (daSolicitacao != null) {
+            final var envio = new Envio(event.getStatus(), event.getInstante());
+            daSolicitacao.forEach(assinatura -> assinatura.agendar(envio));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${aco.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        final long agora = System.nanoTime();
+        assinaturas.values().forEach(daSolicitacao -> daSolicitacao.forEach(assinatura -> assinatura.heartbeat(agora)));
+    }
+
+    public int quantidade() {
+        return abertas.get();
+    }
+
+    private void remover(final Assinatura assinatura) {
+        assinaturas.computeIfPresent(assinatura.solicitacaoId, (id, daSolicitacao) -> {
+            if (daSolicitacao.remove(assinatura)) {
+                abertas.decrementAndGet();
+            }
+            return daSolicitacao.isEmpty() ? null : daSolicitacao;
+        });
+    }
+
+    private static LocalDateTime ultimaAtualizacao(final SolicitacaoAberturaConta solicitacao) {
+        if (solicitacao.getDataAtualizacao() != null) {
+            return solicitacao.getDataAtualizacao();
+        }
+        return solicitacao.getDataCriacao() != null ? solicitacao.getDataCriacao() : LocalDateTime.MIN;
+    }
+
+    /** Status a enviar; sem status, é um heartbeat. */
+    private record Envio(StatusSolicitacao status, LocalDateTime instante) {
+
+        private static final Envio HEARTBEAT = new Envio(null, null);
+    }
+
+    private final class Assinatura {
+
+        private final Long solicitacaoId;
+        private final SseEmitter emitter;
+        private final Queue<Envio> pendentes = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean agendada = new AtomicBoolean();
+        private final ReentrantLock envio = new ReentrantLock();
+        private final AtomicBoolean encerrada = new AtomicBoolean();
+        private volatile long envioDesde;
+        private StatusSolicitacao ultimoEnviado;
+        private LocalDateTime ultimoInstante = LocalDateTime.MIN;
+
+        private Assinatura(final Long solicitacaoId, final SseEmitter emitter) {
+            this.solicitacaoId = solicitacaoId;
+            this.emitter = emitter;
+        }
+
+        void agendar(final Envio proximo) {
+            if (encerrada.get()) {
+                return;
+            }
+            pendentes.add(proximo);
+            if (agendada.compareAndSet(false, true)) {
+                executor.execute(this::drenar);
+            }
+        }
+
+        /**
+         * Com um envio em andamento o heartbeat não entra na fila: a conexão não está ociosa. Se o envio
+         * passou do limite, o cliente não está lendo e a assinatura é encerrada.
+         */
+        void heartbeat(final long agora) {
+            if (encerrada.get()) {
+                return;
+            }
+            final long desde = envioDesde;
+            if (desde != 0 && agora - desde > limiteEnvioNanos) {
+                expiradas.increment();
+                encerrar(new IOException("Envio SSE bloqueado há mais de "
+                        + TimeUnit.NANOSECONDS.toMillis(limiteEnvioNanos) + " ms"));
+            } else if (!agendada.get()) {
+                agendar(Envio.HEARTBEAT);
+            }
+        }
+
+        private void drenar() {
+            envio.lock();
+            try {
+                Envio proximo;
+                while (!encerrada.get() && (proximo = pendentes.poll()) != null) {
+                    enviar(proximo);
+                }
+            } finally {
+                envio.unlock();
+                agendada.set(false);
+            }
+            if (!encerrada.get() && !pendentes.isEmpty() && agendada.compareAndSet(false, true)) {
+                executor.execute(this::drenar);
+            }
+        }
+
+        private void enviar(final Envio proximo) {
+            final StatusSolicitacao status = proximo.status();
+            if (status != null && (status == ultimoEnviado || proximo.instante().isBefore(ultimoInstante))) {
+                return;
+            }
+            envioDesde = System.nanoTime();
+            try {
+                if (status == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    return;
+                }
+                ultimoEnviado = status;
+                ultimoInstante = proximo.instante();
+                emitter.send(SseEmitter.event()
+                        .name(EVENTO_STATUS)
+                        .data(new StatusSolicitacaoEventoDTO(solicitacaoId, status, proximo.instante(), status.isFinal())));
+                if (status.isFinal()) {
+                    encerrada.set(true);
+                    remover(this);
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                encerrar(e);
+            } finally {
+                envioDesde = 0;
+            }
+        }
+
+        private void encerrar(final Exception e) {
+            if (!encerrada.compareAndSet(false, true)) {
+                return;
+            }
+            log.debug("Assinatura SSE da solicitação {} encerrada: {}", solicitacaoId, e.getMessage());
+            pendentes.clear();
+            remover(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package br.com.banco.aberturaconta.application.service;
 
 import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
+import br.com.banco.aberturaconta.infra.dto.ResultadoLoteDTO;
 import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
 import br.com.banco.aberturaconta.infra.event.SolicitacaoCriadaEvent;
+import br.com.banco.aberturaconta.infra.event.SolicitacoesCriadasEmLoteEvent;
+import br.com.banco.aberturaconta.infra.event.StatusSolicitacaoAlteradaEvent;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,8 +23,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -89,6 +99,7 @@ class SolicitacaoApplicationServiceTest {
 
         final SolicitacaoCriadaEvent event = eventCaptor.getValue();
         assertEquals(1L, event.getSolicitacaoId());
+        assertEquals(Canal.AMERICA.name(), event.getCanal());
     }
 
     @Test
@@ -183,5 +194,100 @@ class SolicitacaoApplicationServiceTest {
         assertEquals(404, exception.getStatusCode().value());
         assertTrue(exception.getMessage().contains("Solicitação não encontrada"));
     }
-}
 
+    @Test
+    @DisplayName("Deve criar o lote recusando CPF com conta ativa e CPF repetido no lote")
+    void deveCriarLoteRecusandoConflitos() {
+        // Given
+        final var comContaAtiva = new SolicitacaoAberturaContaDTO("98765432100", "Maria", "maria@email.com",
+                "11987654321", "AZUL");
+        final Map<Long, SolicitacaoAberturaContaDTO> linhas = new LinkedHashMap<>();
+        linhas.put(1L, dto);
+        linhas.put(2L, comContaAtiva);
+        linhas.put(4L, dto);
+
+        when(solicitacaoService.buscarStatusPorCpfs(anyList()))
+                .thenReturn(Map.of("98765432100", StatusSolicitacao.CONTA_ABERTA));
+        when(solicitacaoService.salvarTodas(anyList())).thenReturn(List.of(solicitacao));
+
+        // When
+        final List<ResultadoLoteDTO> resultados = applicationService.criarLote(linhas);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 4L), resultados.stream().map(ResultadoLoteDTO::linha).toList());
+        assertEquals(201, resultados.get(0).status());
+        assertEquals(1L, resultados.get(0).id());
+        assertEquals(409, resultados.get(1).status());
+        assertTrue(resultados.get(1).erro().contains("conta ativa"));
+        assertEquals(409, resultados.get(2).status());
+
+        final ArgumentCaptor<List<SolicitacaoAberturaConta>> novas = ArgumentCaptor.forClass(List.class);
+        verify(solicitacaoService).salvarTodas(novas.capture());
+        assertEquals(1, novas.getValue().size());
+
+        final ArgumentCaptor<SolicitacoesCriadasEmLoteEvent> evento =
+                ArgumentCaptor.forClass(SolicitacoesCriadasEmLoteEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertEquals(1L, evento.getValue().getSolicitacoes().get(0).getSolicitacaoId());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nem publicar evento quando todas as linhas do lote são recusadas")
+    void naoDeveGravarLoteSemLinhasNovas() {
+        // Given
+        when(solicitacaoService.buscarStatusPorCpfs(anyList()))
+                .thenReturn(Map.of("12345678901", StatusSolicitacao.VALIDANDO_SERASA));
+
+        // When
+        final List<ResultadoLoteDTO> resultados = applicationService.criarLote(Map.of(1L, dto));
+
+        // Then
+        assertEquals(409, resultados.get(0).status());
+        verify(solicitacaoService, never()).salvarTodas(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve publicar a alteração de status só quando a transição é aplicada")
+    void devePublicarStatusAlteradoQuandoTransicaoAplicada() {
+        // Given
+        when(solicitacaoService.transitar(TransicaoStatus.para(1L, StatusSolicitacao.VALIDANDO_PIX))).thenReturn(true);
+        when(solicitacaoService.transitar(TransicaoStatus.para(2L, StatusSolicitacao.VALIDANDO_PIX))).thenReturn(false);
+
+        // When
+        final boolean aplicada = applicationService.atualizarStatus(1L, StatusSolicitacao.VALIDANDO_PIX);
+        final boolean naoAplicada = applicationService.atualizarStatus(2L, StatusSolicitacao.VALIDANDO_PIX);
+
+        // Then
+        assertTrue(aplicada);
+        assertFalse(naoAplicada);
+        final ArgumentCaptor<StatusSolicitacaoAlteradaEvent> evento =
+                ArgumentCaptor.forClass(StatusSolicitacaoAlteradaEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(evento.capture());
+        assertEquals(1L, evento.getValue().getSolicitacaoId());
+        assertEquals(StatusSolicitacao.VALIDANDO_PIX, evento.getValue().getStatus());
+        assertNotNull(evento.getValue().getInstante());
+    }
+
+    @Test
+    @DisplayName("Deve publicar a alteração de status de cada transição aplicada no lote")
+    void devePublicarStatusAlteradoDasTransicoesAplicadasNoLote() {
+        // Given
+        final List<TransicaoStatus> transicoes = List.of(
+                TransicaoStatus.para(1L, StatusSolicitacao.VALIDANDO_PIX),
+                TransicaoStatus.para(2L, StatusSolicitacao.VALIDANDO_PIX),
+                TransicaoStatus.rejeicao(3L, CodigoRejeicao.SERASA));
+        when(solicitacaoService.transitarEmLote(transicoes)).thenReturn(new boolean[]{true, false, true});
+
+        // When
+        final boolean[] aplicadas = applicationService.transitarEmLote(transicoes);
+
+        // Then
+        assertArrayEquals(new boolean[]{true, false, true}, aplicadas);
+        final ArgumentCaptor<StatusSolicitacaoAlteradaEvent> evento =
+                ArgumentCaptor.forClass(StatusSolicitacaoAlteradaEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(evento.capture());
+        assertEquals(List.of(1L, 3L), evento.getAllValues().stream().map(StatusSolicitacaoAlteradaEvent::getSolicitacaoId).toList());
+        assertEquals(StatusSolicitacao.REJEITADA, evento.getAllValues().get(1).getStatus());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Custo por tarefa de levar o correlation ID para outra thread.
+ *
+ * "sem-propagacao" é o caminho anterior: a tarefa encontra a thread sem ID e o
+ * {@link CorrelationIdUtil#getCorrelationId()} gera um UUID novo e o coloca no ThreadLocal e no MDC.
+ * "propagar" é a tarefa embrulhada pelo {@link CorrelationIdUtil#propagar(Runnable)}, que grava o ID de
+ * quem submeteu e restaura a thread no fim. Mede nanossegundos e bytes alocados por tarefa na própria thread,
+ * sem executor, para isolar o custo do contexto.
+ *
+ * Execução: mvn test -Pbenchmark -Dtest=CorrelationIdPropagacaoBenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Correlation ID - Benchmark de propagação entre threads")
+class CorrelationIdPropagacaoBenchmark {
+
+    private static final int AQUECIMENTO = 2_000_000;
+    private static final int TAREFAS = 5_000_000;
+    private static final String CORRELATION_ID = "c8a1f0e2-0d4b-4a57-9c1e-2f4b8f3a9d10";
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private long consumidos;
+
+    @Test
+    @DisplayName("ThreadLocal e MDC sem propagação x CorrelationIdUtil.propagar")
+    void compararCaminhos() {
+        medir("sem-propagacao", this::semPropagacao, AQUECIMENTO);
+        medir("propagar", this::comPropagacao, AQUECIMENTO);
+
+        medir("sem-propagacao", this::semPropagacao, TAREFAS);
+        medir("propagar", this::comPropagacao, TAREFAS);
+
+        assertEquals(4L * (AQUECIMENTO + TAREFAS), consumidos);
+    }
+
+    private void semPropagacao() {
+        consumir();
+        CorrelationIdUtil.clearCorrelationId();
+    }
+
+    private void comPropagacao() {
+        CorrelationIdUtil.setCorrelationId(CORRELATION_ID);
+        final Runnable tarefa = CorrelationIdUtil.propagar(this::consumir);
+        CorrelationIdUtil.clearCorrelationId();
+        tarefa.run();
+    }
+
+    private void consumir() {
+        consumidos += CorrelationIdUtil.getCorrelationId().length() == 36 ? 2 : 1;
+    }
+
+    private void medir(final String modo, final Runnable tarefa, final int repeticoes) {
+        final long thread = Thread.currentThread().threadId();
+        final long bytesInicio = threads.getThreadAllocatedBytes(thread);
+        final long inicio = System.nanoTime();
+        for (int i = 0; i < repeticoes; i++) {
+            tarefa.run();
+        }
+        final long nanos = System.nanoTime() - inicio;
+        final long bytes = threads.getThreadAllocatedBytes(thread) - bytesInicio;
+
+        System.out.printf("%n[benchmark] modo=%s tarefas=%d nsPorTarefa=%.1f bytesPorTarefa=%.1f%n",
+                modo, repeticoes, (double) nanos / repeticoes, (double) bytes / repeticoes);
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Carga comum aos benchmarks de threads de plataforma e virtuais: dispara solicitações pela API com
+ * concorrência fixa e espera os processos chegarem ao fim, medindo vazão, threads vivas e heap.
+ *
+ * As subclasses usam as mesmas propriedades e só mudam {@code spring.threads.virtual.enabled},
+ * cada uma com um banco H2 próprio. O Kafka não existe no teste: o envio espera até {@code max.block.ms},
+ * o que faz papel de broker lento e ocupa o executor do {@code @Async}. A conclusão é contada pelas
+ * solicitações em status final, que não depende do nível de histórico do Camunda.
+ */
+abstract class ExecucaoThreadsBenchmarkSupport {
+
+    static final String PROPRIEDADES_LATENCIA = "aco.validacao.latencia-simulada-ms=200";
+    static final String PROPRIEDADES_KAFKA = "spring.kafka.producer.properties.max.block.ms=500";
+    static final String PROPRIEDADES_SEM_LATENCIA = "aco.validacao.latencia-simulada-ms=0";
+    static final String PROPRIEDADES_KAFKA_AUSENTE = "spring.kafka.producer.properties.max.block.ms=1";
+    static final String PROPRIEDADES_ENGINE = "camunda.bpm.generate-unique-process-engine-name=true";
+    static final String PROPRIEDADES_LOG = "logging.level.br.com.banco.aberturaconta=WARN";
+    static final String PROPRIEDADES_SQL = "spring.jpa.show-sql=false";
+
+    static final int SOLICITACOES = 500;
+    private static final int CONCORRENCIA_CLIENTE = 100;
+    private static final Duration PRAZO_CONCLUSAO = Duration.ofMinutes(5);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    protected long executar(final String modo, final long cpfBase) throws Exception {
+        final var threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        final var erros = new AtomicInteger();
+        final var http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        final var permissoes = new Semaphore(CONCORRENCIA_CLIENTE);
+
+        final long inicio = System.nanoTime();
+        try (var clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SOLICITACOES; i++) {
+                final long cpf = cpfBase + i;
+                clientes.submit(() -> {
+                    permissoes.acquire();
+                    try {
+                        var resposta = http.send(novaRequisicao(cpf), HttpResponse.BodyHandlers.discarding());
+                        if (resposta.statusCode() != 201) {
+                            erros.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        erros.incrementAndGet();
+                    } finally {
+                        permissoes.release();
+                    }
+                    return null;
+                });
+            }
+        }
+        final long tempoHttpMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        final long concluidos = aguardarConclusao();
+        final long tempoTotalMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.gc();
+        final long heapMb = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024);
+
+        System.out.printf("%n[benchmark] modo=%s solicitacoes=%d errosHttp=%d reqPorSeg=%.1f concluidos=%d "
+                        + "processosPorSeg=%.1f tempoTotalMs=%d picoThreadsPlataforma=%d heapUsadoMb=%d%n",
+                modo, SOLICITACOES, erros.get(), SOLICITACOES * 1000.0 / tempoHttpMs, concluidos,
+                concluidos * 1000.0 / tempoTotalMs, tempoTotalMs, threads.getPeakThreadCount(), heapMb);
+
+        assertEquals(0, erros.get(), "Requisições com erro");
+        return concluidos;
+    }
+
+    private long aguardarConclusao() throws InterruptedException {
+        final long limite = System.nanoTime() + PRAZO_CONCLUSAO.toNanos();
+        long concluidos = 0;
+        while (System.nanoTime() < limite) {
+            concluidos = jdbcTemplate.queryForObject("select count(*) from solicitacao_abertura_conta "
+                    + "where status in ('REJEITADA', 'CONTA_ABERTA')", Long.class);
+            if (concluidos >= SOLICITACOES) {
+                break;
+            }
+            Thread.sleep(250);
+        }
+        return concluidos;
+    }
+
+    private HttpRequest novaRequisicao(final long cpf) {
+        final String corpo = """
+                {"cpf":"%d","nome":"Cliente %d","email":"%d@email.com","telefone":"11987654321","canal":"%s"}
+                """.formatted(cpf, cpf, cpf, Canal.AMERICA.name());
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/api/solicitacoes"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark da exportação em streaming de /api/solicitacoes/exportacao.
+ *
+ * Grava um milhão de solicitações em um H2 em arquivo (em memória a própria tabela ocuparia o heap e
+ * esconderia o consumo da exportação) e mede linhas por segundo e o maior heap usado durante cada
+ * formato, lendo a resposta pela API sem guardá-la.
+ *
+ * Execução: mvn test -Pbenchmark -Dtest=ExportacaoSolicitacoesBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/benchmark-exportacao;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "camunda.bpm.job-execution.enabled=false",
+        "aco.outbox.relay.habilitado=false",
+        "logging.level.br.com.banco.aberturaconta=INFO",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Exportação de solicitações - Benchmark de vazão")
+class ExportacaoSolicitacoesBenchmark {
+
+    private static final int SOLICITACOES = 1_000_000;
+    private static final int LOTE_INSERCAO = 10_000;
+    private static final long ID_BASE = 1_000_000_000L;
+    private static final LocalDateTime INICIO = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long AMOSTRAGEM_HEAP_MS = 20;
+    private static final int MINUTOS_AQUECIMENTO = 10;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+    @BeforeAll
+    void popularTabela() throws Exception {
+        final long inicio = System.nanoTime();
+        final StatusSolicitacao[] status = StatusSolicitacao.values();
+        final Canal[] canais = Canal.values();
+        for (int base = 0; base < SOLICITACOES; base += LOTE_INSERCAO) {
+            final List<Integer> lote = IntStream.range(base, Math.min(base + LOTE_INSERCAO, SOLICITACOES)).boxed().toList();
+            jdbcTemplate.batchUpdate("INSERT INTO solicitacao_abertura_conta (id, cpf, nome, email, telefone, canal, "
+                            + "status, data_criacao, data_atualizacao, numero_conta, motivo_rejeicao) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", lote, lote.size(),
+                    (ps, i) -> {
+                        final Timestamp criacao = Timestamp.valueOf(INICIO.plusNanos(i * 86_000_000L));
+                        ps.setLong(1, ID_BASE + i);
+                        ps.setString(2, Long.toString(30_000_000_000L + i));
+                        ps.setString(3, "Cliente " + i);
+                        ps.setString(4, "cliente" + i + "@email.com");
+                        ps.setString(5, "11987654321");
+                        ps.setString(6, canais[i % canais.length].name());
+                        ps.setString(7, status[i % status.length].name());
+                        ps.setTimestamp(8, criacao);
+                        ps.setTimestamp(9, criacao);
+                        ps.setString(10, i % 3 == 0 ? "12345-" + i % 10 : null);
+                        ps.setString(11, i % 7 == 0 ? "Score Serasa abaixo do mínimo, \"reprovado\"" : null);
+                    });
+        }
+        System.out.printf("%n[benchmark] tabela populada: solicitacoes=%d tempoMs=%d%n",
+                SOLICITACOES, (System.nanoTime() - inicio) / 1_000_000);
+
+        // aquecimento do JIT com os primeiros minutos (uma linha a cada 86 ms) antes das medições
+        exportar("NDJSON", INICIO.plusMinutes(MINUTOS_AQUECIMENTO));
+        exportar("CSV", INICIO.plusMinutes(MINUTOS_AQUECIMENTO));
+    }
+
+    @Test
+    @DisplayName("NDJSON")
+    void ndjson() throws Exception {
+        assertEquals(SOLICITACOES, exportar("NDJSON", INICIO.plusYears(1)));
+    }
+
+    @Test
+    @DisplayName("CSV")
+    void csv() throws Exception {
+        assertEquals(SOLICITACOES + 1, exportar("CSV", INICIO.plusYears(1)));
+    }
+
+    private long exportar(final String formato, final LocalDateTime ate) throws Exception {
+        final var requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta
+                + "/api/solicitacoes/exportacao?desde=" + INICIO + "&ate=" + ate + "&formato=" + formato))
+                .build();
+        System.gc();
+        final long heapInicial = memoria.getHeapMemoryUsage().getUsed();
+        final var maiorHeap = new AtomicLong(heapInicial);
+        final var exportando = new AtomicBoolean(true);
+        final Thread amostragem = Thread.ofVirtual().start(() -> {
+            while (exportando.get()) {
+                maiorHeap.accumulateAndGet(memoria.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(AMOSTRAGEM_HEAP_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        final long inicio = System.nanoTime();
+        long linhas = 0;
+        long bytes = 0;
+        try (InputStream corpo = HttpClient.newHttpClient().send(requisicao, HttpResponse.BodyHandlers.ofInputStream()).body()) {
+            final byte[] buffer = new byte[64 * 1024];
+            int lidos;
+            while ((lidos = corpo.read(buffer)) != -1) {
+                bytes += lidos;
+                for (int i = 0; i < lidos; i++) {
+                    if (buffer[i] == '\n') {
+                        linhas++;
+                    }
+                }
+            }
+        } finally {
+            exportando.set(false);
+            amostragem.join();
+        }
+
+        final long ms = Math.max(1, (System.nanoTime() - inicio) / 1_000_000);
+        System.out.printf("%n[benchmark] formato=%s linhas=%d bytes=%d tempoMs=%d linhasPorSegundo=%d "
+                        + "heapInicialMb=%d maiorHeapMb=%d%n",
+                formato, linhas, bytes, ms, linhas * 1000 / ms, heapInicial >> 20, maiorHeap.get() >> 20);
+        return linhas;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Execução: mvn test -Pbenchmark -Dtest='Historico*Benchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "camunda.bpm.history-level=compacto",
+        "spring.datasource.url=jdbc:h2:mem:benchmark-historico-compacto;DB_CLOSE_DELAY=-1",
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_SEM_LATENCIA,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_KAFKA_AUSENTE,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_ENGINE,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_LOG,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_SQL
+})
+@DisplayName("Histórico compacto - Benchmark de vazão do engine")
+class HistoricoCompactoBenchmark extends ExecucaoThreadsBenchmarkSupport {
+
+    @Test
+    @DisplayName("Histórico compacto em lote após o commit")
+    void historicoCompacto() throws Exception {
+        final long concluidos = executar("historico-compacto", 60_000_000_000L);
+
+        assertEquals(SOLICITACOES, concluidos, "Processos não concluídos no prazo");
+    }
+}
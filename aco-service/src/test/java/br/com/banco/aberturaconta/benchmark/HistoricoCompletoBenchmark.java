@@ -0,0 +1,33 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Execução: mvn test -Pbenchmark -Dtest='Historico*Benchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "camunda.bpm.history-level=full",
+        "spring.datasource.url=jdbc:h2:mem:benchmark-historico-completo;DB_CLOSE_DELAY=-1",
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_SEM_LATENCIA,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_KAFKA_AUSENTE,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_ENGINE,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_LOG,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_SQL
+})
+@DisplayName("Histórico full - Benchmark de vazão do engine")
+class HistoricoCompletoBenchmark extends ExecucaoThreadsBenchmarkSupport {
+
+    @Test
+    @DisplayName("Histórico full do Camunda (act_hi_*)")
+    void historicoCompleto() throws Exception {
+        final long concluidos = executar("historico-full", 50_000_000_000L);
+
+        assertEquals(SOLICITACOES, concluidos, "Processos não concluídos no prazo");
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.instance.Process;
+import org.camunda.bpm.model.bpmn.instance.ServiceTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de capacidade do ProcessoAberturaContaPF.
+ *
+ * Mede quantas solicitações ficam em voo ao mesmo tempo com as continuações
+ * assíncronas do BPMN (job executor do Camunda) e com o mesmo modelo executado
+ * de forma síncrona na thread do listener, como era antes.
+ *
+ * Execução: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "aco.validacao.latencia-simulada-ms=3000",
+        "spring.jpa.show-sql=false",
+        "logging.level.br.com.banco.aberturaconta=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("ProcessoAberturaContaPF - Benchmark de capacidade")
+class ProcessoAberturaContaCapacidadeBenchmark {
+
+    private static final String PROCESSO_ASSINCRONO = "ProcessoAberturaContaPF";
+    private static final String PROCESSO_SINCRONO = "ProcessoAberturaContaPFSincrono";
+    private static final int SOLICITACOES = 150;
+    private static final long JANELA_AMOSTRAGEM_MS = 500;
+
+    @Autowired
+    private SolicitacaoApplicationService applicationService;
+
+    @Autowired
+    private ISolicitacaoService solicitacaoService;
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private RepositoryService repositoryService;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @Test
+    @Order(1)
+    @DisplayName("Com continuações assíncronas")
+    void comContinuacoesAssincronas() throws Exception {
+        final long inicio = System.nanoTime();
+        for (int i = 0; i < SOLICITACOES; i++) {
+            applicationService.criarSolicitacao(novoDto(10_000_000_000L + i));
+        }
+        Thread.sleep(JANELA_AMOSTRAGEM_MS);
+
+        final long emVoo = runtimeService.createProcessInstanceQuery()
+                .processDefinitionKey(PROCESSO_ASSINCRONO)
+                .count();
+        imprimir("assíncrono", emVoo, taskExecutor.getActiveCount(), 0, inicio);
+
+        assertTrue(emVoo > taskExecutor.getMaxPoolSize(),
+                "Esperado mais solicitações em voo que threads do listener: " + emVoo);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Sem continuações assíncronas (processo inteiro na thread do listener)")
+    void semContinuacoesAssincronas() throws Exception {
+        implantarVarianteSincrona();
+
+        int rejeitadas = 0;
+        final long inicio = System.nanoTime();
+        for (int i = 0; i < SOLICITACOES; i++) {
+            final SolicitacaoAberturaConta solicitacao = solicitacaoService.criarSolicitacao(novoModelo(20_000_000_000L + i));
+            final String businessKey = solicitacao.getId().toString();
+            try {
+                taskExecutor.execute(() -> runtimeService.startProcessInstanceByKey(
+                        PROCESSO_SINCRONO, businessKey, Map.of("solicitacaoId", solicitacao.getId())));
+            } catch (TaskRejectedException e) {
+                rejeitadas++;
+            }
+        }
+        Thread.sleep(JANELA_AMOSTRAGEM_MS);
+
+        final int emVoo = taskExecutor.getActiveCount();
+        imprimir("síncrono", emVoo, emVoo, rejeitadas, inicio);
+
+        assertTrue(emVoo <= taskExecutor.getMaxPoolSize());
+    }
+
+    private void implantarVarianteSincrona() {
+        final BpmnModelInstance modelo = Bpmn.readModelFromStream(
+                getClass().getResourceAsStream("/processes/ProcessoAberturaContaPF.bpmn"));
+        modelo.getModelElementsByType(ServiceTask.class).forEach(tarefa -> {
+            tarefa.setCamundaAsyncBefore(false);
+            tarefa.setCamundaAsyncAfter(false);
+        });
+        final Process processo = modelo.getModelElementsByType(Process.class).iterator().next();
+        processo.setId(PROCESSO_SINCRONO);
+
+        repositoryService.createDeployment()
+                .addModelInstance(PROCESSO_SINCRONO + ".bpmn", modelo)
+                .deploy();
+    }
+
+    private void imprimir(final String modo, final long emVoo, final int threadsOcupadas,
+                          final int rejeitadas, final long inicioNanos) {
+        System.out.printf("%n[benchmark] modo=%s solicitacoes=%d emVoo=%d threadsCamundaAsync=%d rejeitadas=%d tempoMs=%d%n",
+                modo, SOLICITACOES, emVoo, threadsOcupadas, rejeitadas,
+                (System.nanoTime() - inicioNanos) / 1_000_000);
+    }
+
+    private SolicitacaoAberturaContaDTO novoDto(final long cpf) {
+        return new SolicitacaoAberturaContaDTO(
+                Long.toString(cpf), "Cliente " + cpf, cpf + "@email.com", "11987654321", Canal.AMERICA.name());
+    }
+
+    private SolicitacaoAberturaConta novoModelo(final long cpf) {
+        return SolicitacaoAberturaConta.builder()
+                .cpf(Long.toString(cpf))
+                .nome("Cliente " + cpf)
+                .email(cpf + "@email.com")
+                .telefone("11987654321")
+                .canal(Canal.AMERICA.name())
+                .status(StatusSolicitacao.INICIADA)
+                .build();
+    }
+}
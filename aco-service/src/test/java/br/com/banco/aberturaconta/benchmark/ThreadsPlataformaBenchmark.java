@@ -0,0 +1,34 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Execução: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:benchmark-plataforma;DB_CLOSE_DELAY=-1",
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_LATENCIA,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_KAFKA,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_ENGINE,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_LOG,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_SQL
+})
+@DisplayName("Threads de plataforma - Benchmark de vazão e memória")
+class ThreadsPlataformaBenchmark extends ExecucaoThreadsBenchmarkSupport {
+
+    @Test
+    @DisplayName("Tomcat, @Async e job executor em pools de threads de plataforma")
+    void comThreadsDePlataforma() throws Exception {
+        final long concluidos = executar("plataforma", 30_000_000_000L);
+
+        // Com o pool do @Async cheio, parte dos inícios de processo é rejeitada e nunca acontece
+        assertTrue(concluidos > 0);
+    }
+}
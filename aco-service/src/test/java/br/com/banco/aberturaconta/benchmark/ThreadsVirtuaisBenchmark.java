@@ -0,0 +1,33 @@
+package br.com.banco.aberturaconta.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Execução: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:benchmark-virtuais;DB_CLOSE_DELAY=-1",
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_LATENCIA,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_KAFKA,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_ENGINE,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_LOG,
+        ExecucaoThreadsBenchmarkSupport.PROPRIEDADES_SQL
+})
+@DisplayName("Threads virtuais - Benchmark de vazão e memória")
+class ThreadsVirtuaisBenchmark extends ExecucaoThreadsBenchmarkSupport {
+
+    @Test
+    @DisplayName("Tomcat, @Async e job executor em threads virtuais")
+    void comThreadsVirtuais() throws Exception {
+        final long concluidos = executar("virtuais", 40_000_000_000L);
+
+        assertEquals(SOLICITACOES, concluidos, "Processos não concluídos no prazo");
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.banco.aberturaconta.core.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CodigoRejeicao.
+ *
+ * Foco: correspondência com os códigos de erro BPMN do processo e fallback para OUTROS.
+ */
+@DisplayName("CodigoRejeicao - Código tipado da rejeição")
+class CodigoRejeicaoTest {
+
+    @Test
+    @DisplayName("Deve identificar a etapa pelo código de erro BPMN")
+    void deveIdentificarPeloCodigoErro() {
+        // When & Then
+        assertEquals(CodigoRejeicao.TOPAZ, CodigoRejeicao.fromCodigoErro("TOPAZ_REJEITADO"));
+        assertEquals(CodigoRejeicao.ANTIFRAUDE, CodigoRejeicao.fromCodigoErro("ANTIFRAUDE_REJEITADO"));
+        assertEquals(CodigoRejeicao.PIX, CodigoRejeicao.fromCodigoErro("PIX_REJEITADO"));
+        assertEquals(CodigoRejeicao.SERASA, CodigoRejeicao.fromCodigoErro("SERASA_REJEITADO"));
+        assertEquals(CodigoRejeicao.PROVA_VIDA, CodigoRejeicao.fromCodigoErro("PROVA_VIDA_REJEITADO"));
+    }
+
+    @Test
+    @DisplayName("Deve usar OUTROS para código ausente ou que não é de etapa")
+    void deveUsarOutrosParaCodigoDesconhecido() {
+        // When & Then
+        assertEquals(CodigoRejeicao.OUTROS, CodigoRejeicao.fromCodigoErro(null));
+        assertEquals(CodigoRejeicao.OUTROS, CodigoRejeicao.fromCodigoErro("ERRO_ABERTURA_CONTA"));
+        assertEquals(CodigoRejeicao.OUTROS, CodigoRejeicao.fromCodigoErro("ERRO_TOPAZ"));
+    }
+
+    @Test
+    @DisplayName("Deve derivar o texto do motivo a partir do código")
+    void deveDerivarMotivo() {
+        // When & Then
+        assertNull(CodigoRejeicao.motivoDe(null));
+        assertTrue(CodigoRejeicao.motivoDe(CodigoRejeicao.SERASA).startsWith("SERASA - "));
+    }
+}
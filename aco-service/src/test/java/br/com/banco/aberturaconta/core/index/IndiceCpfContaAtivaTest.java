@@ -0,0 +1,80 @@
+package br.com.banco.aberturaconta.core.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para IndiceCpfContaAtiva.
+ *
+ * Foco: nenhum falso negativo, falsos positivos eliminados pelo conjunto e comportamento antes da carga.
+ */
+@DisplayName("IndiceCpfContaAtiva - Índice em memória de CPFs ativos")
+class IndiceCpfContaAtivaTest {
+
+    private static final int QUANTIDADE = 50_000;
+
+    private IndiceCpfContaAtiva indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceCpfContaAtiva(QUANTIDADE, 0.01);
+    }
+
+    @Test
+    @DisplayName("Deve responder pode conter para qualquer CPF enquanto a carga não terminou")
+    void deveResponderPodeConterAntesDaCarga() {
+        // When & Then
+        assertTrue(indice.podeConter("12345678901"));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar todos os CPFs incluídos e descartar os demais")
+    void deveEncontrarIncluidosEDescartarAusentes() {
+        // Given
+        for (long cpf = 10_000_000_000L; cpf < 10_000_000_000L + QUANTIDADE; cpf++) {
+            indice.adicionar(Long.toString(cpf));
+        }
+        indice.marcarCarregado();
+
+        // When & Then
+        for (long cpf = 10_000_000_000L; cpf < 10_000_000_000L + QUANTIDADE; cpf++) {
+            assertTrue(indice.podeConter(Long.toString(cpf)), "Falso negativo para " + cpf);
+        }
+        final var aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < QUANTIDADE; i++) {
+            final long ausente = aleatorio.nextLong(20_000_000_000L, 99_999_999_999L);
+            assertFalse(indice.podeConter(Long.toString(ausente)), "Falso positivo para " + ausente);
+        }
+        assertEquals(QUANTIDADE, indice.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve tratar CPF formatado e CPF zerado")
+    void deveTratarCpfFormatadoEZerado() {
+        // Given
+        indice.adicionar("123.456.789-01");
+        indice.adicionar("00000000000");
+        indice.marcarCarregado();
+
+        // When & Then
+        assertTrue(indice.podeConter("12345678901"));
+        assertTrue(indice.podeConter("00000000000"));
+        assertFalse(indice.podeConter("12345678902"));
+    }
+
+    @Test
+    @DisplayName("Deve mandar ao banco o CPF que não pode ser convertido")
+    void deveMandarAoBancoCpfInvalido() {
+        // Given
+        indice.marcarCarregado();
+
+        // When & Then
+        assertTrue(indice.podeConter("sem-digitos"));
+        assertTrue(indice.podeConter(null));
+    }
+}
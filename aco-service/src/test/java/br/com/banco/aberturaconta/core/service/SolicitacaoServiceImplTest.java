@@ -1,18 +1,28 @@
 package br.com.banco.aberturaconta.core.service;
 
 import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.index.IndiceCpfContaAtiva;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.PaginaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
 import br.com.banco.aberturaconta.core.repository.SolicitacaoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +43,9 @@ class SolicitacaoServiceImplTest {
     @Mock
     private SolicitacaoRepository repository;
 
+    @Spy
+    private IndiceCpfContaAtiva indiceCpf = new IndiceCpfContaAtiva(1000, 0.01);
+
     @InjectMocks
     private SolicitacaoServiceImpl solicitacaoService;
 
@@ -128,19 +141,93 @@ class SolicitacaoServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve atualizar status da solicitação com sucesso")
+    @DisplayName("Deve atualizar status da solicitação com um único UPDATE, sem carregá-la")
     void deveAtualizarStatusComSucesso() {
         // Given
+        when(repository.transitar(any(TransicaoStatus.class))).thenReturn(true);
+
+        // When
+        final boolean aplicada = solicitacaoService.atualizarStatus(1L, StatusSolicitacao.VALIDANDO_SERASA);
+
+        // Then
+        assertTrue(aplicada);
+        verify(repository, times(1)).transitar(TransicaoStatus.para(1L, StatusSolicitacao.VALIDANDO_SERASA));
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+        verify(indiceCpf, never()).adicionar(any());
+    }
+
+    @Test
+    @DisplayName("Deve informar quando a transição não foi aplicada")
+    void deveInformarTransicaoNaoAplicada() {
+        // Given
+        when(repository.transitar(any(TransicaoStatus.class))).thenReturn(false);
+
+        // When
+        final boolean aplicada = solicitacaoService.transitar(TransicaoStatus.aprovacao(1L, "00000001"));
+
+        // Then
+        assertFalse(aplicada);
+        verify(repository, never()).findCpfByIdIn(any());
+        verify(indiceCpf, never()).adicionar(any());
+    }
+
+    @Test
+    @DisplayName("Deve carregar a solicitação só depois da transição aplicada e indexar o CPF da conta aberta")
+    void deveTransitarEBuscar() {
+        // Given
+        solicitacao.aprovar("00000001");
+        solicitacao.atualizarStatus(StatusSolicitacao.CONTA_ABERTA);
+        final InOrder ordem = inOrder(repository);
+        when(repository.transitar(any(TransicaoStatus.class))).thenReturn(true);
         when(repository.findById(1L)).thenReturn(Optional.of(solicitacao));
-        when(repository.save(any(SolicitacaoAberturaConta.class))).thenReturn(solicitacao);
 
         // When
-        solicitacaoService.atualizarStatus(1L, StatusSolicitacao.APROVADA);
+        final Optional<SolicitacaoAberturaConta> transitada =
+                solicitacaoService.transitarEBuscar(TransicaoStatus.contaAberta(1L, "00000001"));
 
         // Then
-        assertEquals(StatusSolicitacao.APROVADA, solicitacao.getStatus());
-        verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).save(solicitacao);
+        assertEquals(Optional.of(solicitacao), transitada);
+        ordem.verify(repository).transitar(TransicaoStatus.contaAberta(1L, "00000001"));
+        ordem.verify(repository).findById(1L);
+        verify(repository, never()).findCpfByIdIn(any());
+        verify(indiceCpf).adicionar("12345678901");
+    }
+
+    @Test
+    @DisplayName("Não deve carregar a solicitação quando a transição não foi aplicada")
+    void naoDeveBuscarQuandoTransicaoNaoAplicada() {
+        // Given
+        when(repository.transitar(any(TransicaoStatus.class))).thenReturn(false);
+
+        // When
+        final Optional<SolicitacaoAberturaConta> transitada =
+                solicitacaoService.transitarEBuscar(TransicaoStatus.rejeicao(1L, CodigoRejeicao.SERASA));
+
+        // Then
+        assertTrue(transitada.isEmpty());
+        verify(repository, never()).findById(any());
+        verify(indiceCpf, never()).adicionar(any());
+    }
+
+    @Test
+    @DisplayName("Deve transitar em lote e indexar só as transições aplicadas para conta ativa")
+    void deveTransitarEmLote() {
+        // Given
+        final List<TransicaoStatus> transicoes = List.of(
+                TransicaoStatus.para(1L, StatusSolicitacao.VALIDANDO_PIX),
+                TransicaoStatus.aprovacao(2L, "00000002"),
+                TransicaoStatus.aprovacao(3L, "00000003"));
+        when(repository.transitarEmLote(transicoes)).thenReturn(new boolean[]{true, true, false});
+        when(repository.findCpfByIdIn(List.of(2L))).thenReturn(Map.of(2L, "22222222222"));
+
+        // When
+        final boolean[] aplicadas = solicitacaoService.transitarEmLote(transicoes);
+
+        // Then
+        assertArrayEquals(new boolean[]{true, true, false}, aplicadas);
+        verify(indiceCpf, times(1)).adicionar("22222222222");
+        verify(indiceCpf, times(1)).adicionar(any());
     }
 
     @Test
@@ -228,5 +315,79 @@ class SolicitacaoServiceImplTest {
         );
         verify(repository, never()).save(any());
     }
-}
 
+    @Test
+    @DisplayName("Deve responder sem consultar o banco quando o índice descarta o CPF")
+    void deveResponderPeloIndiceQuandoCpfAusente() {
+        // Given
+        indiceCpf.marcarCarregado();
+
+        // When
+        final boolean resultado = solicitacaoService.existeContaPorCpf("12345678901");
+
+        // Then
+        assertFalse(resultado);
+        verify(repository, never()).existsByCpfAndStatusIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve incluir o CPF no índice quando a solicitação passa a ter conta ativa")
+    void deveIncluirCpfNoIndiceAoAprovar() {
+        // Given
+        indiceCpf.marcarCarregado();
+        when(repository.transitar(any(TransicaoStatus.class))).thenReturn(true);
+        when(repository.findCpfByIdIn(List.of(1L))).thenReturn(Map.of(1L, "12345678901"));
+        when(repository.existsByCpfAndStatusIn(
+                eq("12345678901"),
+                eq(List.of(StatusSolicitacao.APROVADA, StatusSolicitacao.CONTA_ABERTA))
+        )).thenReturn(true);
+
+        // When
+        solicitacaoService.atualizarStatus(1L, StatusSolicitacao.APROVADA);
+        final boolean resultado = solicitacaoService.existeContaPorCpf("12345678901");
+
+        // Then
+        assertTrue(resultado);
+        verify(indiceCpf, times(1)).adicionar("12345678901");
+        verify(repository, times(1)).existsByCpfAndStatusIn(
+                eq("12345678901"),
+                eq(List.of(StatusSolicitacao.APROVADA, StatusSolicitacao.CONTA_ABERTA))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve pedir uma linha a mais para saber se existe próxima página")
+    void deveListarComUmaLinhaAMais() {
+        // Given
+        final var consulta = new ConsultaSolicitacoes(StatusSolicitacao.INICIADA, null, null, null, null, 2);
+        when(repository.listar(consulta.comLimite(3))).thenReturn(List.of(resumo(1L), resumo(2L), resumo(3L)));
+
+        // When
+        final PaginaSolicitacoes pagina = solicitacaoService.listar(consulta);
+
+        // Then
+        assertTrue(pagina.temMais());
+        assertEquals(List.of(1L, 2L), pagina.itens().stream().map(ResumoSolicitacao::id).toList());
+        assertEquals(2L, pagina.ultimo().id());
+    }
+
+    @Test
+    @DisplayName("Deve indicar a última página quando vierem até limite linhas")
+    void deveIndicarUltimaPagina() {
+        // Given
+        final var consulta = new ConsultaSolicitacoes(null, Canal.AZUL.name(), null, null, null, 2);
+        when(repository.listar(consulta.comLimite(3))).thenReturn(List.of(resumo(1L)));
+
+        // When
+        final PaginaSolicitacoes pagina = solicitacaoService.listar(consulta);
+
+        // Then
+        assertFalse(pagina.temMais());
+        assertEquals(1, pagina.itens().size());
+    }
+
+    private ResumoSolicitacao resumo(final Long id) {
+        return new ResumoSolicitacao(id, "1234567890" + id, "João Silva", Canal.AMERICA.name(),
+                StatusSolicitacao.INICIADA, null, null, LocalDateTime.of(2024, 1, 1, 10, 0), null);
+    }
+}
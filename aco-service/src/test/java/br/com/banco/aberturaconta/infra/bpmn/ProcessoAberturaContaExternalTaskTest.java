@@ -0,0 +1,193 @@
+package br.com.banco.aberturaconta.infra.bpmn;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.externaltask.ExternalTaskQueryBuilder;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de processo no modo external-task (aco.validacao.modo=external-task).
+ *
+ * Foco: as etapas viram external tasks nos tópicos de validação e o fetch/complete/handleBpmnError feito pelo
+ * worker leva a solicitação ao mesmo desfecho do modo delegate. O teste faz o papel do worker pela API do engine.
+ */
+@SpringBootTest(properties = {
+        "camunda.bpm.generate-unique-process-engine-name=true",
+        "aco.validacao.modo=external-task",
+        "aco.validacao.worker.habilitado=false",
+        "aco.validacao.latencia-simulada-ms=0",
+        "aco.outbox.relay.habilitado=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.br.com.banco.aberturaconta=WARN"
+})
+@DisplayName("ProcessoAberturaContaPF - Testes de processo no modo external-task")
+class ProcessoAberturaContaExternalTaskTest {
+
+    private static final String PROCESSO_SEQUENCIAL = "ProcessoAberturaContaPF";
+    private static final String PROCESSO_PARALELO = "ProcessoAberturaContaPFParalelo";
+    private static final String WORKER = "worker-teste";
+    private static final long LOCK_MS = 60_000;
+    private static final long TIMEOUT_MS = 20_000;
+    private static final AtomicLong CPFS = new AtomicLong(40_000_000_000L);
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private ManagementService managementService;
+
+    @Autowired
+    private ExternalTaskService externalTaskService;
+
+    @Autowired
+    private ISolicitacaoService solicitacaoService;
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve abrir a conta quando o worker conclui todas as etapas aprovadas")
+    void deveAbrirContaQuandoTodasAprovam(final String processo) {
+        // Given
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        final Set<EtapaValidacao> executadas = executar(processo, solicitacao, (etapa, tarefa) ->
+                externalTaskService.complete(tarefa.getId(), WORKER, Map.of(etapa.getVariavelAprovado(), true)));
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.CONTA_ABERTA, finalizada.getStatus());
+        assertNotNull(finalizada.getNumeroConta());
+        assertEquals(Set.of(EtapaValidacao.values()), executadas);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve rejeitar com o código da etapa que o worker concluiu como reprovada")
+    void deveRejeitarComCodigoDaEtapa(final String processo) {
+        // Given
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        executar(processo, solicitacao, (etapa, tarefa) -> {
+            final Map<String, Object> variaveis = Map.of(etapa.getVariavelAprovado(), etapa != EtapaValidacao.SERASA);
+            final ResultadoValidacao resultado = etapa == EtapaValidacao.SERASA
+                    ? ResultadoValidacao.rejeitado(variaveis, etapa, "Score baixo")
+                    : ResultadoValidacao.aprovado(variaveis);
+            externalTaskService.complete(tarefa.getId(), WORKER, resultado.variaveisProcesso());
+        });
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.REJEITADA, finalizada.getStatus());
+        assertEquals(CodigoRejeicao.SERASA, finalizada.getCodigoRejeicao());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve rejeitar como OUTROS quando o worker reporta ERRO_<ETAPA>")
+    void deveRejeitarQuandoWorkerReportaErro(final String processo) {
+        // Given
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        executar(processo, solicitacao, (etapa, tarefa) -> {
+            if (etapa == EtapaValidacao.PIX) {
+                externalTaskService.handleBpmnError(tarefa.getId(), WORKER, etapa.getCodigoErro(), "GPI indisponível");
+            } else {
+                externalTaskService.complete(tarefa.getId(), WORKER, Map.of(etapa.getVariavelAprovado(), true));
+            }
+        });
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.REJEITADA, finalizada.getStatus());
+        assertEquals(CodigoRejeicao.OUTROS, finalizada.getCodigoRejeicao());
+    }
+
+    /**
+     * Faz o papel do worker até o processo terminar, uma tarefa por vez e só quando o job executor não tem jobs
+     * pendentes da instância: a conclusão não concorre com os ramos paralelos em criação nem com o join assíncrono.
+     */
+    private Set<EtapaValidacao> executar(final String processo, final SolicitacaoAberturaConta solicitacao,
+                                         final BiConsumer<EtapaValidacao, LockedExternalTask> worker) {
+        final String businessKey = solicitacao.getId().toString();
+        final String processInstanceId = runtimeService.startProcessInstanceByKey(processo, businessKey,
+                Map.of("solicitacaoId", solicitacao.getId())).getId();
+
+        final Set<EtapaValidacao> executadas = new HashSet<>();
+        final long limite = System.currentTimeMillis() + TIMEOUT_MS;
+        while (runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count() > 0) {
+            if (System.currentTimeMillis() > limite) {
+                fail("Processo da solicitação " + businessKey + " não terminou em " + TIMEOUT_MS + " ms");
+            }
+            if (managementService.createJobQuery().processInstanceId(processInstanceId).count() == 0) {
+                buscarTarefa(businessKey).ifPresent(tarefa -> {
+                    final EtapaValidacao etapa = etapaDoTopico(tarefa.getTopicName());
+                    executadas.add(etapa);
+                    worker.accept(etapa, tarefa);
+                });
+            }
+            esperar();
+        }
+        return executadas;
+    }
+
+    private Optional<LockedExternalTask> buscarTarefa(final String businessKey) {
+        ExternalTaskQueryBuilder consulta = externalTaskService.fetchAndLock(1, WORKER);
+        for (EtapaValidacao etapa : EtapaValidacao.values()) {
+            consulta = consulta.topic(etapa.getTopico(), LOCK_MS).businessKey(businessKey);
+        }
+        return consulta.execute().stream().findFirst();
+    }
+
+    private static EtapaValidacao etapaDoTopico(final String topico) {
+        return Arrays.stream(EtapaValidacao.values())
+                .filter(etapa -> etapa.getTopico().equals(topico))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private SolicitacaoAberturaConta novaSolicitacao() {
+        final String cpf = Long.toString(CPFS.incrementAndGet());
+        return solicitacaoService.criarSolicitacao(SolicitacaoAberturaConta.builder()
+                .cpf(cpf)
+                .nome("Cliente " + cpf)
+                .email(cpf + "@email.com")
+                .telefone("11987654321")
+                .canal(Canal.AMERICA.name())
+                .status(StatusSolicitacao.INICIADA)
+                .build());
+    }
+
+    private static void esperar() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("Espera interrompida");
+        }
+    }
+}
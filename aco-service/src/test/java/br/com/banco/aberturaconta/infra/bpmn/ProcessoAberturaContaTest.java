@@ -0,0 +1,237 @@
+package br.com.banco.aberturaconta.infra.bpmn;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
+import br.com.banco.aberturaconta.infra.bpmn.delegate.ValidarPixDelegate;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ValidacaoProviders;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.delegate.BpmnError;
+import org.camunda.bpm.engine.runtime.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes de processo para ProcessoAberturaContaPF e ProcessoAberturaContaPFParalelo.
+ *
+ * Foco: desfecho da solicitação (conta aberta ou rejeitada, com o código) para cada resultado das validações.
+ * Os provedores são substituídos por respostas imediatas; o restante roda no engine e no job executor reais.
+ */
+@SpringBootTest(properties = {
+        "camunda.bpm.generate-unique-process-engine-name=true",
+        "aco.validacao.latencia-simulada-ms=0",
+        "aco.outbox.relay.habilitado=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.br.com.banco.aberturaconta=WARN"
+})
+@DisplayName("ProcessoAberturaContaPF - Testes de processo")
+class ProcessoAberturaContaTest {
+
+    private static final String PROCESSO_SEQUENCIAL = "ProcessoAberturaContaPF";
+    private static final String PROCESSO_PARALELO = "ProcessoAberturaContaPFParalelo";
+    private static final long TIMEOUT_MS = 20_000;
+    private static final AtomicLong CPFS = new AtomicLong(30_000_000_000L);
+
+    private enum Resposta { APROVADA, REJEITADA, FALHA, SEM_RESPOSTA }
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private ManagementService managementService;
+
+    @Autowired
+    private ISolicitacaoService solicitacaoService;
+
+    @MockBean
+    private ValidacaoProviders providers;
+
+    @SpyBean
+    private ValidarPixDelegate validarPixDelegate;
+
+    private Map<EtapaValidacao, Resposta> respostas;
+
+    @BeforeEach
+    void setUp() {
+        respostas = new EnumMap<>(EtapaValidacao.class);
+        when(providers.validar(any(), any())).thenAnswer(invocacao -> responder(invocacao.getArgument(0)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve abrir a conta quando todas as validações aprovam")
+    void deveAbrirContaQuandoTodasAprovam(final String processo) {
+        // Given
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        executar(processo, solicitacao);
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.CONTA_ABERTA, finalizada.getStatus());
+        assertNotNull(finalizada.getNumeroConta());
+        assertNull(finalizada.getCodigoRejeicao());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve rejeitar com o código da etapa que reprovou")
+    void deveRejeitarComCodigoDaEtapa(final String processo) {
+        // Given
+        respostas.put(EtapaValidacao.SERASA, Resposta.REJEITADA);
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        executar(processo, solicitacao);
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.REJEITADA, finalizada.getStatus());
+        assertEquals(CodigoRejeicao.SERASA, finalizada.getCodigoRejeicao());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve rejeitar como OUTROS quando o provedor falha")
+    void deveRejeitarQuandoProvedorFalha(final String processo) {
+        // Given
+        respostas.put(EtapaValidacao.PIX, Resposta.FALHA);
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        executar(processo, solicitacao);
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.REJEITADA, finalizada.getStatus());
+        assertEquals(CodigoRejeicao.OUTROS, finalizada.getCodigoRejeicao());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve rejeitar como OUTROS quando a etapa lança erro técnico (ERRO_<ETAPA>)")
+    void deveRejeitarComErroTecnicoDaEtapa(final String processo) {
+        // Given
+        doThrow(new BpmnError(EtapaValidacao.PIX.getCodigoErro())).when(validarPixDelegate).execute(any());
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+
+        // When
+        executar(processo, solicitacao);
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.REJEITADA, finalizada.getStatus());
+        assertEquals(CodigoRejeicao.OUTROS, finalizada.getCodigoRejeicao());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {PROCESSO_SEQUENCIAL, PROCESSO_PARALELO})
+    @DisplayName("Deve rejeitar como OUTROS quando o resultado não chega no prazo")
+    void deveRejeitarQuandoResultadoNaoChegaNoPrazo(final String processo) {
+        // Given
+        respostas.put(EtapaValidacao.PIX, Resposta.SEM_RESPOSTA);
+        final SolicitacaoAberturaConta solicitacao = novaSolicitacao();
+        final String businessKey = solicitacao.getId().toString();
+        final String processInstanceId = iniciar(processo, solicitacao);
+
+        // When
+        aguardar(() -> somenteAguardandoPix(processInstanceId), "espera isolada do resultado PIX de " + businessKey);
+        managementService.executeJob(prazoResultadoPix(processInstanceId).getId());
+        aguardarFim(businessKey);
+
+        // Then
+        final SolicitacaoAberturaConta finalizada = solicitacaoService.buscarPorId(solicitacao.getId());
+        assertEquals(StatusSolicitacao.REJEITADA, finalizada.getStatus());
+        assertEquals(CodigoRejeicao.OUTROS, finalizada.getCodigoRejeicao());
+    }
+
+    private CompletableFuture<ResultadoValidacao> responder(final EtapaValidacao etapa) {
+        final Resposta resposta = respostas.getOrDefault(etapa, Resposta.APROVADA);
+        final Map<String, Object> variaveis = Map.of(etapa.getVariavelAprovado(), resposta == Resposta.APROVADA);
+        return switch (resposta) {
+            case APROVADA -> CompletableFuture.supplyAsync(() -> ResultadoValidacao.aprovado(variaveis));
+            case REJEITADA -> CompletableFuture.supplyAsync(() -> ResultadoValidacao.rejeitado(variaveis, etapa, "Reprovada no teste"));
+            case FALHA -> CompletableFuture.failedFuture(new IllegalStateException("Provedor indisponível no teste"));
+            case SEM_RESPOSTA -> new CompletableFuture<>();
+        };
+    }
+
+    /** No paralelo, os outros ramos precisam ter chegado ao join para o timer não concorrer com eles. */
+    private boolean somenteAguardandoPix(final String processInstanceId) {
+        return prazoResultadoPix(processInstanceId) != null
+                && managementService.createJobQuery().processInstanceId(processInstanceId).count() == 1;
+    }
+
+    private Job prazoResultadoPix(final String processInstanceId) {
+        return managementService.createJobQuery()
+                .processInstanceId(processInstanceId)
+                .activityId("PrazoResultadoPix")
+                .timers()
+                .singleResult();
+    }
+
+    private SolicitacaoAberturaConta novaSolicitacao() {
+        final String cpf = Long.toString(CPFS.incrementAndGet());
+        return solicitacaoService.criarSolicitacao(SolicitacaoAberturaConta.builder()
+                .cpf(cpf)
+                .nome("Cliente " + cpf)
+                .email(cpf + "@email.com")
+                .telefone("11987654321")
+                .canal(Canal.AMERICA.name())
+                .status(StatusSolicitacao.INICIADA)
+                .build());
+    }
+
+    private String iniciar(final String processo, final SolicitacaoAberturaConta solicitacao) {
+        return runtimeService.startProcessInstanceByKey(processo, solicitacao.getId().toString(),
+                Map.of("solicitacaoId", solicitacao.getId())).getId();
+    }
+
+    private void executar(final String processo, final SolicitacaoAberturaConta solicitacao) {
+        iniciar(processo, solicitacao);
+        aguardarFim(solicitacao.getId().toString());
+    }
+
+    private void aguardarFim(final String businessKey) {
+        aguardar(() -> runtimeService.createProcessInstanceQuery().processInstanceBusinessKey(businessKey).count() == 0,
+                "fim do processo da solicitação " + businessKey);
+    }
+
+    private static void aguardar(final BooleanSupplier condicao, final String descricao) {
+        final long limite = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condicao.getAsBoolean()) {
+            if (System.currentTimeMillis() > limite) {
+                fail("Sem " + descricao + " em " + TIMEOUT_MS + " ms");
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Espera interrompida");
+            }
+        }
+    }
+}
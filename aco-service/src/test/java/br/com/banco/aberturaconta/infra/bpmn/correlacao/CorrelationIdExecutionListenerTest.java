@@ -0,0 +1,164 @@
+package br.com.banco.aberturaconta.infra.bpmn.correlacao;
+
+import br.com.banco.aberturaconta.infra.config.AsyncConfig;
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import org.camunda.bpm.spring.boot.starter.property.CamundaBpmProperties;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CorrelationIdExecutionListener e CorrelationIdUtil.propagar.
+ *
+ * Foco: correlation ID guardado no processo, restaurado nas tarefas e sem sobra nas threads do pool,
+ * inclusive nas do job executor do Camunda.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CorrelationIdExecutionListener - Propagação do correlation ID")
+class CorrelationIdExecutionListenerTest {
+
+    @Mock
+    private DelegateExecution execution;
+
+    @AfterEach
+    void tearDown() {
+        CorrelationIdUtil.clearCorrelationId();
+    }
+
+    @Test
+    @DisplayName("Deve guardar o correlation ID da thread como variável no início do processo")
+    void deveGuardarCorrelationIdNoInicioDoProcesso() {
+        // Given
+        CorrelationIdUtil.setCorrelationId("corr-1");
+        when(execution.getEventName()).thenReturn(ExecutionListener.EVENTNAME_START);
+        when(execution.hasVariable(CorrelationIdExecutionListener.VARIAVEL)).thenReturn(false);
+
+        // When
+        CorrelationIdExecutionListener.PROCESSO.notify(execution);
+
+        // Then
+        verify(execution).setVariable(CorrelationIdExecutionListener.VARIAVEL, "corr-1");
+    }
+
+    @Test
+    @DisplayName("Não deve gerar correlation ID novo para o processo quando a thread não tem um")
+    void naoDeveGerarCorrelationIdNoInicioDoProcesso() {
+        // Given
+        when(execution.getEventName()).thenReturn(ExecutionListener.EVENTNAME_START);
+
+        // When
+        CorrelationIdExecutionListener.PROCESSO.notify(execution);
+
+        // Then
+        verify(execution, never()).setVariable(anyString(), any());
+        assertFalse(CorrelationIdUtil.hasCorrelationId());
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o correlation ID do processo no início da tarefa e limpar no fim do processo")
+    void deveRestaurarNaTarefaELimparNoFim() {
+        // Given
+        CorrelationIdUtil.setCorrelationId("outro-processo");
+        when(execution.getVariable(CorrelationIdExecutionListener.VARIAVEL)).thenReturn("corr-1");
+
+        // When
+        CorrelationIdExecutionListener.TAREFA.notify(execution);
+        final String naTarefa = CorrelationIdUtil.getCorrelationId();
+        when(execution.getEventName()).thenReturn(ExecutionListener.EVENTNAME_END);
+        CorrelationIdExecutionListener.PROCESSO.notify(execution);
+
+        // Then
+        assertEquals("corr-1", naTarefa);
+        assertFalse(CorrelationIdUtil.hasCorrelationId());
+    }
+
+    @Test
+    @DisplayName("Deve levar o correlation ID para a tarefa do executor sem deixá-lo na thread do pool")
+    void devePropagarParaExecutorSemVazamento() throws Exception {
+        // Given
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            CorrelationIdUtil.setCorrelationId("corr-1");
+            final String[] visto = new String[2];
+
+            // When
+            executor.submit(CorrelationIdUtil.propagar(() -> visto[0] = CorrelationIdUtil.getCorrelationId()))
+                    .get(1, TimeUnit.SECONDS);
+            executor.submit(() -> visto[1] = String.valueOf(CorrelationIdUtil.hasCorrelationId()))
+                    .get(1, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals("corr-1", visto[0]);
+            assertEquals("false", visto[1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver ao estado anterior a thread de tarefa submetida sem correlation ID")
+    void deveLimparIdDefinidoPelaTarefaSemIdDeQuemSubmete() throws Exception {
+        // Given
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final String[] visto = new String[2];
+
+            // When
+            executor.submit(CorrelationIdUtil.propagar(() -> {
+                CorrelationIdUtil.setCorrelationId("corr-1");
+                visto[0] = CorrelationIdUtil.getCorrelationId();
+            })).get(1, TimeUnit.SECONDS);
+            executor.submit(() -> visto[1] = String.valueOf(CorrelationIdUtil.hasCorrelationId()))
+                    .get(1, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals("corr-1", visto[0]);
+            assertEquals("false", visto[1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve deixar o correlation ID de um job para o próximo job da mesma thread do job executor")
+    void naoDeveVazarCorrelationIdEntreJobs() throws Exception {
+        // Given
+        final CamundaBpmProperties properties = new CamundaBpmProperties();
+        properties.getJobExecution().setCorePoolSize(1);
+        properties.getJobExecution().setMaxPoolSize(1);
+        final ThreadPoolTaskExecutor jobExecutor =
+                (ThreadPoolTaskExecutor) new AsyncConfig().camundaTaskExecutor(properties);
+        when(execution.getVariable(CorrelationIdExecutionListener.VARIAVEL)).thenReturn("corr-1");
+        try {
+            final String[] visto = new String[2];
+
+            // When
+            CompletableFuture.runAsync(() -> {
+                CorrelationIdExecutionListener.TAREFA.notify(execution);
+                visto[0] = CorrelationIdUtil.getCorrelationId();
+            }, jobExecutor).get(1, TimeUnit.SECONDS);
+            CompletableFuture.runAsync(() -> visto[1] = String.valueOf(CorrelationIdUtil.hasCorrelationId()),
+                    jobExecutor).get(1, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals("corr-1", visto[0]);
+            assertEquals("false", visto[1]);
+        } finally {
+            jobExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.banco.aberturaconta.infra.bpmn.historico;
+
+import br.com.banco.aberturaconta.infra.entity.HistoricoProcessoData;
+import br.com.banco.aberturaconta.infra.historico.HistoricoProcessoService;
+import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para HistoricoCompactoEventHandler.
+ *
+ * Foco: conversão dos eventos do engine e entrega das linhas só após o commit.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoricoCompactoEventHandler - Histórico compacto do Camunda")
+class HistoricoCompactoEventHandlerTest {
+
+    @Mock
+    private HistoricoProcessoService historicoProcesso;
+
+    private HistoricoCompactoEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new HistoricoCompactoEventHandler(historicoProcesso);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Deve entregar as linhas da transação somente após o commit")
+    @SuppressWarnings("unchecked")
+    void deveEntregarLinhasAposCommit() {
+        // Given
+        handler.handleEvent(processo(HistoryEventTypes.PROCESS_INSTANCE_START, "StartEvent_1"));
+        handler.handleEvent(atividade(HistoryEventTypes.ACTIVITY_INSTANCE_END, ActivityTypes.TASK_SERVICE));
+        handler.handleEvent(processo(HistoryEventTypes.PROCESS_INSTANCE_END, "EndEvent_Sucesso"));
+        verifyNoInteractions(historicoProcesso);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        final ArgumentCaptor<List<HistoricoProcessoData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(historicoProcesso).registrar(captor.capture());
+        final List<HistoricoProcessoData> linhas = captor.getValue();
+        assertEquals(List.of(HistoricoProcessoData.Tipo.INICIO_PROCESSO, HistoricoProcessoData.Tipo.FIM_ATIVIDADE,
+                HistoricoProcessoData.Tipo.FIM_PROCESSO), linhas.stream().map(HistoricoProcessoData::getTipo).toList());
+        assertEquals("42", linhas.get(0).getChaveNegocio());
+        assertEquals("ValidarTopaz", linhas.get(1).getAtividade());
+        assertEquals("EndEvent_Sucesso", linhas.get(2).getAtividade());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as linhas de transação desfeita")
+    void deveDescartarLinhasNoRollback() {
+        // Given
+        handler.handleEvent(processo(HistoryEventTypes.PROCESS_INSTANCE_START, "StartEvent_1"));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(historicoProcesso, never()).registrar(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve usar um acumulador por transação e desligá-lo na suspensão e na conclusão")
+    void deveLigarAcumuladorPorTransacao() {
+        // Given
+        handler.handleEvent(processo(HistoryEventTypes.PROCESS_INSTANCE_START, "StartEvent_1"));
+        handler.handleEvent(processo(HistoryEventTypes.PROCESS_INSTANCE_END, "EndEvent_Sucesso"));
+        final List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, sincronizacoes.size());
+        assertNotNull(TransactionSynchronizationManager.getResource(handler));
+
+        // When
+        sincronizacoes.forEach(TransactionSynchronization::suspend);
+        final boolean ligadoNaSuspensao = TransactionSynchronizationManager.hasResource(handler);
+        sincronizacoes.forEach(TransactionSynchronization::resume);
+        sincronizacoes.forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertFalse(ligadoNaSuspensao);
+        assertFalse(TransactionSynchronizationManager.hasResource(handler));
+        verify(historicoProcesso).registrar(argThat(linhas -> linhas.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar atividades que não são tarefas")
+    void deveIgnorarAtividadesQueNaoSaoTarefas() {
+        // Given
+        final var gateway = atividade(HistoryEventTypes.ACTIVITY_INSTANCE_START, ActivityTypes.GATEWAY_EXCLUSIVE);
+
+        // When
+        handler.handleEvent(gateway);
+
+        // Then
+        assertNull(HistoricoCompactoEventHandler.converter(gateway));
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    private static HistoricProcessInstanceEventEntity processo(final HistoryEventTypes tipo, final String atividade) {
+        final var evento = new HistoricProcessInstanceEventEntity();
+        evento.setEventType(tipo.getEventName());
+        evento.setProcessInstanceId("pi-1");
+        evento.setBusinessKey("42");
+        evento.setStartActivityId(atividade);
+        evento.setEndActivityId(atividade);
+        evento.setStartTime(new Date());
+        evento.setEndTime(new Date());
+        return evento;
+    }
+
+    private static HistoricActivityInstanceEventEntity atividade(final HistoryEventTypes tipo, final String tipoAtividade) {
+        final var evento = new HistoricActivityInstanceEventEntity();
+        evento.setEventType(tipo.getEventName());
+        evento.setProcessInstanceId("pi-1");
+        evento.setActivityId("ValidarTopaz");
+        evento.setActivityType(tipoAtividade);
+        evento.setStartTime(new Date());
+        evento.setEndTime(new Date());
+        return evento;
+    }
+}
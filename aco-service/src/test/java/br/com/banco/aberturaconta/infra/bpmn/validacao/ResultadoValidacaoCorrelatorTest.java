@@ -0,0 +1,126 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import org.camunda.bpm.engine.OptimisticLockingException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.runtime.Execution;
+import org.camunda.bpm.engine.runtime.ExecutionQuery;
+import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.camunda.bpm.engine.runtime.MessageCorrelationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ResultadoValidacaoCorrelator.
+ *
+ * Foco: a falha do provedor chega ao processo como rejeição e a correlação que não passa abre incidente.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultadoValidacaoCorrelator - Correlação do resultado das validações")
+class ResultadoValidacaoCorrelatorTest {
+
+    private static final Long SOLICITACAO_ID = 42L;
+
+    @Mock
+    private RuntimeService runtimeService;
+
+    @Mock
+    private SolicitacaoApplicationService solicitacaoService;
+
+    private MessageCorrelationBuilder correlacao;
+
+    private ResultadoValidacaoCorrelator correlator;
+
+    @BeforeEach
+    void setUp() {
+        correlacao = mock(MessageCorrelationBuilder.class, RETURNS_SELF);
+        when(runtimeService.createMessageCorrelation(anyString())).thenReturn(correlacao);
+        correlator = new ResultadoValidacaoCorrelator(runtimeService, solicitacaoService, Runnable::run, "PT10M");
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o status e correlacionar o resultado do provedor")
+    void deveCorrelacionarResultado() {
+        // Given
+        final Map<String, Object> variaveis = Map.of("pixAprovado", true);
+        when(correlacao.correlateAllWithResult()).thenReturn(List.of(mock(MessageCorrelationResult.class)));
+
+        // When
+        correlator.aguardar(EtapaValidacao.PIX, SOLICITACAO_ID,
+                CompletableFuture.completedFuture(ResultadoValidacao.aprovado(variaveis)));
+
+        // Then
+        verify(solicitacaoService).atualizarStatus(SOLICITACAO_ID, EtapaValidacao.PIX.getStatus());
+        verify(runtimeService).createMessageCorrelation(EtapaValidacao.PIX.getMensagemResultado());
+        verify(correlacao).processInstanceBusinessKey("42");
+        verify(correlacao).setVariables(variaveis);
+    }
+
+    @Test
+    @DisplayName("Deve correlacionar a falha do provedor como rejeição com o código ERRO_<ETAPA>")
+    void deveCorrelacionarFalhaComoRejeicao() {
+        // Given
+        when(correlacao.correlateAllWithResult()).thenReturn(List.of(mock(MessageCorrelationResult.class)));
+
+        // When
+        correlator.aguardar(EtapaValidacao.PIX, SOLICITACAO_ID,
+                CompletableFuture.failedFuture(new IllegalStateException("Provedor indisponível")));
+
+        // Then
+        verify(correlacao).setVariables(Map.of(
+                "pixAprovado", false,
+                ResultadoValidacao.VARIAVEL_CODIGO_REJEICAO, EtapaValidacao.PIX.getCodigoErro()));
+        verifyNoInteractions(solicitacaoService);
+    }
+
+    @Test
+    @DisplayName("Deve abrir incidente na receive task quando a correlação falha em todas as tentativas")
+    void deveAbrirIncidenteQuandoCorrelacaoNaoPassa() {
+        // Given
+        when(correlacao.correlateAllWithResult()).thenThrow(new OptimisticLockingException("conflito"));
+        final ExecutionQuery consulta = mock(ExecutionQuery.class, RETURNS_SELF);
+        final Execution aguardando = mock(Execution.class);
+        when(aguardando.getId()).thenReturn("exec-1");
+        when(consulta.singleResult()).thenReturn(aguardando);
+        when(runtimeService.createExecutionQuery()).thenReturn(consulta);
+
+        // When
+        correlator.aguardar(EtapaValidacao.SERASA, SOLICITACAO_ID,
+                CompletableFuture.failedFuture(new IllegalStateException("Provedor indisponível")));
+
+        // Then
+        verify(runtimeService, timeout(10_000)).createIncident(
+                ResultadoValidacaoCorrelator.TIPO_INCIDENTE, "exec-1", EtapaValidacao.SERASA.name(), "conflito");
+        verify(consulta).messageEventSubscriptionName(EtapaValidacao.SERASA.getMensagemResultado());
+        verify(correlacao, times(10)).correlateAllWithResult();
+    }
+
+    @Test
+    @DisplayName("Não deve abrir incidente quando o processo não aguarda mais o resultado")
+    void naoDeveAbrirIncidenteSemExecucaoAguardando() {
+        // Given
+        when(correlacao.correlateAllWithResult()).thenThrow(new OptimisticLockingException("conflito"));
+        final ExecutionQuery consulta = mock(ExecutionQuery.class, RETURNS_SELF);
+        when(runtimeService.createExecutionQuery()).thenReturn(consulta);
+
+        // When
+        correlator.aguardar(EtapaValidacao.SERASA, SOLICITACAO_ID,
+                CompletableFuture.failedFuture(new IllegalStateException("Provedor indisponível")));
+
+        // Then
+        verify(consulta, timeout(10_000)).singleResult();
+        verify(runtimeService, never()).createIncident(anyString(), anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import org.camunda.bpm.engine.impl.bpmn.behavior.ExternalTaskActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.behavior.ReceiveTaskActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.behavior.ServiceTaskDelegateExpressionActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.behavior.TaskActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.pvm.delegate.ActivityBehavior;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ProcessDefinitionImpl;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para ValidacaoExternalTaskParseListener.
+ *
+ * Foco: só as atividades das etapas de validação trocam de comportamento.
+ */
+@DisplayName("ValidacaoExternalTaskParseListener - Troca de comportamento no modo external-task")
+class ValidacaoExternalTaskParseListenerTest {
+
+    private final ValidacaoExternalTaskParseListener listener = new ValidacaoExternalTaskParseListener();
+
+    private ProcessDefinitionImpl processo;
+
+    @BeforeEach
+    void setUp() {
+        processo = new ProcessDefinitionImpl("ProcessoAberturaContaPF");
+    }
+
+    @Test
+    @DisplayName("Deve converter a service task da etapa em external task")
+    void deveConverterServiceTaskDaEtapa() {
+        // Given
+        final ActivityImpl atividade = atividade("ValidarPix", mock(ServiceTaskDelegateExpressionActivityBehavior.class));
+
+        // When
+        listener.parseServiceTask(serviceTask("${validarPixDelegate}"), processo, atividade);
+
+        // Then
+        assertInstanceOf(ExternalTaskActivityBehavior.class, atividade.getActivityBehavior());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar service tasks que não são de validação")
+    void naoDeveAlterarOutrasServiceTasks() {
+        // Given
+        final ServiceTaskDelegateExpressionActivityBehavior original = mock(ServiceTaskDelegateExpressionActivityBehavior.class);
+        final ActivityImpl atividade = atividade("AbrirContaSistemaInterno", original);
+
+        // When
+        listener.parseServiceTask(serviceTask("${abrirContaSistemaInternoDelegate}"), processo, atividade);
+
+        // Then
+        assertSame(original, atividade.getActivityBehavior());
+    }
+
+    @Test
+    @DisplayName("Deve fazer a receive task de resultado passar direto")
+    void deveFazerReceiveTaskDeResultadoPassarDireto() {
+        // Given
+        final ActivityImpl atividade = atividade("AguardarResultadoPix", new ReceiveTaskActivityBehavior());
+
+        // When
+        listener.parseReceiveTask(receiveTask(EtapaValidacao.PIX.getMensagemResultado()), processo, atividade);
+
+        // Then
+        assertEquals(TaskActivityBehavior.class, atividade.getActivityBehavior().getClass());
+    }
+
+    @Test
+    @DisplayName("Não deve alterar receive tasks de outras mensagens")
+    void naoDeveAlterarOutrasReceiveTasks() {
+        // Given
+        final ReceiveTaskActivityBehavior original = new ReceiveTaskActivityBehavior();
+        final ActivityImpl atividade = atividade("AguardarOutraCoisa", original);
+
+        // When
+        listener.parseReceiveTask(receiveTask("OUTRA_MENSAGEM"), processo, atividade);
+
+        // Then
+        assertSame(original, atividade.getActivityBehavior());
+    }
+
+    @Test
+    @DisplayName("Deve cobrir todas as etapas pela expressão do delegate e pela mensagem de resultado")
+    void deveCobrirTodasAsEtapas() {
+        for (EtapaValidacao etapa : EtapaValidacao.values()) {
+            assertEquals(etapa, EtapaValidacao.fromDelegateExpression("${" + etapa.getDelegate() + "}").orElseThrow());
+            assertEquals(etapa, EtapaValidacao.fromMensagemResultado(etapa.getMensagemResultado()).orElseThrow());
+        }
+    }
+
+    private ActivityImpl atividade(final String id, final ActivityBehavior comportamento) {
+        final ActivityImpl atividade = processo.createActivity(id);
+        atividade.setActivityBehavior(comportamento);
+        return atividade;
+    }
+
+    private static Element serviceTask(final String delegateExpression) {
+        final Element elemento = mock(Element.class);
+        when(elemento.attributeNS(BpmnParse.CAMUNDA_BPMN_EXTENSIONS_NS, "delegateExpression")).thenReturn(delegateExpression);
+        return elemento;
+    }
+
+    private static Element receiveTask(final String messageRef) {
+        final Element elemento = mock(Element.class);
+        when(elemento.attribute("messageRef")).thenReturn(messageRef);
+        return elemento;
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.banco.aberturaconta.infra.bpmn.validacao;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import org.camunda.bpm.client.exception.ExternalTaskClientException;
+import org.camunda.bpm.client.exception.NotFoundException;
+import org.camunda.bpm.client.exception.RestException;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ValidacaoExternalTaskWorker.
+ *
+ * Foco: conclusão da external task com o resultado, erro BPMN na falha do provedor, reenvio dos conflitos e
+ * limite de tarefas em andamento segurando o handler de fetch.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValidacaoExternalTaskWorker - Worker das validações em external task")
+class ValidacaoExternalTaskWorkerTest {
+
+    private static final long ESPERA_MS = 5_000;
+
+    @Mock
+    private ValidacaoProviders providers;
+
+    @Mock
+    private SolicitacaoApplicationService solicitacaoService;
+
+    @Mock
+    private ExternalTask tarefa;
+
+    @Mock
+    private ExternalTaskService servico;
+
+    private ValidacaoExternalTaskWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ValidacaoExternalTaskWorker(providers, solicitacaoService, "http://localhost/engine-rest",
+                10, 1000, 1000, 2, 1);
+        when(tarefa.getBusinessKey()).thenReturn("42");
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o status e concluir a tarefa com as variáveis do resultado")
+    void deveConcluirTarefaComResultado() {
+        // Given
+        final ResultadoValidacao resultado = ResultadoValidacao.rejeitado(Map.of("serasaAprovado", false),
+                EtapaValidacao.SERASA, "Score baixo");
+        when(providers.validar(EtapaValidacao.SERASA, 42L)).thenReturn(CompletableFuture.completedFuture(resultado));
+
+        // When
+        worker.processar(EtapaValidacao.SERASA, tarefa, servico);
+
+        // Then
+        verify(servico, timeout(ESPERA_MS)).complete(tarefa, resultado.variaveisProcesso());
+        verify(solicitacaoService).atualizarStatus(42L, EtapaValidacao.SERASA.getStatus());
+        verify(servico, never()).handleBpmnError(any(ExternalTask.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve reportar ERRO_<ETAPA> quando o provedor falha")
+    void deveReportarErroQuandoProvedorFalha() {
+        // Given
+        when(providers.validar(EtapaValidacao.PIX, 42L))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("GPI indisponível")));
+
+        // When
+        worker.processar(EtapaValidacao.PIX, tarefa, servico);
+
+        // Then
+        verify(servico, timeout(ESPERA_MS)).handleBpmnError(tarefa, EtapaValidacao.PIX.getCodigoErro(), "GPI indisponível");
+        verify(servico, never()).complete(any(ExternalTask.class), anyMap());
+        verifyNoInteractions(solicitacaoService);
+    }
+
+    @Test
+    @DisplayName("Deve reportar ERRO_<ETAPA> quando o provedor lança exceção no disparo")
+    void deveReportarErroQuandoProvedorLancaExcecao() {
+        // Given
+        when(providers.validar(EtapaValidacao.PIX, 42L)).thenThrow(new IllegalStateException("Pool esgotado"));
+
+        // When
+        worker.processar(EtapaValidacao.PIX, tarefa, servico);
+
+        // Then
+        verify(servico, timeout(ESPERA_MS)).handleBpmnError(tarefa, EtapaValidacao.PIX.getCodigoErro(), "Pool esgotado");
+    }
+
+    @Test
+    @DisplayName("Não deve reenviar a conclusão de tarefa já cancelada pelo processo")
+    void naoDeveReenviarTarefaCancelada() throws InterruptedException {
+        // Given
+        when(providers.validar(EtapaValidacao.TOPAZ, 42L))
+                .thenReturn(CompletableFuture.completedFuture(ResultadoValidacao.aprovado(Map.of("topazAprovado", true))));
+        doThrow(new NotFoundException("Tarefa não encontrada", new RestException("404", "NotFound", 404)))
+                .when(servico).complete(any(ExternalTask.class), anyMap());
+
+        // When
+        worker.processar(EtapaValidacao.TOPAZ, tarefa, servico);
+
+        // Then
+        verify(servico, timeout(ESPERA_MS)).complete(any(ExternalTask.class), anyMap());
+        Thread.sleep(500);
+        verify(servico, times(1)).complete(any(ExternalTask.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar a conclusão em conflito até o limite de tentativas")
+    void deveReenviarConclusaoEmConflito() {
+        // Given
+        when(providers.validar(EtapaValidacao.ANTIFRAUDE, 42L))
+                .thenReturn(CompletableFuture.completedFuture(ResultadoValidacao.aprovado(Map.of("antifraudeAprovado", true))));
+        doThrow(new ExternalTaskClientException("Conflito no join"))
+                .doThrow(new ExternalTaskClientException("Conflito no join"))
+                .doNothing()
+                .when(servico).complete(any(ExternalTask.class), anyMap());
+
+        // When
+        worker.processar(EtapaValidacao.ANTIFRAUDE, tarefa, servico);
+
+        // Then
+        verify(servico, timeout(ESPERA_MS).times(3)).complete(any(ExternalTask.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve segurar o handler no limite de tarefas em andamento até a anterior ser concluída")
+    void deveSegurarHandlerNoLimiteDeTarefasEmAndamento() throws InterruptedException {
+        // Given
+        final CompletableFuture<ResultadoValidacao> respostaPix = new CompletableFuture<>();
+        when(providers.validar(EtapaValidacao.PIX, 42L)).thenReturn(respostaPix);
+        when(providers.validar(EtapaValidacao.TOPAZ, 42L))
+                .thenReturn(CompletableFuture.completedFuture(ResultadoValidacao.aprovado(Map.of("topazAprovado", true))));
+        worker.processar(EtapaValidacao.PIX, tarefa, servico);
+
+        // When
+        final Thread fetch = Thread.ofPlatform().start(() -> worker.processar(EtapaValidacao.TOPAZ, tarefa, servico));
+        Thread.sleep(300);
+        final boolean bloqueado = fetch.isAlive();
+        respostaPix.complete(ResultadoValidacao.aprovado(Map.of("pixAprovado", true)));
+        fetch.join(ESPERA_MS);
+
+        // Then
+        assertTrue(bloqueado);
+        assertFalse(fetch.isAlive());
+        verify(servico, timeout(ESPERA_MS).times(2)).complete(any(ExternalTask.class), anyMap());
+    }
+}
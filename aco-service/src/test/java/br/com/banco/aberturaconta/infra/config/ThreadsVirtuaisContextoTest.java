@@ -0,0 +1,146 @@
+package br.com.banco.aberturaconta.infra.config;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.service.ISolicitacaoService;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.EtapaValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ResultadoValidacao;
+import br.com.banco.aberturaconta.infra.bpmn.validacao.ValidacaoProviders;
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import org.camunda.bpm.engine.RuntimeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Teste de contexto com {@code spring.threads.virtual.enabled=true}.
+ *
+ * Foco: o contexto sobe no modo virtual, os executores do {@link AsyncConfig} rodam em threads virtuais com o
+ * correlation ID de quem submete, o monitor de pinning é registrado e o processo termina pelo job executor virtual.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "camunda.bpm.generate-unique-process-engine-name=true",
+        "spring.datasource.url=jdbc:h2:mem:threads-virtuais-contexto;DB_CLOSE_DELAY=-1",
+        "aco.validacao.latencia-simulada-ms=0",
+        "aco.outbox.relay.habilitado=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.br.com.banco.aberturaconta=WARN"
+})
+@DisplayName("AsyncConfig - Contexto no modo de threads virtuais")
+class ThreadsVirtuaisContextoTest {
+
+    private static final String CORRELATION_ID = "018f3c6e-7a51-7b2e-9c4d-2f4b8f3a9d10";
+    private static final long TIMEOUT_MS = 20_000;
+
+    @Autowired
+    private ApplicationContext contexto;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @Autowired
+    @Qualifier("validacaoExecutor")
+    private Executor validacaoExecutor;
+
+    @Autowired
+    @Qualifier("camundaTaskExecutor")
+    private TaskExecutor camundaTaskExecutor;
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private ISolicitacaoService solicitacaoService;
+
+    @MockBean
+    private ValidacaoProviders providers;
+
+    @AfterEach
+    void tearDown() {
+        CorrelationIdUtil.clearCorrelationId();
+    }
+
+    @Test
+    @DisplayName("Deve registrar os executores virtuais e o monitor de pinning")
+    void deveRegistrarExecutoresVirtuaisEMonitor() {
+        // Then
+        assertInstanceOf(SimpleAsyncTaskExecutor.class, taskExecutor);
+        assertInstanceOf(SimpleAsyncTaskExecutor.class, validacaoExecutor);
+        assertInstanceOf(SimpleAsyncTaskExecutor.class, camundaTaskExecutor);
+        assertNotNull(contexto.getBean(ThreadsVirtuaisPinningMonitor.class));
+    }
+
+    @Test
+    @DisplayName("Deve executar as tarefas em threads virtuais com o correlation ID de quem submete")
+    void deveExecutarEmThreadVirtualComCorrelationId() throws Exception {
+        for (Executor executor : new Executor[] {taskExecutor, validacaoExecutor, camundaTaskExecutor}) {
+            // Given
+            CorrelationIdUtil.setCorrelationId(CORRELATION_ID);
+            final CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+            final CompletableFuture<String> correlationId = new CompletableFuture<>();
+
+            // When
+            executor.execute(() -> {
+                virtual.complete(Thread.currentThread().isVirtual());
+                correlationId.complete(CorrelationIdUtil.getCorrelationId());
+            });
+
+            // Then
+            assertTrue(virtual.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertEquals(CORRELATION_ID, correlationId.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve concluir o processo pelo job executor em threads virtuais")
+    void deveConcluirProcessoNoModoVirtual() throws InterruptedException {
+        // Given
+        when(providers.validar(any(), any())).thenAnswer(invocacao -> {
+            final EtapaValidacao etapa = invocacao.getArgument(0);
+            return CompletableFuture.completedFuture(
+                    ResultadoValidacao.aprovado(Map.of(etapa.getVariavelAprovado(), true)));
+        });
+        final SolicitacaoAberturaConta solicitacao = solicitacaoService.criarSolicitacao(SolicitacaoAberturaConta.builder()
+                .cpf("50000000001")
+                .nome("Cliente virtual")
+                .email("virtual@email.com")
+                .telefone("11987654321")
+                .canal(Canal.AMERICA.name())
+                .status(StatusSolicitacao.INICIADA)
+                .build());
+        final String businessKey = solicitacao.getId().toString();
+
+        // When
+        runtimeService.startProcessInstanceByKey("ProcessoAberturaContaPF", businessKey,
+                Map.of("solicitacaoId", solicitacao.getId()));
+        final long limite = System.currentTimeMillis() + TIMEOUT_MS;
+        while (runtimeService.createProcessInstanceQuery().processInstanceBusinessKey(businessKey).count() > 0) {
+            if (System.currentTimeMillis() > limite) {
+                fail("Processo da solicitação " + businessKey + " não terminou em " + TIMEOUT_MS + " ms");
+            }
+            Thread.sleep(100);
+        }
+
+        // Then
+        assertEquals(StatusSolicitacao.CONTA_ABERTA, solicitacaoService.buscarPorId(solicitacao.getId()).getStatus());
+    }
+}
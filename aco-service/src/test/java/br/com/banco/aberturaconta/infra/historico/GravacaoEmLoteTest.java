@@ -0,0 +1,71 @@
+package br.com.banco.aberturaconta.infra.historico;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para GravacaoEmLote.
+ *
+ * Foco: lotes de tamanho-lote, descarte com a fila cheia e descarte do lote cuja gravação falha.
+ */
+@DisplayName("GravacaoEmLote - Fila com gravação periódica em lotes")
+class GravacaoEmLoteTest {
+
+    private final List<List<Integer>> gravados = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lotes e contar o que não coube na fila")
+    void deveGravarEmLotesEDescartarExcedente() {
+        // Given
+        final GravacaoEmLote<Integer> gravacao = new GravacaoEmLote<>("teste", "histórico de teste",
+                lote -> gravados.add(List.copyOf(lote)), meterRegistry, 3, 2);
+        for (int i = 1; i <= 5; i++) {
+            gravacao.registrar(i);
+        }
+        assertEquals(3.0, meterRegistry.get("teste.pendentes").gauge().value());
+
+        // When
+        gravacao.gravarPendentes();
+
+        // Then
+        assertEquals(List.of(List.of(1, 2), List.of(3)), gravados);
+        assertEquals(2.0, meterRegistry.counter("teste.descartados").count());
+        assertEquals(0.0, meterRegistry.get("teste.pendentes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o lote com falha e seguir com os próximos")
+    void deveDescartarLoteComFalha() {
+        // Given
+        final GravacaoEmLote<Integer> gravacao = new GravacaoEmLote<>("teste", "histórico de teste", lote -> {
+            if (lote.contains(1)) {
+                throw new IllegalStateException("Banco indisponível");
+            }
+            gravados.add(List.copyOf(lote));
+        }, meterRegistry, 10, 2);
+        for (int i = 1; i <= 3; i++) {
+            gravacao.registrar(i);
+        }
+
+        // When
+        gravacao.gravarPendentes();
+
+        // Then
+        assertEquals(List.of(List.of(3)), gravados);
+        assertEquals(2.0, meterRegistry.counter("teste.descartados").count());
+    }
+}
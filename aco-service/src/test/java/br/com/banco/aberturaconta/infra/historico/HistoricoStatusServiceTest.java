@@ -0,0 +1,95 @@
+package br.com.banco.aberturaconta.infra.historico;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.entity.HistoricoStatusData;
+import br.com.banco.aberturaconta.infra.event.SolicitacaoCriadaEvent;
+import br.com.banco.aberturaconta.infra.event.StatusSolicitacaoAlteradaEvent;
+import br.com.banco.aberturaconta.infra.repository.jpa.HistoricoStatusJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para HistoricoStatusService.
+ *
+ * Foco: gravação em lote das transições e descarte com a fila cheia.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoricoStatusService - Histórico de status")
+class HistoricoStatusServiceTest {
+
+    @Mock
+    private HistoricoStatusJpaRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HistoricoStatusService historicoStatusService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        historicoStatusService = new HistoricoStatusService(repository, meterRegistry, 3, 2, "no-1");
+    }
+
+    @Test
+    @DisplayName("Deve gravar as transições em lotes de tamanho-lote")
+    void deveGravarTransicoesEmLotes() {
+        // Given
+        final List<List<HistoricoStatusData>> lotes = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            lotes.add(List.copyOf(invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        final LocalDateTime instante = LocalDateTime.of(2024, 1, 1, 10, 0);
+        historicoStatusService.onSolicitacaoCriada(new SolicitacaoCriadaEvent(1L, "AZUL", Map.of()));
+        historicoStatusService.onStatusAlterado(
+                new StatusSolicitacaoAlteradaEvent(1L, StatusSolicitacao.VALIDANDO_TOPAZ, instante));
+        historicoStatusService.onStatusAlterado(
+                new StatusSolicitacaoAlteradaEvent(1L, StatusSolicitacao.VALIDANDO_SERASA, instante.plusSeconds(1)));
+
+        // When
+        historicoStatusService.gravarPendentes();
+
+        // Then
+        assertEquals(List.of(2, 1), lotes.stream().map(List::size).toList());
+        final HistoricoStatusData ultima = lotes.get(1).get(0);
+        assertEquals(StatusSolicitacao.VALIDANDO_SERASA, ultima.getStatus());
+        assertEquals(instante.plusSeconds(1), ultima.getInstante());
+        assertEquals("no-1", ultima.getNo());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar as transições quando a fila está cheia")
+    void deveDescartarComFilaCheia() {
+        // Given
+        final List<Integer> tamanhos = new ArrayList<>();
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+            tamanhos.add(invocation.<List<HistoricoStatusData>>getArgument(0).size());
+            return invocation.getArgument(0);
+        });
+        for (long id = 1; id <= 5; id++) {
+            historicoStatusService.onStatusAlterado(
+                    new StatusSolicitacaoAlteradaEvent(id, StatusSolicitacao.APROVADA, LocalDateTime.now()));
+        }
+
+        // When
+        historicoStatusService.gravarPendentes();
+
+        // Then
+        assertEquals(List.of(2, 1), tamanhos);
+        assertEquals(2.0, meterRegistry.counter("aco.historico.status.descartados").count());
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.banco.aberturaconta.infra.kafka;
+
+import br.com.banco.aberturaconta.infra.entity.OutboxEventoData;
+import br.com.banco.aberturaconta.infra.repository.jpa.OutboxEventoJpaRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para OutboxRelay.
+ *
+ * Foco: reserva do lote antes do envio, confirmação por registro, DELETE em lote dos confirmados, reagendamento
+ * das falhas e marcação de ERRO ao esgotar as tentativas.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay - Relay do outbox para o Kafka")
+class OutboxRelayTest {
+
+    private static final int TAMANHO_LOTE = 3;
+    private static final int MAX_TENTATIVAS = 5;
+
+    @Mock
+    private OutboxEventoJpaRepository outboxRepository;
+
+    @Mock
+    private PipelineKafkaPublisher kafkaPublisher;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRepository, kafkaPublisher, TAMANHO_LOTE, 1000, MAX_TENTATIVAS, 60_000);
+    }
+
+    @Test
+    @DisplayName("Deve apagar em lote os eventos confirmados e incrementar tentativas dos que falharam")
+    @SuppressWarnings("unchecked")
+    void deveApagarConfirmadosEIncrementarFalhas() {
+        // Given
+        when(kafkaPublisher.enviar(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                .thenReturn(CompletableFuture.supplyAsync(() -> {
+                    throw new IllegalStateException("NOT_LEADER_OR_FOLLOWER");
+                }, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        final boolean todosConfirmados = relay.publicar(List.of(evento(1L), evento(2L), evento(3L)));
+
+        // Then
+        assertFalse(todosConfirmados);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(outboxRepository).incrementarTentativas(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("Deve interromper o lote quando o envio falha de forma síncrona")
+    @SuppressWarnings("unchecked")
+    void deveInterromperLoteQuandoBrokerIndisponivel() {
+        // Given
+        when(kafkaPublisher.enviar(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Topic not present in metadata")));
+
+        // When
+        final boolean todosConfirmados = relay.publicar(List.of(evento(1L), evento(2L), evento(3L)));
+
+        // Then
+        assertFalse(todosConfirmados);
+        verify(kafkaPublisher, times(1)).enviar(any(ProducerRecord.class));
+        verify(outboxRepository).incrementarTentativas(List.of(1L));
+        verify(outboxRepository).liberar(List.of(2L, 3L));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("Deve marcar com ERRO as falhas que esgotaram as tentativas")
+    @SuppressWarnings("unchecked")
+    void deveMarcarComErroFalhasQueEsgotaramTentativas() {
+        // Given
+        when(kafkaPublisher.enviar(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("RecordTooLargeException")));
+        when(outboxRepository.marcarComErro(List.of(1L), MAX_TENTATIVAS)).thenReturn(1);
+
+        // When
+        final boolean todosConfirmados = relay.publicar(List.of(evento(1L)));
+
+        // Then
+        assertFalse(todosConfirmados);
+        final var ordem = inOrder(outboxRepository);
+        ordem.verify(outboxRepository).incrementarTentativas(List.of(1L));
+        ordem.verify(outboxRepository).marcarComErro(List.of(1L), MAX_TENTATIVAS);
+    }
+
+    @Test
+    @DisplayName("Deve buscar novo lote enquanto o anterior vier completo e todo confirmado")
+    @SuppressWarnings("unchecked")
+    void deveDrenarEnquantoLoteCompleto() {
+        // Given
+        when(outboxRepository.buscarPendentes(any(LocalDateTime.class), eq(Limit.of(TAMANHO_LOTE))))
+                .thenReturn(List.of(1L, 2L, 3L))
+                .thenReturn(List.of(4L));
+        when(outboxRepository.reservar(anyCollection(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(3)
+                .thenReturn(1);
+        when(outboxRepository.buscarReservados(anyString()))
+                .thenReturn(List.of(evento(1L), evento(2L), evento(3L)))
+                .thenReturn(List.of(evento(4L)));
+        when(kafkaPublisher.enviar(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        relay.publicarPendentes();
+
+        // Then
+        verify(outboxRepository, times(2)).buscarPendentes(any(LocalDateTime.class), eq(Limit.of(TAMANHO_LOTE)));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("Deve reservar o lote com prazo e buscar só os eventos da própria reserva")
+    void deveReservarLoteAntesDePublicar() {
+        // Given
+        when(outboxRepository.buscarPendentes(any(LocalDateTime.class), eq(Limit.of(TAMANHO_LOTE))))
+                .thenReturn(List.of(1L, 2L));
+        when(outboxRepository.reservar(eq(List.of(1L, 2L)), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(outboxRepository.buscarReservados(anyString())).thenReturn(List.of(evento(2L)));
+
+        // When
+        final List<OutboxEventoData> lote = relay.reservarLote();
+
+        // Then
+        assertEquals(List.of(2L), lote.stream().map(OutboxEventoData::getId).toList());
+        final ArgumentCaptor<String> reservaCaptor = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<LocalDateTime> agoraCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        final ArgumentCaptor<LocalDateTime> reservadoAteCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).reservar(eq(List.of(1L, 2L)), reservaCaptor.capture(), agoraCaptor.capture(),
+                reservadoAteCaptor.capture());
+        assertEquals(agoraCaptor.getValue().plusSeconds(60), reservadoAteCaptor.getValue());
+        verify(outboxRepository).buscarReservados(reservaCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("Não deve publicar quando outra instância reservou todos os candidatos")
+    void naoDevePublicarLoteReservadoPorOutraInstancia() {
+        // Given
+        when(outboxRepository.buscarPendentes(any(LocalDateTime.class), eq(Limit.of(TAMANHO_LOTE))))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(outboxRepository.reservar(anyCollection(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // When
+        relay.publicarPendentes();
+
+        // Then
+        verify(outboxRepository, never()).buscarReservados(anyString());
+        verifyNoInteractions(kafkaPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o correlationId gravado no outbox como header")
+    @SuppressWarnings("unchecked")
+    void deveEnviarCorrelationIdComoHeader() {
+        // Given
+        final ArgumentCaptor<ProducerRecord<String, String>> registroCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        when(kafkaPublisher.enviar(registroCaptor.capture()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // When
+        relay.publicar(List.of(evento(1L)));
+
+        // Then
+        final ProducerRecord<String, String> registro = registroCaptor.getValue();
+        assertEquals("conta-aberta", registro.topic());
+        assertEquals("10", registro.key());
+        assertEquals("corr-1", new String(registro.headers().lastHeader("X-Correlation-Id").value(), StandardCharsets.UTF_8));
+    }
+
+    private OutboxEventoData evento(final Long id) {
+        return OutboxEventoData.builder()
+                .id(id)
+                .topico("conta-aberta")
+                .chave(String.valueOf(id * 10))
+                .payload("{\"solicitacaoId\":" + id * 10 + "}")
+                .correlationId("corr-" + id)
+                .build();
+    }
+}
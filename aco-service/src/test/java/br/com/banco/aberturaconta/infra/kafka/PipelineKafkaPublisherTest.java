@@ -0,0 +1,108 @@
+package br.com.banco.aberturaconta.infra.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para PipelineKafkaPublisher.
+ *
+ * Foco: janela de registros em voo e métricas de confirmação por tópico.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PipelineKafkaPublisher - Envio com janela limitada")
+class PipelineKafkaPublisherTest {
+
+    private static final String TOPICO = "conta-aberta";
+    private static final int MAX_EM_VOO = 2;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PipelineKafkaPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new PipelineKafkaPublisher(kafkaTemplate, meterRegistry, MAX_EM_VOO, 10);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o envio sem chamar o producer quando a janela está cheia")
+    @SuppressWarnings("unchecked")
+    void deveRecusarEnvioComJanelaCheia() {
+        // Given
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+        publisher.enviar(registro());
+        publisher.enviar(registro());
+
+        // When
+        var envio = publisher.enviar(registro());
+
+        // Then
+        var erro = assertThrows(ExecutionException.class, envio::get);
+        assertInstanceOf(KafkaException.class, erro.getCause());
+        verify(kafkaTemplate, times(MAX_EM_VOO)).send(any(ProducerRecord.class));
+        assertEquals(MAX_EM_VOO, meterRegistry.get("aco.kafka.envio.em.voo").gauge().value());
+        assertEquals(1, meterRegistry.get("aco.kafka.envio").tag("resultado", "janela_cheia").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga e registrar o resultado quando o broker responde")
+    @SuppressWarnings("unchecked")
+    void deveLiberarVagaAoConfirmar() {
+        // Given
+        var confirmacao = new CompletableFuture<SendResult<String, String>>();
+        var recusa = new CompletableFuture<SendResult<String, String>>();
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(confirmacao, recusa);
+        publisher.enviar(registro());
+        publisher.enviar(registro());
+
+        // When
+        confirmacao.complete(mock(SendResult.class));
+        recusa.completeExceptionally(new KafkaException("NOT_ENOUGH_REPLICAS"));
+
+        // Then
+        assertEquals(0, meterRegistry.get("aco.kafka.envio.em.voo").gauge().value());
+        assertEquals(1, meterRegistry.get("aco.kafka.envio")
+                .tags("topico", TOPICO, "resultado", "sucesso").timer().count());
+        assertEquals(1, meterRegistry.get("aco.kafka.envio")
+                .tags("topico", TOPICO, "resultado", "falha").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a falha síncrona do producer como futuro falho")
+    @SuppressWarnings("unchecked")
+    void deveConverterFalhaSincrona() {
+        // Given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenThrow(new KafkaException("Topic conta-aberta not present in metadata after 500 ms."));
+
+        // When
+        var envio = publisher.enviar(registro());
+
+        // Then
+        assertTrue(envio.isCompletedExceptionally());
+        assertEquals(0, meterRegistry.get("aco.kafka.envio.em.voo").gauge().value());
+    }
+
+    private ProducerRecord<String, String> registro() {
+        return new ProducerRecord<>(TOPICO, "chave", "{}");
+    }
+}
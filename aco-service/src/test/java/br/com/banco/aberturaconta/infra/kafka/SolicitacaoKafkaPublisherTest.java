@@ -0,0 +1,90 @@
+package br.com.banco.aberturaconta.infra.kafka;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.entity.OutboxEventoData;
+import br.com.banco.aberturaconta.infra.repository.jpa.OutboxEventoJpaRepository;
+import br.com.banco.shared.kafka.config.KafkaTopics;
+import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários para SolicitacaoKafkaPublisher.
+ *
+ * Foco: evento de rejeição com o tipo vindo do código gravado, sem interpretar o texto do motivo.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitacaoKafkaPublisher - Eventos no outbox")
+class SolicitacaoKafkaPublisherTest {
+
+    @Mock
+    private OutboxEventoJpaRepository outboxRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SolicitacaoKafkaPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new SolicitacaoKafkaPublisher(outboxRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o código da rejeição como tipo e o texto derivado dele como motivo")
+    void deveEnviarCodigoComoTipo() throws Exception {
+        // Given
+        var solicitacao = rejeitada(CodigoRejeicao.PROVA_VIDA);
+
+        // When
+        publisher.publicarSolicitacaoRejeitada(solicitacao);
+
+        // Then
+        var evento = eventoPublicado();
+        assertEquals("PROVA_VIDA", evento.getTipoRejeicao());
+        assertEquals(CodigoRejeicao.PROVA_VIDA.getMotivo(), evento.getMotivoRejeicao());
+    }
+
+    @Test
+    @DisplayName("Deve enviar OUTROS quando a solicitação não tem código")
+    void deveEnviarOutrosSemCodigo() throws Exception {
+        // Given
+        var solicitacao = rejeitada(null);
+
+        // When
+        publisher.publicarSolicitacaoRejeitada(solicitacao);
+
+        // Then
+        assertEquals("OUTROS", eventoPublicado().getTipoRejeicao());
+    }
+
+    private SolicitacaoRejeitadaEvent eventoPublicado() throws Exception {
+        var captor = ArgumentCaptor.forClass(OutboxEventoData.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(KafkaTopics.SOLICITACAO_REJEITADA, captor.getValue().getTopico());
+        return objectMapper.readValue(captor.getValue().getPayload(), SolicitacaoRejeitadaEvent.class);
+    }
+
+    private SolicitacaoAberturaConta rejeitada(final CodigoRejeicao codigo) {
+        return SolicitacaoAberturaConta.builder()
+                .id(1L)
+                .cpf("12345678901")
+                .nome("João Silva")
+                .email("joao.silva@email.com")
+                .telefone("11987654321")
+                .canal("AZUL")
+                .status(StatusSolicitacao.REJEITADA)
+                .codigoRejeicao(codigo)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.banco.aberturaconta.infra.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.camunda.bpm.engine.delegate.BpmnError;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.application.ProcessApplicationManager;
+import org.camunda.bpm.engine.impl.bpmn.delegate.JavaDelegateInvocation;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para MetricasDelegateInterceptor.
+ *
+ * Foco: a tag de resultado do timer por desfecho do delegate e a exceção devolvida à engine sem alteração.
+ * O contexto da engine (comando e configuração) é o mínimo que o DefaultDelegateInterceptor consulta.
+ */
+@DisplayName("MetricasDelegateInterceptor - Timers por delegate")
+class MetricasDelegateInterceptorTest {
+
+    private static final String METRICA_DELEGATE = "aco.processo.delegate";
+    private static final String ATIVIDADE = "ValidarPix";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MetricasDelegateInterceptor interceptor;
+
+    private ExecutionEntity execution;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new MetricasDelegateInterceptor(new MetricasProcesso(meterRegistry));
+
+        final ProcessDefinitionEntity definicao = mock(ProcessDefinitionEntity.class);
+        when(definicao.getDeploymentId()).thenReturn("deployment-1");
+        execution = mock(ExecutionEntity.class);
+        when(execution.getCurrentActivityId()).thenReturn(ATIVIDADE);
+        when(execution.getProcessDefinition()).thenReturn(definicao);
+
+        final ProcessEngineConfigurationImpl configuracao = mock(ProcessEngineConfigurationImpl.class);
+        when(configuracao.getProcessApplicationManager()).thenReturn(mock(ProcessApplicationManager.class));
+        Context.setProcessEngineConfiguration(configuracao);
+        Context.setCommandContext(mock(CommandContext.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Context.removeCommandContext();
+        Context.removeProcessEngineConfiguration();
+    }
+
+    @Test
+    @DisplayName("Deve registrar como aprovado o delegate que termina normalmente")
+    void deveRegistrarAprovado() throws Exception {
+        // When
+        interceptor.handleInvocation(new JavaDelegateInvocation(execucao -> { }, execution));
+
+        // Then
+        assertEquals(1, contagem(MetricasProcesso.RESULTADO_APROVADO));
+        assertEquals(0, contagem(MetricasProcesso.RESULTADO_REJEITADO));
+        assertEquals(0, contagem(MetricasProcesso.RESULTADO_ERRO_TECNICO));
+    }
+
+    @Test
+    @DisplayName("Deve registrar como rejeitado o delegate que lança BpmnError e repassar o erro")
+    void deveRegistrarRejeitado() {
+        // Given
+        final JavaDelegate delegate = execucao -> {
+            throw new BpmnError("ERRO_PIX");
+        };
+
+        // When
+        final BpmnError erro = assertThrows(BpmnError.class,
+                () -> interceptor.handleInvocation(new JavaDelegateInvocation(delegate, execution)));
+
+        // Then
+        assertEquals("ERRO_PIX", erro.getErrorCode());
+        assertEquals(1, contagem(MetricasProcesso.RESULTADO_REJEITADO));
+        assertEquals(0, contagem(MetricasProcesso.RESULTADO_APROVADO));
+    }
+
+    @Test
+    @DisplayName("Deve registrar como erro técnico qualquer outra exceção e repassá-la")
+    void deveRegistrarErroTecnico() {
+        // Given
+        final JavaDelegate delegate = execucao -> {
+            throw new IllegalStateException("Banco indisponível");
+        };
+
+        // When
+        assertThrows(IllegalStateException.class,
+                () -> interceptor.handleInvocation(new JavaDelegateInvocation(delegate, execution)));
+
+        // Then
+        assertEquals(1, contagem(MetricasProcesso.RESULTADO_ERRO_TECNICO));
+        assertEquals(0, contagem(MetricasProcesso.RESULTADO_APROVADO));
+        assertEquals(0, contagem(MetricasProcesso.RESULTADO_REJEITADO));
+    }
+
+    private long contagem(final String resultado) {
+        final var timer = meterRegistry.find(METRICA_DELEGATE)
+                .tags("atividade", ATIVIDADE, "resultado", resultado)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
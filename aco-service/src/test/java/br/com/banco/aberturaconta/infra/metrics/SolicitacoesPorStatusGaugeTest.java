@@ -0,0 +1,111 @@
+package br.com.banco.aberturaconta.infra.metrics;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.repository.jpa.SolicitacaoJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SolicitacoesPorStatusGauge.
+ *
+ * Foco: consulta só dos status em andamento no ciclo curto, reconciliação separada dos finais e linhas
+ * zeradas para todas as combinações de status e canal.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitacoesPorStatusGauge - Gauge de solicitações por status e canal")
+class SolicitacoesPorStatusGaugeTest {
+
+    private static final String METRICA = "aco.solicitacoes";
+
+    @Mock
+    private SolicitacaoJpaRepository jpaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SolicitacoesPorStatusGauge gauge;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gauge = new SolicitacoesPorStatusGauge(jpaRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve contar só os status em andamento e publicar zero nas demais combinações")
+    void deveContarStatusEmAndamento() {
+        // Given
+        when(jpaRepository.contarPorStatusECanal(argThat(SolicitacoesPorStatusGaugeTest::somenteEmAndamento)))
+                .thenReturn(List.of(contagem(StatusSolicitacao.VALIDANDO_PIX, "AZUL", 7)));
+
+        // When
+        gauge.atualizar();
+
+        // Then
+        assertEquals(7.0, valor(StatusSolicitacao.VALIDANDO_PIX, Canal.AZUL));
+        assertEquals(0.0, valor(StatusSolicitacao.VALIDANDO_PIX, Canal.AMERICA));
+        assertEquals(0.0, valor(StatusSolicitacao.CONTA_ABERTA, Canal.AZUL));
+        assertEquals(StatusSolicitacao.values().length * Canal.values().length,
+                meterRegistry.find(METRICA).gauges().size());
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar os status finais sem perder a contagem dos em andamento")
+    void deveReconciliarStatusFinais() {
+        // Given
+        when(jpaRepository.contarPorStatusECanal(argThat(SolicitacoesPorStatusGaugeTest::somenteEmAndamento)))
+                .thenReturn(List.of(contagem(StatusSolicitacao.INICIADA, "AMERICA", 3)));
+        when(jpaRepository.contarPorStatusECanal(argThat(status -> status != null && status.stream().allMatch(StatusSolicitacao::isFinal))))
+                .thenReturn(List.of(contagem(StatusSolicitacao.REJEITADA, "AMERICA", 40),
+                        contagem(StatusSolicitacao.CONTA_ABERTA, "AZUL", 60)));
+        gauge.atualizar();
+
+        // When
+        gauge.atualizarFinais();
+
+        // Then
+        assertEquals(3.0, valor(StatusSolicitacao.INICIADA, Canal.AMERICA));
+        assertEquals(40.0, valor(StatusSolicitacao.REJEITADA, Canal.AMERICA));
+        assertEquals(60.0, valor(StatusSolicitacao.CONTA_ABERTA, Canal.AZUL));
+    }
+
+    private double valor(final StatusSolicitacao status, final Canal canal) {
+        return meterRegistry.get(METRICA).tags("status", status.name(), "canal", canal.name()).gauge().value();
+    }
+
+    private static boolean somenteEmAndamento(final Collection<StatusSolicitacao> status) {
+        return status != null && !status.isEmpty() && status.stream().noneMatch(StatusSolicitacao::isFinal);
+    }
+
+    private static SolicitacaoJpaRepository.ContagemPorStatus contagem(final StatusSolicitacao status,
+                                                                       final String canal, final long total) {
+        return new SolicitacaoJpaRepository.ContagemPorStatus() {
+            @Override
+            public StatusSolicitacao getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getCanal() {
+                return canal;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.banco.aberturaconta.infra.repository.cache;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
+import br.com.banco.aberturaconta.infra.repository.impl.SolicitacaoRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SolicitacaoRepositoryCache.
+ *
+ * Foco: leituras servidas da memória, cópias independentes, invalidação pelas escritas, inclusive durante uma
+ * leitura em andamento, e TTL do índice por CPF.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitacaoRepositoryCache - Cache de solicitações")
+class SolicitacaoRepositoryCacheTest {
+
+    private static final String CPF = "12345678901";
+
+    @Mock
+    private SolicitacaoRepositoryImpl delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SolicitacaoRepositoryCache repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new SolicitacaoRepositoryCache(delegate, meterRegistry, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no banco só na primeira leitura por id e por CPF")
+    void deveServirLeiturasDaMemoria() {
+        // Given
+        when(delegate.findByCpf(CPF)).thenReturn(Optional.of(solicitacao(StatusSolicitacao.INICIADA)));
+
+        // When
+        repository.findByCpf(CPF);
+        final var porCpf = repository.findByCpf(CPF);
+        final var porId = repository.findById(1L);
+
+        // Then
+        assertEquals(StatusSolicitacao.INICIADA, porCpf.orElseThrow().getStatus());
+        assertEquals(CPF, porId.orElseThrow().getCpf());
+        verify(delegate, times(1)).findByCpf(CPF);
+        verify(delegate, never()).findById(anyLong());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "solicitacoes", "result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve expor ao cache alterações feitas no modelo devolvido")
+    void deveDevolverCopias() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(solicitacao(StatusSolicitacao.VALIDANDO_TOPAZ)));
+        repository.findById(1L).orElseThrow().rejeitar(CodigoRejeicao.SERASA);
+
+        // When
+        final var lida = repository.findById(1L).orElseThrow();
+
+        // Then
+        assertEquals(StatusSolicitacao.VALIDANDO_TOPAZ, lida.getStatus());
+        assertNull(lida.getMotivoRejeicao());
+    }
+
+    @Test
+    @DisplayName("Deve buscar de novo no banco depois de uma transição aplicada")
+    void deveInvalidarNaTransicao() {
+        // Given
+        when(delegate.findById(1L))
+                .thenReturn(Optional.of(solicitacao(StatusSolicitacao.VALIDANDO_TOPAZ)))
+                .thenReturn(Optional.of(solicitacao(StatusSolicitacao.REJEITADA)));
+        when(delegate.transitar(any(TransicaoStatus.class))).thenReturn(true);
+        repository.findById(1L);
+
+        // When
+        repository.transitar(TransicaoStatus.rejeicao(1L, CodigoRejeicao.SERASA));
+        final var lida = repository.findById(1L);
+
+        // Then
+        assertEquals(StatusSolicitacao.REJEITADA, lida.orElseThrow().getStatus());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve descartar ao fim da transação o que foi lido antes do commit")
+    void deveInvalidarAoFimDaTransacao() {
+        // Given
+        when(delegate.findById(1L)).thenReturn(Optional.of(solicitacao(StatusSolicitacao.VALIDANDO_TOPAZ)));
+        when(delegate.transitar(any(TransicaoStatus.class))).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repository.transitar(TransicaoStatus.para(1L, StatusSolicitacao.VALIDANDO_SERASA));
+            repository.findById(1L);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            repository.findById(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar a leitura feita antes de uma invalidação concluída durante ela")
+    void naoDeveGuardarLeituraAnteriorAInvalidacao() {
+        // Given
+        when(delegate.transitar(any(TransicaoStatus.class))).thenReturn(true);
+        when(delegate.findById(1L))
+                .thenAnswer(invocacao -> {
+                    repository.transitar(TransicaoStatus.para(1L, StatusSolicitacao.VALIDANDO_SERASA));
+                    return Optional.of(solicitacao(StatusSolicitacao.VALIDANDO_TOPAZ));
+                })
+                .thenReturn(Optional.of(solicitacao(StatusSolicitacao.VALIDANDO_SERASA)));
+        repository.findById(1L);
+
+        // When
+        final var lida = repository.findById(1L);
+
+        // Then
+        assertEquals(StatusSolicitacao.VALIDANDO_SERASA, lida.orElseThrow().getStatus());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve expirar o índice por CPF junto com as solicitações")
+    void deveExpirarIndicePorCpf() {
+        // Given
+        repository = new SolicitacaoRepositoryCache(delegate, new SimpleMeterRegistry(), 100, 0);
+        when(delegate.findByCpf(CPF)).thenReturn(Optional.of(solicitacao(StatusSolicitacao.INICIADA)));
+        repository.findByCpf(CPF);
+
+        // When
+        repository.findByCpf(CPF);
+
+        // Then
+        verify(delegate, times(2)).findByCpf(CPF);
+        verify(delegate, never()).findById(anyLong());
+    }
+
+    private SolicitacaoAberturaConta solicitacao(final StatusSolicitacao status) {
+        return SolicitacaoAberturaConta.builder()
+                .id(1L)
+                .cpf(CPF)
+                .nome("João Silva")
+                .canal("AMERICA")
+                .status(status)
+                .dataCriacao(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.banco.aberturaconta.infra.repository.impl;
+
+import br.com.banco.aberturaconta.core.domain.Canal;
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.core.model.TransicaoStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para SolicitacaoRepositoryImpl no H2.
+ *
+ * Foco: as transições em lote seguem a mesma regra de origens permitidas do UPDATE unitário, com um lote JDBC
+ * por status de destino e o resultado de cada transição na ordem recebida.
+ */
+@SpringBootTest(properties = {
+        "camunda.bpm.generate-unique-process-engine-name=true",
+        "aco.outbox.relay.habilitado=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.br.com.banco.aberturaconta=WARN"
+})
+@DisplayName("SolicitacaoRepositoryImpl - Transições em lote")
+class SolicitacaoRepositoryImplTest {
+
+    private static final AtomicLong CPFS = new AtomicLong(60_000_000_000L);
+
+    @Autowired
+    private SolicitacaoRepositoryImpl repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve aplicar em lote só as transições com origem permitida e informar cada uma na ordem")
+    void deveTransitarEmLoteRespeitandoOrigens() {
+        // Given
+        final SolicitacaoAberturaConta emValidacao = salvar(StatusSolicitacao.VALIDANDO_PIX);
+        final SolicitacaoAberturaConta aprovada = salvar(StatusSolicitacao.APROVADA);
+        final SolicitacaoAberturaConta rejeitada = salvar(StatusSolicitacao.REJEITADA);
+        final SolicitacaoAberturaConta iniciada = salvar(StatusSolicitacao.INICIADA);
+        final List<TransicaoStatus> transicoes = List.of(
+                TransicaoStatus.rejeicao(emValidacao.getId(), CodigoRejeicao.SERASA),
+                TransicaoStatus.contaAberta(aprovada.getId(), "00000099"),
+                TransicaoStatus.para(rejeitada.getId(), StatusSolicitacao.VALIDANDO_SERASA),
+                TransicaoStatus.contaAberta(iniciada.getId(), "00000098"));
+
+        // When
+        final boolean[] aplicadas = transactionTemplate.execute(status -> repository.transitarEmLote(transicoes));
+
+        // Then
+        assertArrayEquals(new boolean[]{true, true, false, false}, aplicadas);
+        final SolicitacaoAberturaConta rejeitadaNoLote = repository.findById(emValidacao.getId()).orElseThrow();
+        assertEquals(StatusSolicitacao.REJEITADA, rejeitadaNoLote.getStatus());
+        assertEquals(CodigoRejeicao.SERASA, rejeitadaNoLote.getCodigoRejeicao());
+        final SolicitacaoAberturaConta aberta = repository.findById(aprovada.getId()).orElseThrow();
+        assertEquals(StatusSolicitacao.CONTA_ABERTA, aberta.getStatus());
+        assertEquals("00000099", aberta.getNumeroConta());
+        assertEquals(StatusSolicitacao.REJEITADA, repository.findById(rejeitada.getId()).orElseThrow().getStatus());
+        final SolicitacaoAberturaConta naoAberta = repository.findById(iniciada.getId()).orElseThrow();
+        assertEquals(StatusSolicitacao.INICIADA, naoAberta.getStatus());
+        assertNull(naoAberta.getNumeroConta());
+    }
+
+    private SolicitacaoAberturaConta salvar(final StatusSolicitacao status) {
+        final String cpf = Long.toString(CPFS.incrementAndGet());
+        return repository.save(SolicitacaoAberturaConta.builder()
+                .cpf(cpf)
+                .nome("Cliente " + cpf)
+                .email(cpf + "@email.com")
+                .telefone("11987654321")
+                .canal(Canal.AMERICA.name())
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.banco.aberturaconta.infra.repository.jpa;
+
+import br.com.banco.aberturaconta.infra.entity.OutboxEventoData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração para OutboxEventoJpaRepository no H2.
+ *
+ * Foco: a reserva de lote do relay pega cada evento pendente uma vez só enquanto a reserva vale, e o evento
+ * volta para a fila quando a reserva vence ou quando a publicação falha.
+ */
+@SpringBootTest(properties = {
+        "camunda.bpm.generate-unique-process-engine-name=true",
+        "aco.outbox.relay.habilitado=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.br.com.banco.aberturaconta=WARN"
+})
+@DisplayName("OutboxEventoJpaRepository - Reserva de lote do relay")
+class OutboxEventoJpaRepositoryTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @Autowired
+    private OutboxEventoJpaRepository repository;
+
+    private final List<Long> criados = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllByIdInBatch(criados);
+    }
+
+    @Test
+    @DisplayName("Deve reservar o evento para uma só instância enquanto a reserva vale")
+    void deveReservarEventoParaUmaInstancia() {
+        // Given
+        final Long id = salvar();
+
+        // When
+        final int primeira = repository.reservar(List.of(id), "lote-a", AGORA, AGORA.plusMinutes(1));
+        final int segunda = repository.reservar(List.of(id), "lote-b", AGORA.plusSeconds(30), AGORA.plusSeconds(90));
+
+        // Then
+        assertEquals(1, primeira);
+        assertEquals(0, segunda);
+        assertEquals(List.of(id), ids(repository.buscarReservados("lote-a")));
+        assertTrue(repository.buscarReservados("lote-b").isEmpty());
+        assertFalse(repository.buscarPendentes(AGORA.plusSeconds(30), Limit.of(100)).contains(id));
+    }
+
+    @Test
+    @DisplayName("Deve devolver para a fila o evento com reserva vencida ou com falha de publicação")
+    void deveDevolverEventoParaFila() {
+        // Given
+        final Long vencido = salvar();
+        final Long comFalha = salvar();
+        repository.reservar(List.of(vencido, comFalha), "lote-a", AGORA, AGORA.plusMinutes(1));
+
+        // When
+        repository.incrementarTentativas(List.of(comFalha));
+        final List<Long> pendentes = repository.buscarPendentes(AGORA.plusMinutes(2), Limit.of(100));
+        final int retomados = repository.reservar(List.of(vencido, comFalha), "lote-b", AGORA.plusMinutes(2),
+                AGORA.plusMinutes(3));
+
+        // Then
+        assertTrue(pendentes.containsAll(List.of(vencido, comFalha)));
+        assertEquals(2, retomados);
+        assertEquals(List.of(vencido, comFalha), ids(repository.buscarReservados("lote-b")));
+    }
+
+    private Long salvar() {
+        final Long id = repository.save(OutboxEventoData.builder()
+                .topico("conta-aberta")
+                .chave("1")
+                .payload("{}")
+                .build()).getId();
+        criados.add(id);
+        return id;
+    }
+
+    private static List<Long> ids(final List<OutboxEventoData> eventos) {
+        return eventos.stream().map(OutboxEventoData::getId).toList();
+    }
+}
@@ -2,7 +2,15 @@ package br.com.banco.aberturaconta.infra.rest.controller;
 
 import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
 import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.ConsultaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.PaginaSolicitacoes;
+import br.com.banco.aberturaconta.core.model.ResumoSolicitacao;
 import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.rest.exportacao.SolicitacaoExportador;
+import br.com.banco.aberturaconta.infra.rest.idempotencia.IdempotenciaService;
+import br.com.banco.aberturaconta.infra.rest.lote.SolicitacaoLoteProcessor;
+import br.com.banco.aberturaconta.infra.rest.paginacao.CursorSolicitacao;
+import br.com.banco.aberturaconta.infra.rest.sse.AssinaturasStatusRegistry;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +22,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -34,6 +47,18 @@ class SolicitacaoAberturaContaControllerIntegrationTest {
     @MockBean
     private SolicitacaoApplicationService solicitacaoService;
 
+    @MockBean
+    private IdempotenciaService idempotenciaService;
+
+    @MockBean
+    private SolicitacaoLoteProcessor loteProcessor;
+
+    @MockBean
+    private AssinaturasStatusRegistry assinaturasStatus;
+
+    @MockBean
+    private SolicitacaoExportador exportador;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -99,5 +124,37 @@ class SolicitacaoAberturaContaControllerIntegrationTest {
                         .content(requestBody))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    @DisplayName("Deve listar solicitações e devolver o cursor da próxima página")
+    void deveListarComCursorDaProximaPagina() throws Exception {
+        // Given
+        final var criacao = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_000);
+        final var cursor = new CursorSolicitacao(criacao, 7L).codificar();
+        final var resumo = new ResumoSolicitacao(8L, "12345678901", "João Silva", "AZUL",
+                StatusSolicitacao.INICIADA, null, null, criacao, criacao);
+        when(solicitacaoService.listar(argThat((ConsultaSolicitacoes consulta) ->
+                consulta.status() == StatusSolicitacao.INICIADA && "AZUL".equals(consulta.canal())
+                        && criacao.equals(consulta.aposDataCriacao()) && consulta.aposId() == 7L
+                        && consulta.limite() == 1)))
+                .thenReturn(new PaginaSolicitacoes(List.of(resumo), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/solicitacoes")
+                        .param("status", "INICIADA")
+                        .param("canal", "AZUL")
+                        .param("cursor", cursor)
+                        .param("limite", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].id").value(8L))
+                .andExpect(jsonPath("$.proximoCursor").value(new CursorSolicitacao(criacao, 8L).codificar()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void deveRetornar400ParaCursorInvalido() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/solicitacoes").param("cursor", "nao-e-um-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
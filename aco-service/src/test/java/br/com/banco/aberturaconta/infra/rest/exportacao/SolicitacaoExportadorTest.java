@@ -0,0 +1,97 @@
+package br.com.banco.aberturaconta.infra.rest.exportacao;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoExportadaDTO;
+import br.com.banco.aberturaconta.infra.repository.jpa.SolicitacaoJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para SolicitacaoExportador.
+ *
+ * Foco: formato das linhas NDJSON e CSV escritas a partir do stream do repositório.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitacaoExportador - Exportação em streaming")
+class SolicitacaoExportadorTest {
+
+    private static final LocalDateTime DESDE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime ATE = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    @Mock
+    private SolicitacaoJpaRepository jpaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SolicitacaoExportador exportador;
+
+    @BeforeEach
+    void setUp() {
+        exportador = new SolicitacaoExportador(jpaRepository, transactionManager, objectMapper);
+        when(jpaRepository.streamExportacao(DESDE, ATE)).thenReturn(Stream.of(
+                linha(1L, "João Silva", null),
+                linha(2L, "Maria, \"Mari\"", "Score Serasa abaixo do mínimo")));
+    }
+
+    @Test
+    @DisplayName("Deve escrever uma solicitação por linha em NDJSON")
+    void deveExportarNdjson() throws Exception {
+        // Given
+        final var saida = new ByteArrayOutputStream();
+
+        // When
+        final long linhas = exportador.exportar(SolicitacaoExportador.Formato.NDJSON, DESDE, ATE, saida);
+
+        // Then
+        final String[] conteudo = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas);
+        assertEquals(2, conteudo.length);
+        assertEquals(linha(2L, "Maria, \"Mari\"", "Score Serasa abaixo do mínimo"),
+                objectMapper.readValue(conteudo[1], SolicitacaoExportadaDTO.class));
+        assertTrue(saida.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+    }
+
+    @Test
+    @DisplayName("Deve escrever CSV com cabeçalho e campos com vírgula ou aspas entre aspas")
+    void deveExportarCsv() {
+        // Given
+        final var saida = new ByteArrayOutputStream();
+
+        // When
+        final long linhas = exportador.exportar(SolicitacaoExportador.Formato.CSV, DESDE, ATE, saida);
+
+        // Then
+        final String[] conteudo = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas);
+        assertEquals("id,cpf,nome,email,telefone,canal,status,numero_conta,motivo_rejeicao,data_criacao,data_atualizacao",
+                conteudo[0]);
+        assertEquals("1,12345678901,João Silva,joao@email.com,11987654321,AZUL,REJEITADA,,,2024-01-01T10:00,",
+                conteudo[1]);
+        assertEquals("2,12345678901,\"Maria, \"\"Mari\"\"\",joao@email.com,11987654321,AZUL,REJEITADA,,"
+                + "Score Serasa abaixo do mínimo,2024-01-01T10:00,", conteudo[2]);
+    }
+
+    private SolicitacaoExportadaDTO linha(final Long id, final String nome, final String motivoRejeicao) {
+        return new SolicitacaoExportadaDTO(id, "12345678901", nome, "joao@email.com", "11987654321", "AZUL",
+                StatusSolicitacao.REJEITADA, null, motivoRejeicao, LocalDateTime.of(2024, 1, 1, 10, 0), null);
+    }
+}
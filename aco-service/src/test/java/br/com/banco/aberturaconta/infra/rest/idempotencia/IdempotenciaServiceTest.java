@@ -0,0 +1,258 @@
+package br.com.banco.aberturaconta.infra.rest.idempotencia;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.infra.dto.RespostaSolicitacaoDTO;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
+import br.com.banco.aberturaconta.infra.entity.RespostaIdempotenteData;
+import br.com.banco.aberturaconta.infra.repository.jpa.RespostaIdempotenteJpaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para IdempotenciaService.
+ *
+ * Foco: repetição da primeira resposta, espera das requisições simultâneas, chave reutilizada com outro corpo
+ * e falha na gravação da resposta depois de a operação concluir.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotenciaService - Idempotency-Key")
+class IdempotenciaServiceTest {
+
+    private static final String CHAVE = "c8a1f0e2-0d4b-4a57-9c1e-2f4b8f3a9d10";
+
+    @Mock
+    private RespostaIdempotenteJpaRepository repository;
+
+    private IdempotenciaService idempotenciaService;
+
+    private SolicitacaoAberturaContaDTO requisicao;
+
+    @BeforeEach
+    void setUp() {
+        idempotenciaService = new IdempotenciaService(repository, new ObjectMapper().findAndRegisterModules(),
+                100, 60, 2000);
+        requisicao = new SolicitacaoAberturaContaDTO("12345678901", "João Silva", "joao.silva@email.com",
+                "11987654321", "AMERICA");
+    }
+
+    @Test
+    @DisplayName("Deve repetir a resposta 201 sem executar a operação de novo")
+    void deveRepetirRespostaCriada() {
+        // Given
+        var execucoes = new AtomicInteger();
+
+        // When
+        var primeira = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(execucoes));
+        var repeticao = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(execucoes));
+
+        // Then
+        assertEquals(1, execucoes.get());
+        assertEquals(HttpStatus.CREATED, repeticao.getStatusCode());
+        assertEquals(primeira.getBody(), repeticao.getBody());
+        assertEquals("true", repeticao.getHeaders().getFirst(IdempotenciaService.HEADER_REPETICAO));
+        verify(repository, times(1)).save(any(RespostaIdempotenteData.class));
+    }
+
+    @Test
+    @DisplayName("Deve repetir o 409 da primeira requisição")
+    void deveRepetirConflito() {
+        // Given
+        var execucoes = new AtomicInteger();
+        var operacao = (Supplier<ResponseEntity<RespostaSolicitacaoDTO>>) () -> {
+            execucoes.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma conta ativa para este CPF: 12345678901");
+        };
+        assertThrows(ResponseStatusException.class,
+                () -> idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class, operacao));
+
+        // When
+        var erro = assertThrows(ResponseStatusException.class,
+                () -> idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class, operacao));
+
+        // Then
+        assertEquals(1, execucoes.get());
+        assertEquals(HttpStatus.CONFLICT, erro.getStatusCode());
+        assertEquals("Já existe uma conta ativa para este CPF: 12345678901", erro.getReason());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 422 a mesma chave com outro corpo")
+    void deveRecusarChaveComOutroCorpo() {
+        // Given
+        idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class, () -> criada(new AtomicInteger()));
+        var outra = new SolicitacaoAberturaContaDTO("98765432100", "Maria", "maria@email.com", "11987654321", "AZUL");
+
+        // When
+        var erro = assertThrows(ResponseStatusException.class, () -> idempotenciaService.executar(CHAVE, outra,
+                RespostaSolicitacaoDTO.class, () -> criada(new AtomicInteger())));
+
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, erro.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve fazer a requisição simultânea esperar o resultado da primeira")
+    void deveEsperarRequisicaoSimultanea() throws Exception {
+        // Given
+        var execucoes = new AtomicInteger();
+        var emExecucao = new CountDownLatch(1);
+        var liberar = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var primeira = executor.submit(() -> idempotenciaService.executar(CHAVE, requisicao,
+                    RespostaSolicitacaoDTO.class, () -> {
+                        emExecucao.countDown();
+                        aguardar(liberar);
+                        return criada(execucoes);
+                    }));
+            assertTrue(emExecucao.await(1, TimeUnit.SECONDS));
+
+            // When
+            var segunda = executor.submit(() -> idempotenciaService.executar(CHAVE, requisicao,
+                    RespostaSolicitacaoDTO.class, () -> criada(execucoes)));
+            Thread.sleep(100);
+            liberar.countDown();
+
+            // Then
+            assertEquals(HttpStatus.CREATED, primeira.get(1, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(HttpStatus.CREATED, segunda.get(1, TimeUnit.SECONDS).getStatusCode());
+            assertEquals(1, execucoes.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve repetir a resposta guardada na tabela quando não está no cache")
+    void deveRepetirRespostaDaTabela() {
+        // Given
+        var execucoes = new AtomicInteger();
+        var outraInstancia = new IdempotenciaService(repository, new ObjectMapper().findAndRegisterModules(), 100, 60, 2000);
+        var original = outraInstancia.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class, () -> criada(execucoes));
+        var captor = ArgumentCaptor.forClass(RespostaIdempotenteData.class);
+        verify(repository).save(captor.capture());
+        var gravada = captor.getValue();
+        gravada.setDataCriacao(LocalDateTime.now());
+        when(repository.findById(anyString())).thenReturn(Optional.of(gravada));
+
+        // When
+        var repeticao = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(execucoes));
+
+        // Then
+        assertEquals(1, execucoes.get());
+        assertEquals(original.getBody(), repeticao.getBody());
+    }
+
+    @Test
+    @DisplayName("Deve gravar a resposta como nova, por INSERT")
+    void deveGravarRespostaComoNova() {
+        // When
+        idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class, () -> criada(new AtomicInteger()));
+
+        // Then
+        var captor = ArgumentCaptor.forClass(RespostaIdempotenteData.class);
+        verify(repository).save(captor.capture());
+        assertTrue(captor.getValue().isNew());
+        assertEquals(CHAVE, captor.getValue().getId());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta da operação quando outra instância já gravou a chave")
+    void deveDevolverRespostaQuandoChaveJaGravada() {
+        // Given
+        when(repository.save(any(RespostaIdempotenteData.class)))
+                .thenThrow(new DataIntegrityViolationException("PK resposta_idempotente"));
+
+        // When
+        var resposta = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(new AtomicInteger()));
+
+        // Then
+        assertEquals(HttpStatus.CREATED, resposta.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta da operação e repetir pelo cache quando a gravação falha")
+    void deveDevolverRespostaQuandoGravacaoFalha() {
+        // Given
+        var execucoes = new AtomicInteger();
+        when(repository.save(any(RespostaIdempotenteData.class)))
+                .thenThrow(new DataAccessResourceFailureException("Conexão recusada"));
+
+        // When
+        var primeira = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(execucoes));
+        var repeticao = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(execucoes));
+
+        // Then
+        assertEquals(HttpStatus.CREATED, primeira.getStatusCode());
+        assertEquals(1, execucoes.get());
+        assertEquals(primeira.getBody(), repeticao.getBody());
+    }
+
+    @Test
+    @DisplayName("Deve remover a resposta expirada da tabela e executar a operação de novo")
+    void deveRemoverRespostaExpirada() {
+        // Given
+        var execucoes = new AtomicInteger();
+        var expirada = RespostaIdempotenteData.builder()
+                .chave(CHAVE)
+                .hashRequisicao("outro-hash")
+                .statusHttp(201)
+                .corpo("{}")
+                .dataCriacao(LocalDateTime.now().minusHours(2))
+                .build();
+        when(repository.findById(CHAVE)).thenReturn(Optional.of(expirada));
+
+        // When
+        var resposta = idempotenciaService.executar(CHAVE, requisicao, RespostaSolicitacaoDTO.class,
+                () -> criada(execucoes));
+
+        // Then
+        assertEquals(HttpStatus.CREATED, resposta.getStatusCode());
+        assertEquals(1, execucoes.get());
+        var ordem = inOrder(repository);
+        ordem.verify(repository).delete(expirada);
+        ordem.verify(repository).save(any(RespostaIdempotenteData.class));
+    }
+
+    private ResponseEntity<RespostaSolicitacaoDTO> criada(final AtomicInteger execucoes) {
+        execucoes.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(new RespostaSolicitacaoDTO(1L, "12345678901",
+                "João Silva", StatusSolicitacao.INICIADA, null, null, LocalDateTime.of(2024, 1, 1, 10, 0), null));
+    }
+
+    private static void aguardar(final CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
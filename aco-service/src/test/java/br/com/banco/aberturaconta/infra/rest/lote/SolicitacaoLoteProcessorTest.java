@@ -0,0 +1,118 @@
+package br.com.banco.aberturaconta.infra.rest.lote;
+
+import br.com.banco.aberturaconta.application.service.SolicitacaoApplicationService;
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.dto.ResultadoLoteDTO;
+import br.com.banco.aberturaconta.infra.dto.SolicitacaoAberturaContaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SolicitacaoLoteProcessor.
+ *
+ * Foco: leitura do NDJSON, recusa de linhas inválidas, divisão em trechos e refazer linha a linha.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitacaoLoteProcessor - Lote NDJSON")
+class SolicitacaoLoteProcessorTest {
+
+    @Mock
+    private SolicitacaoApplicationService solicitacaoService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private SolicitacaoLoteProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new SolicitacaoLoteProcessor(solicitacaoService, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2);
+    }
+
+    @Test
+    @DisplayName("Deve gravar em trechos e devolver um resultado por linha, em ordem")
+    void deveGravarEmTrechosComUmResultadoPorLinha() throws Exception {
+        // Given
+        final String corpo = linha("11111111111") + "{json quebrado\n" + "\n" + linha("22222222222")
+                + "{\"cpf\":\"123\",\"nome\":\"X\",\"email\":\"x@x.com\",\"telefone\":\"11987654321\"}\n";
+        when(solicitacaoService.criarLote(anyMap())).thenAnswer(invocation -> criadas(invocation.getArgument(0)));
+
+        // When
+        final List<ResultadoLoteDTO> resultados = processar(corpo);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 4L, 5L), resultados.stream().map(ResultadoLoteDTO::linha).toList());
+        assertEquals(201, resultados.get(0).status());
+        assertEquals(400, resultados.get(1).status());
+        assertTrue(resultados.get(1).erro().startsWith("JSON inválido"));
+        assertEquals(201, resultados.get(2).status());
+        assertEquals(400, resultados.get(3).status());
+        assertEquals("cpf: CPF deve conter 11 dígitos", resultados.get(3).erro());
+        verify(solicitacaoService, times(2)).criarLote(anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve refazer o trecho linha a linha quando o CPF é gravado em paralelo")
+    void deveRefazerTrechoLinhaALinhaNaViolacaoDeConstraint() throws Exception {
+        // Given
+        when(solicitacaoService.criarLote(anyMap())).thenThrow(new DataIntegrityViolationException("cpf"));
+        when(solicitacaoService.criarSolicitacao(any(SolicitacaoAberturaContaDTO.class)))
+                .thenReturn(SolicitacaoAberturaConta.builder().id(7L).cpf("11111111111")
+                        .status(StatusSolicitacao.INICIADA).build())
+                .thenThrow(new ResponseStatusException(HttpStatus.CONFLICT, "Já existe uma conta ativa para este CPF: 22222222222"));
+
+        // When
+        final List<ResultadoLoteDTO> resultados = processar(linha("11111111111") + linha("22222222222"));
+
+        // Then
+        assertEquals(2, resultados.size());
+        assertEquals(201, resultados.get(0).status());
+        assertEquals(7L, resultados.get(0).id());
+        assertEquals(409, resultados.get(1).status());
+        verify(solicitacaoService, times(2)).criarSolicitacao(any(SolicitacaoAberturaContaDTO.class));
+    }
+
+    private List<ResultadoLoteDTO> processar(final String corpo) throws Exception {
+        final var saida = new ByteArrayOutputStream();
+        processor.processar(new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)), saida);
+
+        final List<ResultadoLoteDTO> resultados = new ArrayList<>();
+        for (String linha : saida.toString(StandardCharsets.UTF_8).split("\n")) {
+            resultados.add(objectMapper.readValue(linha, ResultadoLoteDTO.class));
+        }
+        return resultados;
+    }
+
+    private static String linha(final String cpf) {
+        return "{\"cpf\":\"" + cpf + "\",\"nome\":\"João Silva\",\"email\":\"joao@email.com\","
+                + "\"telefone\":\"11987654321\",\"canal\":\"AZUL\"}\n";
+    }
+
+    private static List<ResultadoLoteDTO> criadas(final Map<Long, SolicitacaoAberturaContaDTO> linhas) {
+        return linhas.entrySet().stream()
+                .map(linha -> ResultadoLoteDTO.criada(linha.getKey(), linha.getKey() * 10, linha.getValue().cpf()))
+                .toList();
+    }
+}
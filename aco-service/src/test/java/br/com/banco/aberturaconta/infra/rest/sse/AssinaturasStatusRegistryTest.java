@@ -0,0 +1,147 @@
+package br.com.banco.aberturaconta.infra.rest.sse;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.event.StatusSolicitacaoAlteradaEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para AssinaturasStatusRegistry.
+ *
+ * Foco: registro e remoção das assinaturas conforme o status da solicitação, descarte de eventos antigos e
+ * envio serial por assinatura.
+ */
+@DisplayName("AssinaturasStatusRegistry - Assinaturas SSE de status")
+class AssinaturasStatusRegistryTest {
+
+    private static final LocalDateTime ATUALIZACAO = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private final List<Runnable> tarefas = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AssinaturasStatusRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new AssinaturasStatusRegistry(meterRegistry, Runnable::run, 60_000, 10_000);
+    }
+
+    @Test
+    @DisplayName("Deve manter a assinatura até o primeiro status final")
+    void deveManterAssinaturaAteStatusFinal() {
+        // Given
+        registry.assinar(1L, solicitacao(StatusSolicitacao.INICIADA));
+        registry.assinar(1L, solicitacao(StatusSolicitacao.VALIDANDO_TOPAZ));
+        registry.assinar(2L, solicitacao(StatusSolicitacao.INICIADA));
+
+        // When
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.VALIDANDO_SERASA, 1));
+        final int antesDoFinal = registry.quantidade();
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.REJEITADA, 2));
+
+        // Then
+        assertEquals(3, antesDoFinal);
+        assertEquals(1, registry.quantidade());
+        assertEquals(1.0, meterRegistry.get("aco.sse.assinaturas").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve manter assinatura de solicitação já finalizada")
+    void naoDeveManterAssinaturaDeSolicitacaoFinalizada() {
+        // When
+        registry.assinar(1L, solicitacao(StatusSolicitacao.CONTA_ABERTA));
+
+        // Then
+        assertEquals(0, registry.quantidade());
+    }
+
+    @Test
+    @DisplayName("Deve remover a assinatura quando a solicitação não existe")
+    void deveRemoverAssinaturaDeSolicitacaoInexistente() {
+        // When
+        final var erro = assertThrows(ResponseStatusException.class, () -> registry.assinar(999L, () -> {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Solicitação não encontrada: 999");
+        }));
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, erro.getStatusCode());
+        assertEquals(0, registry.quantidade());
+    }
+
+    @Test
+    @DisplayName("Deve descartar evento anterior à leitura inicial ou ao último status enviado")
+    void deveDescartarEventoAntigo() {
+        // Given
+        registry.assinar(1L, solicitacao(StatusSolicitacao.VALIDANDO_PIX));
+
+        // When
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.REJEITADA, -1));
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.VALIDANDO_SERASA, 3));
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.CONTA_ABERTA, 2));
+
+        // Then
+        assertEquals(1, registry.quantidade());
+    }
+
+    @Test
+    @DisplayName("Deve drenar a fila da assinatura em uma tarefa só, sem heartbeat com envio pendente")
+    void deveEnviarEmSerieNaAssinatura() {
+        // Given
+        registry = new AssinaturasStatusRegistry(meterRegistry, tarefas::add, 60_000, 10_000);
+        registry.assinar(1L, solicitacao(StatusSolicitacao.VALIDANDO_PIX));
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.VALIDANDO_SERASA, 1));
+        registry.onStatusAlterado(evento(1L, StatusSolicitacao.REJEITADA, 2));
+
+        // When
+        registry.heartbeat();
+        final int tarefasAgendadas = tarefas.size();
+        tarefas.remove(0).run();
+
+        // Then
+        assertEquals(1, tarefasAgendadas);
+        assertTrue(tarefas.isEmpty());
+        assertEquals(0, registry.quantidade());
+    }
+
+    @Test
+    @DisplayName("Deve agendar o heartbeat da assinatura ociosa")
+    void deveAgendarHeartbeatDaAssinaturaOciosa() {
+        // Given
+        registry = new AssinaturasStatusRegistry(meterRegistry, tarefas::add, 60_000, 10_000);
+        registry.assinar(1L, solicitacao(StatusSolicitacao.VALIDANDO_PIX));
+        tarefas.remove(0).run();
+
+        // When
+        registry.heartbeat();
+
+        // Then
+        assertEquals(1, tarefas.size());
+        assertEquals(1, registry.quantidade());
+    }
+
+    private static Supplier<SolicitacaoAberturaConta> solicitacao(final StatusSolicitacao status) {
+        return () -> SolicitacaoAberturaConta.builder()
+                .status(status)
+                .dataAtualizacao(ATUALIZACAO)
+                .build();
+    }
+
+    private static StatusSolicitacaoAlteradaEvent evento(final Long solicitacaoId, final StatusSolicitacao status,
+                                                         final long segundosAposAtualizacao) {
+        return new StatusSolicitacaoAlteradaEvent(solicitacaoId, status, ATUALIZACAO.plusSeconds(segundosAposAtualizacao));
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.banco.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Ponto de entrada do jar: aceita os mesmos argumentos do {@code org.openjdk.jmh.Main} e liga sempre o
+ * profiler de GC, para que toda suíte mostre a taxa de alocação ({@code gc.alloc.rate.norm}, bytes por
+ * operação) ao lado da vazão.
+ *
+ * Execução: java -jar target/benchmarks.jar [filtro] [opções do JMH]
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        final var linhaDeComando = new CommandLineOptions(args);
+        if (linhaDeComando.shouldHelp() || linhaDeComando.shouldList() || linhaDeComando.shouldListProfilers()
+                || linhaDeComando.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .parent(linhaDeComando)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.banco.benchmarks.aco;
+
+import br.com.banco.aberturaconta.core.domain.StatusSolicitacao;
+import br.com.banco.aberturaconta.core.model.SolicitacaoAberturaConta;
+import br.com.banco.aberturaconta.infra.entity.SolicitacaoAberturaContaData;
+import br.com.banco.aberturaconta.infra.mapper.SolicitacaoAberturaContaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões do {@link SolicitacaoAberturaContaMapper} gerado pelo MapStruct, feitas em toda leitura e
+ * gravação de solicitação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final SolicitacaoAberturaContaMapper mapper = SolicitacaoAberturaContaMapper.INSTANCE;
+
+    private SolicitacaoAberturaContaData data;
+    private SolicitacaoAberturaConta model;
+
+    @Setup
+    public void setUp() {
+        final LocalDateTime agora = LocalDateTime.of(2024, 1, 1, 10, 0);
+        data = SolicitacaoAberturaContaData.builder()
+                .id(1L)
+                .cpf("12345678901")
+                .nome("João Silva")
+                .email("joao.silva@email.com")
+                .telefone("11987654321")
+                .canal("AZUL")
+                .status(StatusSolicitacao.CONTA_ABERTA)
+                .dataCriacao(agora)
+                .dataAtualizacao(agora.plusMinutes(5))
+                .numeroConta("12345-6")
+                .build();
+        model = mapper.toModel(data);
+    }
+
+    @Benchmark
+    public SolicitacaoAberturaConta toModel() {
+        return mapper.toModel(data);
+    }
+
+    @Benchmark
+    public SolicitacaoAberturaContaData toData() {
+        return mapper.toData(model);
+    }
+}
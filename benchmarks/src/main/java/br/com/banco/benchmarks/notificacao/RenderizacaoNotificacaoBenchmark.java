@@ -0,0 +1,98 @@
+package br.com.banco.benchmarks.notificacao;
+
+import br.com.banco.notification.application.notificacao.NotificacaoPorTemplate;
+import br.com.banco.notification.application.notificacao.template.CatalogoTemplates;
+import br.com.banco.notification.core.service.EmailService;
+import br.com.banco.notification.core.service.PushService;
+import br.com.banco.notification.core.service.SmsService;
+import br.com.banco.shared.kafka.events.ContaAbertaEvent;
+import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renderização das mensagens de cada canal pelo {@link NotificacaoPorTemplate}, com os templates reais
+ * do notification-service. Os serviços de envio só entregam os textos ao Blackhole, então o resultado é
+ * o custo da notificação sem o envio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderizacaoNotificacaoBenchmark {
+
+    @Param({"AZUL", "AMERICA", "FLAMENGO"})
+    public String canal;
+
+    private NotificacaoPorTemplate notificacao;
+    private ContaAbertaEvent contaAberta;
+    private SolicitacaoRejeitadaEvent rejeitada;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        final var catalogo = new CatalogoTemplates("classpath*:notificacao/templates/canais/*.properties",
+                "classpath:notificacao/templates/rejeicoes.properties");
+        notificacao = new NotificacaoPorTemplate(catalogo.getCanais().get(canal), new EmailService() {
+            @Override
+            public void enviar(final String destinatario, final String assunto, final String corpo) {
+                blackhole.consume(assunto);
+                blackhole.consume(corpo);
+            }
+        }, new SmsService() {
+            @Override
+            public void enviar(final String telefone, final String mensagem) {
+                blackhole.consume(mensagem);
+            }
+        }, new PushService() {
+            @Override
+            public void enviar(final String deviceToken, final String titulo, final String corpo) {
+                blackhole.consume(titulo);
+                blackhole.consume(corpo);
+            }
+        });
+
+        contaAberta = ContaAbertaEvent.builder()
+                .solicitacaoId(1L)
+                .email("joao.silva@email.com")
+                .telefone("11987654321")
+                .canal(canal)
+                .numeroConta("12345-6")
+                .build();
+        rejeitada = SolicitacaoRejeitadaEvent.builder()
+                .solicitacaoId(2L)
+                .email("maria.souza@email.com")
+                .telefone("11912345678")
+                .canal(canal)
+                .motivoRejeicao("SERASA - Pendências no Serasa que precisam ser regularizadas antes de abrir sua conta")
+                .tipoRejeicao("SERASA")
+                .build();
+    }
+
+    @Benchmark
+    public void contaAberta() {
+        notificacao.notificarPorEmailContaAberta(contaAberta);
+        notificacao.notificarPorSmsContaAberta(contaAberta);
+        notificacao.notificarPorPushContaAberta(contaAberta);
+    }
+
+    @Benchmark
+    public void rejeitada() {
+        notificacao.notificarPorEmailRejeitada(rejeitada);
+        notificacao.notificarPorSmsRejeitada(rejeitada);
+        notificacao.notificarPorPushRejeitada(rejeitada);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.banco.benchmarks.rejeicao;
+
+import br.com.banco.aberturaconta.core.domain.CodigoRejeicao;
+import br.com.banco.notification.application.notificacao.TipoRejeicaoEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identificação do tipo de rejeição: no aco-service, pelo código de erro BPMN que o processo carrega, e no
+ * notification-service, pelo texto do motivo quando um evento antigo chega sem o tipo. Os motivos são os
+ * dos provedores simulados e cobrem o primeiro tipo, o último e o caso sem correspondência.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdentificacaoRejeicaoBenchmark {
+
+    @Param({
+            "TOPAZ - Problemas relacionados ao dispositivo durante a análise de segurança",
+            "PROVA_VIDA - A análise de documentos e selfie não foi aprovada. Por favor, tente novamente com documentos válidos e selfie nítida",
+            "Solicitação não aprovada"
+    })
+    public String motivo;
+
+    private String codigoErro = CodigoRejeicao.PROVA_VIDA.getCodigoErro();
+
+    @Benchmark
+    public CodigoRejeicao codigoRejeicao() {
+        return CodigoRejeicao.fromCodigoErro(codigoErro);
+    }
+
+    @Benchmark
+    public TipoRejeicaoEnum tipoRejeicaoEnum() {
+        return TipoRejeicaoEnum.identificarPorMotivo(motivo);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.banco.benchmarks.shared;
+
+import br.com.banco.shared.kafka.util.CorrelationIdUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do {@link CorrelationIdUtil} por requisição ou mensagem: ThreadLocal mais MDC. O ciclo completo
+ * é o que o filtro HTTP e os consumidores fazem: definir o ID recebido, lê-lo e limpar no fim. O caso
+ * sem ID mede a geração de um novo na primeira leitura.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CorrelationIdBenchmark {
+
+    private static final String CORRELATION_ID = "018f3c6e-7a51-7b2e-9c4d-2f4b8f3a9d10";
+
+    @Benchmark
+    public String ciclo() {
+        CorrelationIdUtil.setCorrelationId(CORRELATION_ID);
+        final String correlationId = CorrelationIdUtil.getCorrelationId();
+        CorrelationIdUtil.clearCorrelationId();
+        return correlationId;
+    }
+
+    @Benchmark
+    public String lerExistente() {
+        CorrelationIdUtil.setCorrelationId(CORRELATION_ID);
+        return CorrelationIdUtil.getCorrelationId();
+    }
+
+    @Benchmark
+    public String gerarNaAusencia() {
+        final String correlationId = CorrelationIdUtil.getCorrelationId();
+        CorrelationIdUtil.clearCorrelationId();
+        return correlationId;
+    }
+
+    /**
+     * Tarefa em outra thread com {@link CorrelationIdUtil#propagar(Runnable)}: embrulhar, executar com o ID
+     * de quem submeteu e restaurar a thread. Comparar com {@link #gerarNaAusencia()}, o caminho sem propagação.
+     */
+    @Benchmark
+    public String propagar() {
+        CorrelationIdUtil.setCorrelationId(CORRELATION_ID);
+        final String[] lido = new String[1];
+        final Runnable tarefa = CorrelationIdUtil.propagar(() -> lido[0] = CorrelationIdUtil.getCorrelationId());
+        CorrelationIdUtil.clearCorrelationId();
+        tarefa.run();
+        return lido[0];
+    }
+
+    @TearDown
+    public void tearDown() {
+        CorrelationIdUtil.clearCorrelationId();
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.banco.benchmarks.shared;
+
+import br.com.banco.shared.kafka.events.ContaAbertaEvent;
+import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
+import br.com.banco.shared.kafka.util.UuidOrdenadoUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização dos eventos no outbox do aco-service e desserialização no consumidor do
+ * notification-service, com o ObjectMapper configurado como nos serviços (módulos registrados) e
+ * reader/writer já resolvidos para o tipo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventosJsonBenchmark {
+
+    private ObjectWriter escritorContaAberta;
+    private ObjectReader leitorContaAberta;
+    private ObjectWriter escritorRejeitada;
+    private ObjectReader leitorRejeitada;
+
+    private ContaAbertaEvent contaAberta;
+    private SolicitacaoRejeitadaEvent rejeitada;
+    private String jsonContaAberta;
+    private String jsonRejeitada;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        escritorContaAberta = objectMapper.writerFor(ContaAbertaEvent.class);
+        leitorContaAberta = objectMapper.readerFor(ContaAbertaEvent.class);
+        escritorRejeitada = objectMapper.writerFor(SolicitacaoRejeitadaEvent.class);
+        leitorRejeitada = objectMapper.readerFor(SolicitacaoRejeitadaEvent.class);
+
+        final LocalDateTime agora = LocalDateTime.of(2024, 1, 1, 10, 0);
+        contaAberta = ContaAbertaEvent.builder()
+                .eventoId(UuidOrdenadoUtil.gerar())
+                .solicitacaoId(1L)
+                .cpf("12345678901")
+                .nome("João Silva")
+                .email("joao.silva@email.com")
+                .telefone("11987654321")
+                .canal("AZUL")
+                .numeroConta("12345-6")
+                .dataHora(agora)
+                .build();
+        rejeitada = SolicitacaoRejeitadaEvent.builder()
+                .eventoId(UuidOrdenadoUtil.gerar())
+                .solicitacaoId(2L)
+                .cpf("98765432100")
+                .nome("Maria Souza")
+                .email("maria.souza@email.com")
+                .telefone("11912345678")
+                .canal("AMERICA")
+                .motivoRejeicao("SERASA - Pendências no Serasa que precisam ser regularizadas antes de abrir sua conta")
+                .tipoRejeicao("SERASA")
+                .dataHora(agora)
+                .build();
+        jsonContaAberta = escritorContaAberta.writeValueAsString(contaAberta);
+        jsonRejeitada = escritorRejeitada.writeValueAsString(rejeitada);
+    }
+
+    @Benchmark
+    public String serializarContaAberta() throws JsonProcessingException {
+        return escritorContaAberta.writeValueAsString(contaAberta);
+    }
+
+    @Benchmark
+    public ContaAbertaEvent desserializarContaAberta() throws JsonProcessingException {
+        return leitorContaAberta.readValue(jsonContaAberta);
+    }
+
+    @Benchmark
+    public String serializarRejeitada() throws JsonProcessingException {
+        return escritorRejeitada.writeValueAsString(rejeitada);
+    }
+
+    @Benchmark
+    public SolicitacaoRejeitadaEvent desserializarRejeitada() throws JsonProcessingException {
+        return leitorRejeitada.readValue(jsonRejeitada);
+    }
+}
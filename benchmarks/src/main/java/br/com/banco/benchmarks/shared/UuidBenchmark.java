@@ -0,0 +1,64 @@
+package br.com.banco.benchmarks.shared;
+
+import br.com.banco.shared.kafka.util.UuidOrdenadoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UuidOrdenadoUtil#gerar()} contra {@link UUID#randomUUID()} com 1, 8 e 32 threads gerando ao
+ * mesmo tempo: o {@code randomUUID} passa por um {@code SecureRandom} compartilhado.
+ *
+ * Execução: java -jar target/benchmarks.jar UuidBenchmark -prof gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public UUID randomUuid1Thread() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomUuid8Threads() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UUID randomUuid32Threads() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID uuidOrdenado1Thread() {
+        return UuidOrdenadoUtil.gerar();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidOrdenado8Threads() {
+        return UuidOrdenadoUtil.gerar();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public UUID uuidOrdenado32Threads() {
+        return UuidOrdenadoUtil.gerar();
+    }
+}
@@ -1,77 +1,127 @@
 package br.com.banco.notification.application;
 
 import br.com.banco.notification.application.notificacao.NotificacaoFacade;
+import br.com.banco.notification.application.notificacao.NotificacaoFactory;
 import br.com.banco.shared.kafka.config.KafkaTopics;
 import br.com.banco.shared.kafka.events.ContaAbertaEvent;
 import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
 import br.com.banco.shared.kafka.util.CorrelationIdUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectReader;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Consome os eventos finais da solicitação em lotes (um lote por poll, até
+ * {@code spring.kafka.consumer.max-poll-records}).
+ *
+ * O lote inteiro é desserializado antes do envio e os eventos são repassados ao {@link NotificacaoFacade}
+ * agrupados por canal, na ordem em que o primeiro evento de cada canal aparece. O offset é confirmado
+ * uma vez ao fim do lote, quando email, SMS e push de todos os eventos terminaram ou falharam de vez.
+ * Payload inválido e canal sem notificação são descartados por registro, antes do envio: nova tentativa
+ * não resolve nenhum dos dois. Se mesmo assim um grupo falhar, o lote é reprocessado a partir do primeiro
+ * registro desse grupo; eventos de outros canais posteriores a ele podem ser notificados de novo.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SolicitacaoStatusFinalConsumer {
-    
+
     private final NotificacaoFacade notificacaoFacade;
-    private final ObjectMapper objectMapper;
-    
+    private final NotificacaoFactory notificacaoFactory;
+    private final ObjectReader contaAbertaReader;
+    private final ObjectReader solicitacaoRejeitadaReader;
+
+    public SolicitacaoStatusFinalConsumer(final NotificacaoFacade notificacaoFacade,
+                                          final NotificacaoFactory notificacaoFactory,
+                                          final ObjectMapper objectMapper) {
+        this.notificacaoFacade = notificacaoFacade;
+        this.notificacaoFactory = notificacaoFactory;
+        this.contaAbertaReader = objectMapper.readerFor(ContaAbertaEvent.class);
+        this.solicitacaoRejeitadaReader = objectMapper.readerFor(SolicitacaoRejeitadaEvent.class);
+    }
+
     @KafkaListener(
         topics = KafkaTopics.CONTA_ABERTA,
-        groupId = "notification-service"
+        groupId = "notification-service",
+        batch = "true"
     )
-    public void processarContaAberta(ConsumerRecord<String, String> record) {
-        String correlationId = extractCorrelationId(record);
-        CorrelationIdUtil.setCorrelationId(correlationId);
-        
-        try {
-            log.info("Recebendo evento ContaAberta: correlationId={}, message={}", 
-                    correlationId, record.value());
-            
-            ContaAbertaEvent event = objectMapper.readValue(record.value(), ContaAbertaEvent.class);
-            notificacaoFacade.notificarContaAberta(event);
-            
-        } catch (Exception e) {
-            log.error("Erro ao processar evento ContaAberta: correlationId={}", correlationId, e);
-            throw new RuntimeException("Erro ao processar evento", e);
-        } finally {
-            CorrelationIdUtil.clearCorrelationId();
-        }
+    public void processarContaAberta(List<ConsumerRecord<String, String>> records) {
+        log.info("Recebendo lote de {} eventos ContaAberta", records.size());
+        processarLote(records, contaAbertaReader, ContaAbertaEvent::getCanal, notificacaoFacade::notificarContasAbertas);
     }
-    
+
     @KafkaListener(
         topics = KafkaTopics.SOLICITACAO_REJEITADA,
-        groupId = "notification-service"
+        groupId = "notification-service",
+        batch = "true"
     )
-    public void processarSolicitacaoRejeitada(ConsumerRecord<String, String> record) {
-        String correlationId = extractCorrelationId(record);
-        CorrelationIdUtil.setCorrelationId(correlationId);
-        
+    public void processarSolicitacaoRejeitada(List<ConsumerRecord<String, String>> records) {
+        log.info("Recebendo lote de {} eventos SolicitacaoRejeitada", records.size());
+        processarLote(records, solicitacaoRejeitadaReader, SolicitacaoRejeitadaEvent::getCanal,
+                notificacaoFacade::notificarRejeitadas);
+    }
+
+    private <T> void processarLote(List<ConsumerRecord<String, String>> records,
+                                   ObjectReader reader,
+                                   Function<T, String> canal,
+                                   BiFunction<String, List<T>, CompletableFuture<Void>> notificar) {
+        Map<String, Grupo<T>> grupos = new LinkedHashMap<>();
+
+        for (ConsumerRecord<String, String> record : records) {
+            String correlationId = extractCorrelationId(record);
+            CorrelationIdUtil.setCorrelationId(correlationId);
+            try {
+                log.debug("Evento recebido: correlationId={}, topic={}, offset={}, message={}",
+                        correlationId, record.topic(), record.offset(), record.value());
+
+                T event = reader.readValue(record.value());
+                String nomeCanal = canal.apply(event);
+                if (!notificacaoFactory.possuiCanal(nomeCanal)) {
+                    log.error("Evento descartado por canal sem notificação: canal={}, correlationId={}, topic={}, offset={}",
+                            nomeCanal, correlationId, record.topic(), record.offset());
+                    continue;
+                }
+                grupos.computeIfAbsent(nomeCanal, c -> new Grupo<>(record)).events().add(event);
+            } catch (IOException e) {
+                // Payload inválido não melhora com nova tentativa: descarta para não travar a partição
+                log.error("Evento descartado por payload inválido: correlationId={}, topic={}, offset={}",
+                        correlationId, record.topic(), record.offset(), e);
+            } finally {
+                CorrelationIdUtil.clearCorrelationId();
+            }
+        }
+
+        List<CompletableFuture<Void>> envios = new ArrayList<>();
         try {
-            log.info("Recebendo evento SolicitacaoRejeitada: correlationId={}, message={}", 
-                    correlationId, record.value());
-            
-            SolicitacaoRejeitadaEvent event = objectMapper.readValue(
-                record.value(), 
-                SolicitacaoRejeitadaEvent.class
-            );
-            notificacaoFacade.notificarRejeitada(event);
-            
-        } catch (Exception e) {
-            log.error("Erro ao processar evento SolicitacaoRejeitada: correlationId={}", correlationId, e);
-            throw new RuntimeException("Erro ao processar evento", e);
+            grupos.forEach((nomeCanal, grupo) -> {
+                try {
+                    envios.add(notificar.apply(nomeCanal, grupo.events()));
+                } catch (Exception e) {
+                    log.error("Erro ao notificar grupo do canal {}: {} eventos", nomeCanal, grupo.events().size(), e);
+                    throw new BatchListenerFailedException("Erro ao processar evento", e, grupo.primeiro());
+                }
+            });
         } finally {
-            CorrelationIdUtil.clearCorrelationId();
+            // O offset do lote só é confirmado depois que todos os envios já disparados terminaram
+            CompletableFuture.allOf(envios.toArray(CompletableFuture[]::new)).join();
         }
     }
-    
+
     private String extractCorrelationId(ConsumerRecord<String, String> record) {
         String correlationIdHeader = CorrelationIdUtil.getCorrelationIdHeader();
-        
+
         if (record.headers() != null) {
             var headers = record.headers().headers(correlationIdHeader);
             if (headers != null) {
@@ -84,7 +134,14 @@ public class SolicitacaoStatusFinalConsumer {
                 }
             }
         }
-        
+
         return CorrelationIdUtil.getCorrelationId();
     }
-}
\ No newline at end of file
+
+    private record Grupo<T>(ConsumerRecord<String, String> primeiro, List<T> events) {
+
+        Grupo(ConsumerRecord<String, String> primeiro) {
+            this(primeiro, new ArrayList<>());
+        }
+    }
+}
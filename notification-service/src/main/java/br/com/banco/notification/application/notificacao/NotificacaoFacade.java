@@ -3,9 +3,20 @@ package br.com.banco.notification.application.notificacao;
 import br.com.banco.shared.kafka.events.ContaAbertaEvent;
 import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface NotificacaoFacade {
 
-    void notificarContaAberta(ContaAbertaEvent event);
+    CompletableFuture<Void> notificarContaAberta(ContaAbertaEvent event);
+
+    CompletableFuture<Void> notificarRejeitada(SolicitacaoRejeitadaEvent event);
+
+    /**
+     * Notifica um grupo de eventos do mesmo canal, resolvendo a estratégia uma única vez.
+     * O futuro completa quando todos os envios do grupo terminaram.
+     */
+    CompletableFuture<Void> notificarContasAbertas(String canal, List<ContaAbertaEvent> events);
 
-    void notificarRejeitada(SolicitacaoRejeitadaEvent event);
+    CompletableFuture<Void> notificarRejeitadas(String canal, List<SolicitacaoRejeitadaEvent> events);
 }
\ No newline at end of file
@@ -2,38 +2,121 @@ package br.com.banco.notification.application.notificacao;
 
 import br.com.banco.shared.kafka.events.ContaAbertaEvent;
 import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Dispara email, SMS e push em paralelo, cada um no executor do seu canal e com timeout próprio.
+ *
+ * O futuro devolvido só completa quando os três envios terminaram, com sucesso ou com falha definitiva
+ * (erro do provedor ou timeout), e nunca completa com erro: a falha de um canal é logada e não impede
+ * os demais. O timeout libera quem espera, mas não interrompe a chamada ao provedor em andamento.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificacaoFacadeImpl implements NotificacaoFacade {
 
     private final NotificacaoFactory notificacaoFactory;
+    private final Executor emailExecutor;
+    private final Executor smsExecutor;
+    private final Executor pushExecutor;
+    private final long timeoutEmailMs;
+    private final long timeoutSmsMs;
+    private final long timeoutPushMs;
+
+    public NotificacaoFacadeImpl(NotificacaoFactory notificacaoFactory,
+                                 @Qualifier("emailExecutor") Executor emailExecutor,
+                                 @Qualifier("smsExecutor") Executor smsExecutor,
+                                 @Qualifier("pushExecutor") Executor pushExecutor,
+                                 @Value("${notificacao.envio.email.timeout-ms:5000}") long timeoutEmailMs,
+                                 @Value("${notificacao.envio.sms.timeout-ms:3000}") long timeoutSmsMs,
+                                 @Value("${notificacao.envio.push.timeout-ms:2000}") long timeoutPushMs) {
+        this.notificacaoFactory = notificacaoFactory;
+        this.emailExecutor = emailExecutor;
+        this.smsExecutor = smsExecutor;
+        this.pushExecutor = pushExecutor;
+        this.timeoutEmailMs = timeoutEmailMs;
+        this.timeoutSmsMs = timeoutSmsMs;
+        this.timeoutPushMs = timeoutPushMs;
+    }
 
     @Override
-    public void notificarContaAberta(ContaAbertaEvent event) {
+    public CompletableFuture<Void> notificarContaAberta(ContaAbertaEvent event) {
         log.info("Notificando conta aberta para canal: {}", event.getCanal());
-        
+
         NotificacaoStrategy strategy = notificacaoFactory.getNotificadorPorCanal(event.getCanal());
 
-        strategy.notificarPorEmailContaAberta(event);
-        strategy.notificarPorSmsContaAberta(event);
-        strategy.notificarPorPushContaAberta(event);
+        return enviarContaAberta(strategy, event);
     }
 
     @Override
-    @Async
-    public void notificarRejeitada(SolicitacaoRejeitadaEvent event) {
+    public CompletableFuture<Void> notificarRejeitada(SolicitacaoRejeitadaEvent event) {
         log.info("Notificando rejeição para canal: {}", event.getCanal());
-        
+
         NotificacaoStrategy strategy = notificacaoFactory.getNotificadorPorCanal(event.getCanal());
 
-        strategy.notificarPorEmailRejeitada(event);
-        strategy.notificarPorSmsRejeitada(event);
-        strategy.notificarPorPushRejeitada(event);
+        return enviarRejeitada(strategy, event);
+    }
+
+    @Override
+    public CompletableFuture<Void> notificarContasAbertas(String canal, List<ContaAbertaEvent> events) {
+        log.info("Notificando {} contas abertas para canal: {}", events.size(), canal);
+
+        NotificacaoStrategy strategy = notificacaoFactory.getNotificadorPorCanal(canal);
+
+        return CompletableFuture.allOf(events.stream()
+                .map(event -> enviarContaAberta(strategy, event))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public CompletableFuture<Void> notificarRejeitadas(String canal, List<SolicitacaoRejeitadaEvent> events) {
+        log.info("Notificando {} rejeições para canal: {}", events.size(), canal);
+
+        NotificacaoStrategy strategy = notificacaoFactory.getNotificadorPorCanal(canal);
+
+        return CompletableFuture.allOf(events.stream()
+                .map(event -> enviarRejeitada(strategy, event))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> enviarContaAberta(NotificacaoStrategy strategy, ContaAbertaEvent event) {
+        Long solicitacaoId = event.getSolicitacaoId();
+        return CompletableFuture.allOf(
+                enviar("email", solicitacaoId, () -> strategy.notificarPorEmailContaAberta(event), emailExecutor, timeoutEmailMs),
+                enviar("sms", solicitacaoId, () -> strategy.notificarPorSmsContaAberta(event), smsExecutor, timeoutSmsMs),
+                enviar("push", solicitacaoId, () -> strategy.notificarPorPushContaAberta(event), pushExecutor, timeoutPushMs));
+    }
+
+    private CompletableFuture<Void> enviarRejeitada(NotificacaoStrategy strategy, SolicitacaoRejeitadaEvent event) {
+        Long solicitacaoId = event.getSolicitacaoId();
+        return CompletableFuture.allOf(
+                enviar("email", solicitacaoId, () -> strategy.notificarPorEmailRejeitada(event), emailExecutor, timeoutEmailMs),
+                enviar("sms", solicitacaoId, () -> strategy.notificarPorSmsRejeitada(event), smsExecutor, timeoutSmsMs),
+                enviar("push", solicitacaoId, () -> strategy.notificarPorPushRejeitada(event), pushExecutor, timeoutPushMs));
+    }
+
+    private CompletableFuture<Void> enviar(String canalEnvio, Long solicitacaoId, Runnable envio,
+                                           Executor executor, long timeoutMs) {
+        return CompletableFuture.runAsync(envio, executor)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(erro -> {
+                    Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+                    if (causa instanceof TimeoutException) {
+                        log.error("Envio de {} da solicitação {} excedeu {} ms", canalEnvio, solicitacaoId, timeoutMs);
+                    } else {
+                        log.error("Falha definitiva no envio de {} da solicitação {}", canalEnvio, solicitacaoId, causa);
+                    }
+                    return null;
+                });
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,19 @@
 package br.com.banco.notification.application.notificacao;
 
+import br.com.banco.notification.application.notificacao.template.CatalogoTemplates;
+import br.com.banco.notification.core.service.EmailService;
+import br.com.banco.notification.core.service.PushService;
+import br.com.banco.notification.core.service.SmsService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Uma {@link NotificacaoPorTemplate} por canal do {@link CatalogoTemplates}.
+ */
 @Slf4j
 @Component
 public class NotificacaoFactory {
@@ -15,16 +21,21 @@ public class NotificacaoFactory {
     private final Map<String, NotificacaoStrategy> strategies;
 
     @Autowired
-    public NotificacaoFactory(java.util.List<NotificacaoStrategy> strategyList) {
-        this.strategies = strategyList.stream()
-            .collect(Collectors.toMap(
-                NotificacaoStrategy::getNomeCanal,
-                Function.identity()
+    public NotificacaoFactory(CatalogoTemplates catalogoTemplates, EmailService emailService,
+                              SmsService smsService, PushService pushService) {
+        this.strategies = catalogoTemplates.getCanais().entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(
+                Map.Entry::getKey,
+                canal -> new NotificacaoPorTemplate(canal.getValue(), emailService, smsService, pushService)
             ));
     }
 
+    public boolean possuiCanal(String canal) {
+        return canal != null && strategies.containsKey(canal.toUpperCase());
+    }
+
     public NotificacaoStrategy getNotificadorPorCanal(String canal) {
-        NotificacaoStrategy strategy = strategies.get(canal.toUpperCase());
+        NotificacaoStrategy strategy = canal == null ? null : strategies.get(canal.toUpperCase());
         if (strategy == null) {
             throw new IllegalArgumentException(
                 canal + " - Canal não possui notificação implementada."
@@ -0,0 +1,77 @@
+package br.com.banco.notification.application.notificacao;
+
+import br.com.banco.notification.application.notificacao.template.TemplatesCanal;
+import br.com.banco.notification.core.service.EmailService;
+import br.com.banco.notification.core.service.PushService;
+import br.com.banco.notification.core.service.SmsService;
+import br.com.banco.shared.kafka.events.ContaAbertaEvent;
+import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
+
+/**
+ * Notificação de um canal definido só por dados: os textos vêm dos {@link TemplatesCanal} já compilados.
+ */
+public class NotificacaoPorTemplate extends AbstractNotificacao {
+
+    private final TemplatesCanal templates;
+
+    public NotificacaoPorTemplate(TemplatesCanal templates, EmailService emailService, SmsService smsService,
+                                  PushService pushService) {
+        super(emailService, smsService, pushService);
+        this.templates = templates;
+    }
+
+    @Override
+    public String getNomeCanal() {
+        return templates.getCanal();
+    }
+
+    @Override
+    protected String getAssuntoEmailContaAberta() {
+        return templates.getAssuntoEmailContaAberta();
+    }
+
+    @Override
+    protected String getCorpoEmailContaAberta(ContaAbertaEvent event) {
+        return templates.getCorpoEmailContaAberta(event.getNumeroConta());
+    }
+
+    @Override
+    protected String getMensagemSmsContaAberta(ContaAbertaEvent event) {
+        return templates.getSmsContaAberta(event.getNumeroConta());
+    }
+
+    @Override
+    protected String getTituloPushContaAberta() {
+        return templates.getTituloPushContaAberta();
+    }
+
+    @Override
+    protected String getCorpoPushContaAberta(ContaAbertaEvent event) {
+        return templates.getCorpoPushContaAberta(event.getNumeroConta());
+    }
+
+    @Override
+    protected String getAssuntoEmailRejeitada(TipoRejeicaoEnum tipoRejeicao) {
+        return templates.getRejeicao(tipoRejeicao).assuntoEmail();
+    }
+
+    @Override
+    protected String getCorpoEmailRejeitada(SolicitacaoRejeitadaEvent event, TipoRejeicaoEnum tipoRejeicao) {
+        return templates.getRejeicao(tipoRejeicao).corpoEmail();
+    }
+
+    @Override
+    protected String getMensagemSmsRejeitada(SolicitacaoRejeitadaEvent event, TipoRejeicaoEnum tipoRejeicao) {
+        return templates.getRejeicao(tipoRejeicao).sms();
+    }
+
+    @Override
+    protected String getTituloPushRejeitada(TipoRejeicaoEnum tipoRejeicao) {
+        return templates.getRejeicao(tipoRejeicao).tituloPush();
+    }
+
+    @Override
+    protected String getCorpoPushRejeitada(SolicitacaoRejeitadaEvent event, TipoRejeicaoEnum tipoRejeicao) {
+        return templates.getRejeicao(tipoRejeicao).corpoPush();
+    }
+}
@@ -29,39 +29,60 @@ public enum TipoRejeicaoEnum {
     private final String titulo;
     private final String mensagem;
 
+    /**
+     * Fallback para eventos antigos, que chegam só com o texto do motivo: o tipo vem em {@code tipoRejeicao}
+     * desde que o aco-service passou a gravar o código da rejeição. O texto é percorrido uma vez, sem cópia em
+     * maiúsculas, comparando as palavras-chave sem distinção de caixa; se mais de um tipo aparece, vale o
+     * declarado primeiro, como na antiga sequência de testes.
+     */
     public static TipoRejeicaoEnum identificarPorMotivo(String motivoRejeicao) {
         if (motivoRejeicao == null || motivoRejeicao.isBlank()) {
             return OUTROS;
         }
-        
-        String motivoUpper = motivoRejeicao.toUpperCase();
-        
-        if (motivoUpper.contains("TOPAZ") || motivoUpper.contains("DISPOSITIVO") || motivoUpper.contains("DEVICE")) {
-            return TOPAZ;
-        }
-        
-        if (motivoUpper.contains("ANTIFRAUDE") || motivoUpper.contains("FRAUDE")) {
-            return ANTIFRAUDE;
-        }
-        
-        if (motivoUpper.contains("PIX")) {
-            return PIX;
-        }
-        
-        if (motivoUpper.contains("SERASA") || motivoUpper.contains("SCORE") || motivoUpper.contains("PENDENCIA")) {
-            return SERASA;
-        }
-        
-        if (motivoUpper.contains("PROVA_VIDA") || motivoUpper.contains("PROVA DE VIDA") 
-            || motivoUpper.contains("SELFIE") || motivoUpper.contains("DOCUMENTO") 
-            || motivoUpper.contains("BIOMETRIA") || motivoUpper.contains("SIMILARIDADE")) {
-            return PROVA_VIDA;
+
+        TipoRejeicaoEnum encontrado = OUTROS;
+        for (int posicao = 0; posicao < motivoRejeicao.length(); posicao++) {
+            final char inicial = Character.toUpperCase(motivoRejeicao.charAt(posicao));
+            if (PalavrasChave.INICIAIS.indexOf(inicial) < 0) {
+                continue;
+            }
+            for (int k = 0; k < PalavrasChave.PALAVRAS.length; k++) {
+                final String palavra = PalavrasChave.PALAVRAS[k];
+                final TipoRejeicaoEnum tipo = PalavrasChave.TIPOS[k];
+                if (tipo.ordinal() < encontrado.ordinal() && palavra.charAt(0) == inicial
+                        && motivoRejeicao.regionMatches(true, posicao, palavra, 0, palavra.length())) {
+                    encontrado = tipo;
+                }
+            }
+            if (encontrado == TOPAZ) {
+                break;
+            }
         }
-        
-        return OUTROS;
+        return encontrado;
     }
 
     public boolean isRejeicaoConhecida() {
         return this != OUTROS;
     }
-}
\ No newline at end of file
+
+    private static final class PalavrasChave {
+
+        private static final String[] PALAVRAS = {
+                "TOPAZ", "DISPOSITIVO", "DEVICE",
+                "ANTIFRAUDE", "FRAUDE",
+                "PIX",
+                "SERASA", "SCORE", "PENDENCIA",
+                "PROVA_VIDA", "PROVA DE VIDA", "SELFIE", "DOCUMENTO", "BIOMETRIA", "SIMILARIDADE"
+        };
+
+        private static final TipoRejeicaoEnum[] TIPOS = {
+                TOPAZ, TOPAZ, TOPAZ,
+                ANTIFRAUDE, ANTIFRAUDE,
+                PIX,
+                SERASA, SERASA, SERASA,
+                PROVA_VIDA, PROVA_VIDA, PROVA_VIDA, PROVA_VIDA, PROVA_VIDA, PROVA_VIDA
+        };
+
+        private static final String INICIAIS = "TDAFPSB";
+    }
+}
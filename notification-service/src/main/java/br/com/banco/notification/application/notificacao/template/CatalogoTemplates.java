@@ -0,0 +1,68 @@
+package br.com.banco.notification.application.notificacao.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Templates de todos os canais, carregados e compilados na subida.
+ *
+ * Cada arquivo {@code <canal>.properties} em {@code notificacao.templates.canais} é um canal, com o nome do
+ * arquivo em maiúsculas. Incluir um canal é incluir um arquivo. Um template inválido impede a subida.
+ */
+@Slf4j
+@Component
+public class CatalogoTemplates {
+
+    private static final String EXTENSAO = ".properties";
+
+    private final Map<String, TemplatesCanal> canais;
+
+    public CatalogoTemplates(
+            @Value("${notificacao.templates.canais:classpath*:notificacao/templates/canais/*.properties}") final String canais,
+            @Value("${notificacao.templates.rejeicoes:classpath:notificacao/templates/rejeicoes.properties}") final String rejeicoes) {
+        final var resolver = new PathMatchingResourcePatternResolver();
+        try {
+            final Properties mensagensPadrao = ler(resolver.getResource(rejeicoes));
+            final Map<String, TemplatesCanal> carregados = new TreeMap<>();
+            for (Resource arquivo : resolver.getResources(canais)) {
+                final String canal = nomeCanal(arquivo);
+                carregados.put(canal, new TemplatesCanal(canal, ler(arquivo), mensagensPadrao));
+            }
+            this.canais = Collections.unmodifiableMap(carregados);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao carregar templates de notificação", e);
+        }
+        log.info("Templates de notificação carregados para os canais {}", this.canais.keySet());
+    }
+
+    public Map<String, TemplatesCanal> getCanais() {
+        return canais;
+    }
+
+    private static String nomeCanal(final Resource arquivo) {
+        final String nome = arquivo.getFilename();
+        return nome.substring(0, nome.length() - EXTENSAO.length()).toUpperCase(Locale.ROOT);
+    }
+
+    private static Properties ler(final Resource arquivo) throws IOException {
+        final var propriedades = new Properties();
+        try (Reader leitor = new InputStreamReader(arquivo.getInputStream(), StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+        return propriedades;
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.banco.notification.application.notificacao.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Texto compilado em segmentos: trechos fixos intercalados com variáveis {@code {{nome}}}.
+ *
+ * A compilação acontece uma vez, na carga. {@link #fixar(Map)} troca as variáveis já conhecidas pelos
+ * valores e junta os trechos vizinhos; sem variáveis restantes o texto final fica pronto e a renderização
+ * só devolve a mesma String. Com variáveis, os trechos e os valores vão direto para um
+ * {@link StringBuilder} reaproveitado pela thread.
+ */
+public final class Template {
+
+    private static final String ABRE = "{{";
+    private static final String FECHA = "}}";
+    private static final int CAPACIDADE_MAXIMA_BUFFER = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final String[] trechos;
+    private final String[] variaveis;
+    private final String texto;
+
+    private Template(final List<String> trechos, final List<String> variaveis) {
+        this.trechos = trechos.toArray(String[]::new);
+        this.variaveis = variaveis.toArray(String[]::new);
+        this.texto = this.variaveis.length == 0 ? this.trechos[0] : null;
+    }
+
+    public static Template compilar(final String fonte) {
+        final List<String> trechos = new ArrayList<>();
+        final List<String> variaveis = new ArrayList<>();
+        int posicao = 0;
+        int abertura;
+        while ((abertura = fonte.indexOf(ABRE, posicao)) >= 0) {
+            final int fechamento = fonte.indexOf(FECHA, abertura + ABRE.length());
+            if (fechamento < 0) {
+                throw new IllegalArgumentException("Variável sem fechamento na posição " + abertura + ": " + fonte);
+            }
+            trechos.add(fonte.substring(posicao, abertura));
+            variaveis.add(fonte.substring(abertura + ABRE.length(), fechamento).trim());
+            posicao = fechamento + FECHA.length();
+        }
+        trechos.add(fonte.substring(posicao));
+        return new Template(trechos, variaveis);
+    }
+
+    /**
+     * Novo template com as variáveis de {@code valores} já substituídas; as demais continuam abertas.
+     */
+    public Template fixar(final Map<String, String> valores) {
+        final List<String> novosTrechos = new ArrayList<>();
+        final List<String> novasVariaveis = new ArrayList<>();
+        final StringBuilder atual = new StringBuilder(trechos[0]);
+        for (int i = 0; i < variaveis.length; i++) {
+            final String valor = valores.get(variaveis[i]);
+            if (valor != null) {
+                atual.append(valor);
+            } else {
+                novosTrechos.add(atual.toString());
+                novasVariaveis.add(variaveis[i]);
+                atual.setLength(0);
+            }
+            atual.append(trechos[i + 1]);
+        }
+        novosTrechos.add(atual.toString());
+        return new Template(novosTrechos, novasVariaveis);
+    }
+
+    public Set<String> getVariaveis() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(List.of(variaveis)));
+    }
+
+    public boolean isEstatico() {
+        return texto != null;
+    }
+
+    /**
+     * Texto pronto de um template sem variáveis.
+     */
+    public String renderizar() {
+        if (texto == null) {
+            throw new IllegalStateException("Template com variáveis abertas: " + getVariaveis());
+        }
+        return texto;
+    }
+
+    public String renderizar(final Function<String, String> valores) {
+        if (texto != null) {
+            return texto;
+        }
+        final StringBuilder destino = BUFFER.get();
+        destino.setLength(0);
+        destino.append(trechos[0]);
+        for (int i = 0; i < variaveis.length; i++) {
+            destino.append(valores.apply(variaveis[i]));
+            destino.append(trechos[i + 1]);
+        }
+        final String resultado = destino.toString();
+        if (destino.capacity() > CAPACIDADE_MAXIMA_BUFFER) {
+            BUFFER.remove();
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.banco.notification.application.notificacao.template;
+
+import br.com.banco.notification.application.notificacao.TipoRejeicaoEnum;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Mensagens de um canal compiladas a partir do arquivo de templates dele.
+ *
+ * As de rejeição dependem só do canal e do {@link TipoRejeicaoEnum}, então saem prontas da carga para cada
+ * tipo. As de conta aberta só podem usar {@value #NUMERO_CONTA}, preenchida a cada evento.
+ */
+public final class TemplatesCanal {
+
+    public static final String NUMERO_CONTA = "numeroConta";
+    public static final String TITULO = "titulo";
+    public static final String MENSAGEM = "mensagem";
+
+    private static final String PREFIXO_MENSAGEM_REJEICAO = "rejeicao.";
+
+    private final String canal;
+    private final String assuntoEmailContaAberta;
+    private final Template corpoEmailContaAberta;
+    private final Template smsContaAberta;
+    private final String tituloPushContaAberta;
+    private final Template corpoPushContaAberta;
+    private final Map<TipoRejeicaoEnum, Rejeicao> rejeicoes = new EnumMap<>(TipoRejeicaoEnum.class);
+
+    /**
+     * Mensagens prontas de uma rejeição do canal.
+     */
+    public record Rejeicao(String assuntoEmail, String corpoEmail, String sms, String tituloPush, String corpoPush) {
+    }
+
+    /**
+     * @param templates        chaves {@code conta-aberta.*} e {@code rejeitada.*} do canal
+     * @param mensagensPadrao  texto de cada tipo de rejeição ({@code rejeicao.<TIPO>}), que o canal pode sobrescrever
+     */
+    public TemplatesCanal(final String canal, final Properties templates, final Properties mensagensPadrao) {
+        this.canal = canal;
+        this.assuntoEmailContaAberta = estatico(templates, "conta-aberta.email.assunto");
+        this.corpoEmailContaAberta = comNumeroConta(templates, "conta-aberta.email.corpo");
+        this.smsContaAberta = comNumeroConta(templates, "conta-aberta.sms");
+        this.tituloPushContaAberta = estatico(templates, "conta-aberta.push.titulo");
+        this.corpoPushContaAberta = comNumeroConta(templates, "conta-aberta.push.corpo");
+
+        final Template assuntoEmail = compilar(templates, "rejeitada.email.assunto");
+        final Template corpoEmail = compilar(templates, "rejeitada.email.corpo");
+        final Template sms = compilar(templates, "rejeitada.sms");
+        final Template tituloPush = compilar(templates, "rejeitada.push.titulo");
+        final Template corpoPush = compilar(templates, "rejeitada.push.corpo");
+        for (TipoRejeicaoEnum tipo : TipoRejeicaoEnum.values()) {
+            final String chaveMensagem = PREFIXO_MENSAGEM_REJEICAO + tipo.name();
+            final Map<String, String> valores = Map.of(
+                    TITULO, tipo.getTitulo(),
+                    MENSAGEM, templates.getProperty(chaveMensagem,
+                            mensagensPadrao.getProperty(chaveMensagem, tipo.getMensagem())));
+            rejeicoes.put(tipo, new Rejeicao(
+                    renderizar(assuntoEmail, valores, "rejeitada.email.assunto"),
+                    renderizar(corpoEmail, valores, "rejeitada.email.corpo"),
+                    renderizar(sms, valores, "rejeitada.sms"),
+                    renderizar(tituloPush, valores, "rejeitada.push.titulo"),
+                    renderizar(corpoPush, valores, "rejeitada.push.corpo")));
+        }
+    }
+
+    public String getCanal() {
+        return canal;
+    }
+
+    public String getAssuntoEmailContaAberta() {
+        return assuntoEmailContaAberta;
+    }
+
+    public String getCorpoEmailContaAberta(final String numeroConta) {
+        return corpoEmailContaAberta.renderizar(variavel -> numeroConta);
+    }
+
+    public String getSmsContaAberta(final String numeroConta) {
+        return smsContaAberta.renderizar(variavel -> numeroConta);
+    }
+
+    public String getTituloPushContaAberta() {
+        return tituloPushContaAberta;
+    }
+
+    public String getCorpoPushContaAberta(final String numeroConta) {
+        return corpoPushContaAberta.renderizar(variavel -> numeroConta);
+    }
+
+    public Rejeicao getRejeicao(final TipoRejeicaoEnum tipo) {
+        return rejeicoes.get(tipo);
+    }
+
+    private String estatico(final Properties templates, final String chave) {
+        return renderizar(compilar(templates, chave), Map.of(), chave);
+    }
+
+    private Template comNumeroConta(final Properties templates, final String chave) {
+        final Template template = compilar(templates, chave);
+        if (!Set.of(NUMERO_CONTA).containsAll(template.getVariaveis())) {
+            throw invalido(chave, "só aceita a variável " + NUMERO_CONTA + ", encontradas " + template.getVariaveis());
+        }
+        return template;
+    }
+
+    private String renderizar(final Template template, final Map<String, String> valores, final String chave) {
+        final Template fixado = template.fixar(valores);
+        if (!fixado.isEstatico()) {
+            throw invalido(chave, "variáveis desconhecidas " + fixado.getVariaveis());
+        }
+        return fixado.renderizar();
+    }
+
+    private Template compilar(final Properties templates, final String chave) {
+        final String fonte = templates.getProperty(chave);
+        if (fonte == null) {
+            throw invalido(chave, "chave ausente");
+        }
+        return Template.compilar(fonte);
+    }
+
+    private IllegalStateException invalido(final String chave, final String problema) {
+        return new IllegalStateException("Template " + chave + " do canal " + canal + " inválido: " + problema);
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.banco.notification.infra.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Um executor por canal de envio, para que um provedor lento não ocupe as threads dos outros.
+ *
+ * Com a fila cheia a tarefa roda na thread do listener do Kafka, o que segura o próximo poll
+ * em vez de descartar a notificação.
+ */
+@Configuration
+public class NotificacaoExecutorConfig {
+
+    @Bean(name = "emailExecutor")
+    public Executor emailExecutor(@Value("${notificacao.envio.email.threads:10}") final int threads,
+                                  @Value("${notificacao.envio.email.fila:200}") final int fila) {
+        return executor("envio-email-", threads, fila);
+    }
+
+    @Bean(name = "smsExecutor")
+    public Executor smsExecutor(@Value("${notificacao.envio.sms.threads:10}") final int threads,
+                                @Value("${notificacao.envio.sms.fila:200}") final int fila) {
+        return executor("envio-sms-", threads, fila);
+    }
+
+    @Bean(name = "pushExecutor")
+    public Executor pushExecutor(@Value("${notificacao.envio.push.threads:10}") final int threads,
+                                 @Value("${notificacao.envio.push.fila:200}") final int fila) {
+        return executor("envio-push-", threads, fila);
+    }
+
+    private ThreadPoolTaskExecutor executor(final String prefixo, final int threads, final int fila) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(fila);
+        executor.setThreadNamePrefix(prefixo);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
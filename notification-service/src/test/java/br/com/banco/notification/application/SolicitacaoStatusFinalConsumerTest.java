@@ -0,0 +1,145 @@
+package br.com.banco.notification.application;
+
+import br.com.banco.notification.application.notificacao.NotificacaoFacade;
+import br.com.banco.notification.application.notificacao.NotificacaoFactory;
+import br.com.banco.notification.application.notificacao.template.CatalogoTemplates;
+import br.com.banco.notification.core.service.EmailService;
+import br.com.banco.notification.core.service.PushService;
+import br.com.banco.notification.core.service.SmsService;
+import br.com.banco.shared.kafka.config.KafkaTopics;
+import br.com.banco.shared.kafka.events.ContaAbertaEvent;
+import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SolicitacaoStatusFinalConsumer.
+ *
+ * Foco: agrupamento do lote por canal, descarte por registro do que nova tentativa não resolve e
+ * reprocessamento a partir do grupo que falhou.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitacaoStatusFinalConsumer - Consumo em lote dos eventos finais")
+class SolicitacaoStatusFinalConsumerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private NotificacaoFacade notificacaoFacade;
+
+    private SolicitacaoStatusFinalConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        final CatalogoTemplates catalogo = new CatalogoTemplates(
+                "classpath*:notificacao/templates/canais/*.properties", "classpath:notificacao/templates/rejeicoes.properties");
+        final NotificacaoFactory notificacaoFactory = new NotificacaoFactory(catalogo,
+                mock(EmailService.class), mock(SmsService.class), mock(PushService.class));
+        consumer = new SolicitacaoStatusFinalConsumer(notificacaoFacade, notificacaoFactory, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar o lote por canal na ordem do primeiro evento de cada canal")
+    void deveAgruparPorCanal() throws JsonProcessingException {
+        // Given
+        when(notificacaoFacade.notificarContasAbertas(anyString(), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        consumer.processarContaAberta(List.of(
+                registro(0, contaAberta(1L, "AZUL")),
+                registro(1, contaAberta(2L, "AMERICA")),
+                registro(2, contaAberta(3L, "AZUL"))));
+
+        // Then
+        final InOrder ordem = inOrder(notificacaoFacade);
+        ordem.verify(notificacaoFacade).notificarContasAbertas("AZUL", List.of(contaAberta(1L, "AZUL"), contaAberta(3L, "AZUL")));
+        ordem.verify(notificacaoFacade).notificarContasAbertas("AMERICA", List.of(contaAberta(2L, "AMERICA")));
+        verifyNoMoreInteractions(notificacaoFacade);
+    }
+
+    @Test
+    @DisplayName("Deve descartar payload inválido e canal nulo ou sem notificação sem falhar o lote")
+    void deveDescartarRegistrosSemReprocessamento() throws JsonProcessingException {
+        // Given
+        when(notificacaoFacade.notificarRejeitadas(anyString(), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        consumer.processarSolicitacaoRejeitada(List.of(
+                registro(0, "{invalido"),
+                registro(1, rejeitada(1L, "INEXISTENTE")),
+                registro(2, rejeitada(2L, null)),
+                registro(3, rejeitada(3L, "AMERICA"))));
+
+        // Then
+        verify(notificacaoFacade).notificarRejeitadas("AMERICA", List.of(rejeitada(3L, "AMERICA")));
+        verifyNoMoreInteractions(notificacaoFacade);
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar a partir do primeiro registro do grupo que falhou, esperando os envios já disparados")
+    void deveReprocessarAPartirDoGrupoQueFalhou() throws JsonProcessingException {
+        // Given
+        final AtomicBoolean primeiroGrupoConcluido = new AtomicBoolean();
+        when(notificacaoFacade.notificarContasAbertas(eq("AZUL"), anyList()))
+                .thenReturn(CompletableFuture.runAsync(() -> primeiroGrupoConcluido.set(true),
+                        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+        when(notificacaoFacade.notificarContasAbertas(eq("AMERICA"), anyList()))
+                .thenThrow(new IllegalStateException("Executor recusou o envio"));
+        final ConsumerRecord<String, String> primeiroAmerica = registro(1, contaAberta(2L, "AMERICA"));
+
+        // When
+        final BatchListenerFailedException erro = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.processarContaAberta(List.of(
+                        registro(0, contaAberta(1L, "AZUL")),
+                        primeiroAmerica,
+                        registro(2, contaAberta(3L, "AMERICA")))));
+
+        // Then
+        assertSame(primeiroAmerica, erro.getRecord());
+        assertTrue(primeiroGrupoConcluido.get());
+    }
+
+    private ConsumerRecord<String, String> registro(final long offset, final Object evento) throws JsonProcessingException {
+        final String valor = evento instanceof String texto ? texto : objectMapper.writeValueAsString(evento);
+        return new ConsumerRecord<>(KafkaTopics.CONTA_ABERTA, 0, offset, null, valor);
+    }
+
+    private static ContaAbertaEvent contaAberta(final Long solicitacaoId, final String canal) {
+        return ContaAbertaEvent.builder()
+                .solicitacaoId(solicitacaoId)
+                .canal(canal)
+                .numeroConta("0001-" + solicitacaoId)
+                .build();
+    }
+
+    private static SolicitacaoRejeitadaEvent rejeitada(final Long solicitacaoId, final String canal) {
+        return SolicitacaoRejeitadaEvent.builder()
+                .solicitacaoId(solicitacaoId)
+                .canal(canal)
+                .tipoRejeicao("SERASA")
+                .build();
+    }
+}
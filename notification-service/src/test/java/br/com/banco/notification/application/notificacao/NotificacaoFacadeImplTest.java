@@ -0,0 +1,152 @@
+package br.com.banco.notification.application.notificacao;
+
+import br.com.banco.shared.kafka.events.ContaAbertaEvent;
+import br.com.banco.shared.kafka.events.SolicitacaoRejeitadaEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para NotificacaoFacadeImpl.
+ *
+ * Foco: timeout por canal de envio, isolamento entre canais e o contrato de nunca completar com erro.
+ * Email e SMS rodam em executores síncronos; o push roda em uma thread própria para poder ficar lento.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificacaoFacadeImpl - Envio paralelo por canal")
+class NotificacaoFacadeImplTest {
+
+    private static final Executor SINCRONO = Runnable::run;
+    private static final long TIMEOUT_PUSH_MS = 100;
+    private static final long ESPERA_MS = 2_000;
+
+    @Mock
+    private NotificacaoFactory notificacaoFactory;
+
+    @Mock
+    private NotificacaoStrategy strategy;
+
+    private final CountDownLatch liberarPush = new CountDownLatch(1);
+
+    private ExecutorService pushExecutor;
+
+    private NotificacaoFacadeImpl facade;
+
+    @BeforeEach
+    void setUp() {
+        pushExecutor = Executors.newSingleThreadExecutor();
+        facade = new NotificacaoFacadeImpl(notificacaoFactory, SINCRONO, SINCRONO, pushExecutor,
+                1_000, 1_000, TIMEOUT_PUSH_MS);
+        when(notificacaoFactory.getNotificadorPorCanal("AMERICA")).thenReturn(strategy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        liberarPush.countDown();
+        pushExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve completar no timeout do canal lento sem esperar o provedor")
+    void deveCompletarNoTimeoutDoCanalLento() throws Exception {
+        // Given
+        doAnswer(invocacao -> liberarPush.await(ESPERA_MS * 5, TimeUnit.MILLISECONDS))
+                .when(strategy).notificarPorPushContaAberta(any());
+        final long inicio = System.nanoTime();
+
+        // When
+        final CompletableFuture<Void> futuro = facade.notificarContaAberta(contaAberta(1L));
+        futuro.get(ESPERA_MS, TimeUnit.MILLISECONDS);
+
+        // Then
+        final long decorridoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        assertTrue(decorridoMs >= TIMEOUT_PUSH_MS, "completou antes do timeout do push: " + decorridoMs + " ms");
+        assertFalse(futuro.isCompletedExceptionally());
+        assertEquals(1, liberarPush.getCount());
+        verify(strategy).notificarPorEmailContaAberta(any());
+        verify(strategy).notificarPorSmsContaAberta(any());
+    }
+
+    @Test
+    @DisplayName("Não deve completar com erro quando todos os provedores falham")
+    void naoDeveCompletarComErroQuandoProvedoresFalham() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("SMTP indisponível")).when(strategy).notificarPorEmailRejeitada(any());
+        doThrow(new IllegalStateException("Gateway SMS indisponível")).when(strategy).notificarPorSmsRejeitada(any());
+        doThrow(new IllegalStateException("FCM indisponível")).when(strategy).notificarPorPushRejeitada(any());
+
+        // When
+        final CompletableFuture<Void> futuro = facade.notificarRejeitada(rejeitada(1L));
+
+        // Then
+        assertNull(futuro.get(ESPERA_MS, TimeUnit.MILLISECONDS));
+        assertFalse(futuro.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("Deve enviar pelos demais canais quando um canal falha")
+    void deveIsolarFalhaDeUmCanal() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("SMTP indisponível")).when(strategy).notificarPorEmailRejeitada(any());
+
+        // When
+        facade.notificarRejeitada(rejeitada(1L)).get(ESPERA_MS, TimeUnit.MILLISECONDS);
+
+        // Then
+        verify(strategy).notificarPorSmsRejeitada(any());
+        verify(strategy).notificarPorPushRejeitada(any());
+    }
+
+    @Test
+    @DisplayName("Deve resolver a estratégia uma vez e enviar cada evento do grupo mesmo com falha em outro")
+    void deveEnviarCadaEventoDoGrupo() throws Exception {
+        // Given
+        final ContaAbertaEvent comFalha = contaAberta(1L);
+        final ContaAbertaEvent semFalha = contaAberta(2L);
+        doThrow(new IllegalStateException("Gateway SMS indisponível")).when(strategy).notificarPorSmsContaAberta(comFalha);
+
+        // When
+        final CompletableFuture<Void> futuro = facade.notificarContasAbertas("AMERICA", List.of(comFalha, semFalha));
+        futuro.get(ESPERA_MS, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertFalse(futuro.isCompletedExceptionally());
+        verify(notificacaoFactory, times(1)).getNotificadorPorCanal("AMERICA");
+        verify(strategy).notificarPorEmailContaAberta(semFalha);
+        verify(strategy).notificarPorSmsContaAberta(semFalha);
+        verify(strategy).notificarPorPushContaAberta(semFalha);
+    }
+
+    private static ContaAbertaEvent contaAberta(final Long solicitacaoId) {
+        return ContaAbertaEvent.builder()
+                .solicitacaoId(solicitacaoId)
+                .nome("Cliente " + solicitacaoId)
+                .canal("AMERICA")
+                .numeroConta("0001-" + solicitacaoId)
+                .build();
+    }
+
+    private static SolicitacaoRejeitadaEvent rejeitada(final Long solicitacaoId) {
+        return SolicitacaoRejeitadaEvent.builder()
+                .solicitacaoId(solicitacaoId)
+                .nome("Cliente " + solicitacaoId)
+                .canal("AMERICA")
+                .build();
+    }
+}
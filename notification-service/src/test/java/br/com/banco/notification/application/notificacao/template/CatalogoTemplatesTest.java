@@ -0,0 +1,137 @@
+package br.com.banco.notification.application.notificacao.template;
+
+import br.com.banco.notification.application.notificacao.TipoRejeicaoEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para CatalogoTemplates.
+ *
+ * Foco: um canal por arquivo e textos renderizados iguais aos das antigas classes NotificacaoAmerica,
+ * NotificacaoAzul e NotificacaoFlamengo.
+ */
+@DisplayName("CatalogoTemplates - Carga dos templates de todos os canais")
+class CatalogoTemplatesTest {
+
+    private static final String CANAIS = "classpath*:notificacao/templates/canais/*.properties";
+    private static final String REJEICOES = "classpath:notificacao/templates/rejeicoes.properties";
+    private static final String CONTA = "0001-123456-7";
+
+    private final CatalogoTemplates catalogo = new CatalogoTemplates(CANAIS, REJEICOES);
+
+    @Test
+    @DisplayName("Deve carregar um canal por arquivo, com o nome do arquivo em maiúsculas")
+    void deveCarregarUmCanalPorArquivo() {
+        assertEquals(Set.of("AMERICA", "AZUL", "FLAMENGO"), catalogo.getCanais().keySet());
+        assertEquals("AZUL", catalogo.getCanais().get("AZUL").getCanal());
+    }
+
+    @Test
+    @DisplayName("Deve renderizar as mensagens do AMERICA iguais às antigas")
+    void deveRenderizarAmericaIgualAntes() {
+        // When
+        final TemplatesCanal america = catalogo.getCanais().get("AMERICA");
+        final TemplatesCanal.Rejeicao serasa = america.getRejeicao(TipoRejeicaoEnum.SERASA);
+
+        // Then
+        assertEquals("Bem-vindo! Sua conta está aberta", america.getAssuntoEmailContaAberta());
+        assertEquals("<html><body style='background-color: #FFD700; color: #000; padding: 20px;'>"
+                + "<h1>Olá!</h1>"
+                + "<p>Sua conta foi aberta com sucesso!</p>"
+                + "<p><strong>Número da conta:</strong> " + CONTA + "</p>"
+                + "<p>Acesse o app e aproveite nossos serviços!</p>"
+                + "</body></html>", america.getCorpoEmailContaAberta(CONTA));
+        assertEquals("Olá! Sua conta foi aberta com sucesso! Conta: " + CONTA + ". Acesse o app!",
+                america.getSmsContaAberta(CONTA));
+        assertEquals("Conta aberta!", america.getTituloPushContaAberta());
+        assertEquals("Sua conta está pronta para uso!", america.getCorpoPushContaAberta(CONTA));
+
+        assertEquals("Solicitação de conta - Pendências no Serasa", serasa.assuntoEmail());
+        assertEquals("<html><body style='background-color: #FFD700; color: #000; padding: 20px;'>"
+                + "<h1>Olá!</h1>"
+                + "<p>Sua solicitação de conta não foi aprovada.</p>"
+                + "<p><strong>Pendências no Serasa</strong></p>"
+                + "<p>Identificamos pendências no Serasa que precisam ser regularizadas antes de abrir sua conta.</p>"
+                + "<p>Entre em contato conosco para mais informações ou tente novamente.</p>"
+                + "</body></html>", serasa.corpoEmail());
+        assertEquals("Olá! Pendências no Serasa. Identificamos pendências no Serasa que precisam ser regularizadas "
+                + "antes de abrir sua conta. Entre em contato conosco.", serasa.sms());
+        assertEquals("Solicitação - Pendências no Serasa", serasa.tituloPush());
+        assertEquals("Identificamos pendências no Serasa que precisam ser regularizadas antes de abrir sua conta. "
+                + "Acesse o app para mais informações.", serasa.corpoPush());
+    }
+
+    @Test
+    @DisplayName("Deve renderizar as mensagens do AZUL iguais às antigas")
+    void deveRenderizarAzulIgualAntes() {
+        // When
+        final TemplatesCanal azul = catalogo.getCanais().get("AZUL");
+        final TemplatesCanal.Rejeicao provaVida = azul.getRejeicao(TipoRejeicaoEnum.PROVA_VIDA);
+
+        // Then
+        assertEquals("Bem-vindo à Azul! ✈️ Sua conta está aberta", azul.getAssuntoEmailContaAberta());
+        assertEquals("Olá! Sua conta Azul foi aberta com sucesso! ✈️ Conta: " + CONTA
+                + ". Acesse o app e comece a acumular milhas!", azul.getSmsContaAberta(CONTA));
+        assertEquals("Conta aberta! ✈️", azul.getTituloPushContaAberta());
+        assertEquals("Suas milhas já estão disponíveis no app Azul!", azul.getCorpoPushContaAberta(CONTA));
+
+        assertEquals("Solicitação de conta - Azul - Análise de documentos e selfie", provaVida.assuntoEmail());
+        assertEquals("Olá! ✈️ Análise de documentos e selfie. A análise de documentos e selfie não passou. "
+                + "Tente novamente com documentos válidos e selfie nítida. Entre em contato conosco.", provaVida.sms());
+        assertEquals("A análise de documentos e selfie não passou. Tente novamente com documentos válidos e selfie "
+                + "nítida. Acesse o app Azul para mais informações.", provaVida.corpoPush());
+    }
+
+    @Test
+    @DisplayName("Deve renderizar as mensagens do FLAMENGO iguais às antigas")
+    void deveRenderizarFlamengoIgualAntes() {
+        // When
+        final TemplatesCanal flamengo = catalogo.getCanais().get("FLAMENGO");
+        final TemplatesCanal.Rejeicao outros = flamengo.getRejeicao(TipoRejeicaoEnum.OUTROS);
+
+        // Then
+        assertEquals("<html><body style='background-color: #C8102E; color: white; padding: 20px;'>"
+                + "<h1>🏴‍☠️ Olá, torcedor rubro-negro!</h1>"
+                + "<p>Sua conta foi aberta com sucesso!</p>"
+                + "<p><strong>Número da conta:</strong> " + CONTA + "</p>"
+                + "<p>Acesse o app do Flamengo e aproveite todos os benefícios!</p>"
+                + "</body></html>", flamengo.getCorpoEmailContaAberta(CONTA));
+        assertEquals("Olá, torcedor rubro-negro! 🏴‍☠️ Sua conta Flamengo foi aberta com sucesso! Conta: " + CONTA
+                + ". Acesse o app!", flamengo.getSmsContaAberta(CONTA));
+
+        assertEquals("Solicitação de conta - Flamengo - Análise não aprovada", outros.assuntoEmail());
+        assertEquals("<html><body style='background-color: #C8102E; color: white; padding: 20px;'>"
+                + "<h1>🏴‍☠️ Olá, torcedor rubro-negro!</h1>"
+                + "<p>Infelizmente sua solicitação de conta Flamengo não foi aprovada.</p>"
+                + "<p><strong>Análise não aprovada</strong></p>"
+                + "<p>Sua solicitação não foi aprovada na análise.</p>"
+                + "<p>Entre em contato conosco para mais informações ou tente novamente.</p>"
+                + "</body></html>", outros.corpoEmail());
+        assertEquals("Olá, torcedor rubro-negro! 🏴‍☠️ Análise não aprovada. Sua solicitação não foi aprovada na "
+                + "análise. Entre em contato conosco.", outros.sms());
+        assertEquals("Solicitação - Análise não aprovada", outros.tituloPush());
+    }
+
+    @Test
+    @DisplayName("Deve impedir a carga quando um canal tem template inválido")
+    void deveImpedirCargaComTemplateInvalido(@TempDir final Path diretorio) throws IOException {
+        // Given
+        Files.writeString(diretorio.resolve("novo.properties"),
+                "conta-aberta.email.assunto=Conta aberta, {{nome}}\n", StandardCharsets.UTF_8);
+        final String canais = diretorio.toUri() + "*.properties";
+
+        // When / Then
+        final IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> new CatalogoTemplates(canais, REJEICOES));
+        assertTrue(erro.getMessage().contains("NOVO"));
+    }
+}
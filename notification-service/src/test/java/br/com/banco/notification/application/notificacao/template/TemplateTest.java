@@ -0,0 +1,90 @@
+package br.com.banco.notification.application.notificacao.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para Template.
+ *
+ * Foco: compilação em trechos e variáveis, fixação parcial e renderização.
+ */
+@DisplayName("Template - Compilação e renderização de textos")
+class TemplateTest {
+
+    @Test
+    @DisplayName("Deve compilar texto sem variáveis como estático")
+    void deveCompilarTextoSemVariaveisComoEstatico() {
+        // When
+        final Template template = Template.compilar("Conta aberta!");
+
+        // Then
+        assertTrue(template.isEstatico());
+        assertEquals(Set.of(), template.getVariaveis());
+        assertEquals("Conta aberta!", template.renderizar());
+    }
+
+    @Test
+    @DisplayName("Deve renderizar as variáveis nas posições, inclusive no início, no fim e repetidas")
+    void deveRenderizarVariaveis() {
+        // Given
+        final Template template = Template.compilar("{{a}}-{{ b }}-{{a}}");
+        final Map<String, String> valores = Map.of("a", "1", "b", "2");
+
+        // When
+        final String texto = template.renderizar(valores::get);
+
+        // Then
+        assertFalse(template.isEstatico());
+        assertEquals(Set.of("a", "b"), template.getVariaveis());
+        assertEquals("1-2-1", texto);
+    }
+
+    @Test
+    @DisplayName("Deve fixar só as variáveis conhecidas e manter as demais abertas")
+    void deveFixarParcialmente() {
+        // Given
+        final Template template = Template.compilar("Olá! {{titulo}}. {{mensagem}} Conta: {{numeroConta}}.");
+
+        // When
+        final Template fixado = template.fixar(Map.of("titulo", "Análise PIX", "mensagem", "Pendências."));
+
+        // Then
+        assertEquals(Set.of("numeroConta"), fixado.getVariaveis());
+        assertEquals("Olá! Análise PIX. Pendências. Conta: 0001-9.", fixado.renderizar(variavel -> "0001-9"));
+    }
+
+    @Test
+    @DisplayName("Deve ficar estático ao fixar todas as variáveis")
+    void deveFicarEstaticoAoFixarTodas() {
+        // When
+        final Template fixado = Template.compilar("Solicitação - {{titulo}}").fixar(Map.of("titulo", "Análise PIX"));
+
+        // Then
+        assertTrue(fixado.isEstatico());
+        assertEquals("Solicitação - Análise PIX", fixado.renderizar());
+        assertSame(fixado.renderizar(), fixado.renderizar(variavel -> "ignorado"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar renderizar sem valores um template com variáveis abertas")
+    void deveRecusarRenderizarComVariaveisAbertas() {
+        // Given
+        final Template template = Template.compilar("Conta: {{numeroConta}}");
+
+        // When / Then
+        final IllegalStateException erro = assertThrows(IllegalStateException.class, template::renderizar);
+        assertTrue(erro.getMessage().contains("numeroConta"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar variável sem fechamento")
+    void deveRecusarVariavelSemFechamento() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> Template.compilar("Conta: {{numeroConta"));
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.banco.notification.application.notificacao.template;
+
+import br.com.banco.notification.application.notificacao.TipoRejeicaoEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para TemplatesCanal.
+ *
+ * Foco: mensagens de rejeição prontas na carga, sobrescrita de {@code rejeicao.<TIPO>} pelo canal e
+ * falha na carga para chave ausente ou variável desconhecida.
+ */
+@DisplayName("TemplatesCanal - Mensagens compiladas de um canal")
+class TemplatesCanalTest {
+
+    private Properties templates;
+    private Properties mensagensPadrao;
+
+    @BeforeEach
+    void setUp() {
+        templates = new Properties();
+        templates.setProperty("conta-aberta.email.assunto", "Conta aberta");
+        templates.setProperty("conta-aberta.email.corpo", "<p>Conta: {{numeroConta}}</p>");
+        templates.setProperty("conta-aberta.sms", "Conta: {{numeroConta}}.");
+        templates.setProperty("conta-aberta.push.titulo", "Conta aberta!");
+        templates.setProperty("conta-aberta.push.corpo", "Pronta para uso!");
+        templates.setProperty("rejeitada.email.assunto", "Solicitação - {{titulo}}");
+        templates.setProperty("rejeitada.email.corpo", "<p>{{titulo}}</p><p>{{mensagem}}</p>");
+        templates.setProperty("rejeitada.sms", "{{titulo}}. {{mensagem}}");
+        templates.setProperty("rejeitada.push.titulo", "{{titulo}}");
+        templates.setProperty("rejeitada.push.corpo", "{{mensagem}} Acesse o app.");
+
+        mensagensPadrao = new Properties();
+        mensagensPadrao.setProperty("rejeicao.PIX", "Pendências no PIX.");
+    }
+
+    @Test
+    @DisplayName("Deve montar as mensagens de rejeição com a mensagem padrão do tipo")
+    void deveMontarRejeicaoComMensagemPadrao() {
+        // When
+        final TemplatesCanal canal = new TemplatesCanal("TESTE", templates, mensagensPadrao);
+
+        // Then
+        final TemplatesCanal.Rejeicao rejeicao = canal.getRejeicao(TipoRejeicaoEnum.PIX);
+        assertEquals("Solicitação - Análise PIX", rejeicao.assuntoEmail());
+        assertEquals("<p>Análise PIX</p><p>Pendências no PIX.</p>", rejeicao.corpoEmail());
+        assertEquals("Análise PIX. Pendências no PIX.", rejeicao.sms());
+        assertEquals("Análise PIX", rejeicao.tituloPush());
+        assertEquals("Pendências no PIX. Acesse o app.", rejeicao.corpoPush());
+    }
+
+    @Test
+    @DisplayName("Deve usar a mensagem do enum quando o tipo não está no arquivo de rejeições")
+    void deveUsarMensagemDoEnumSemPadrao() {
+        // When
+        final TemplatesCanal canal = new TemplatesCanal("TESTE", templates, mensagensPadrao);
+
+        // Then
+        assertEquals(TipoRejeicaoEnum.OUTROS.getMensagem() + " Acesse o app.",
+                canal.getRejeicao(TipoRejeicaoEnum.OUTROS).corpoPush());
+    }
+
+    @Test
+    @DisplayName("Deve usar a mensagem rejeicao.<TIPO> do canal no lugar da padrão")
+    void deveSobrescreverMensagemPadraoPeloCanal() {
+        // Given
+        templates.setProperty("rejeicao.PIX", "Regularize sua chave PIX no app do canal.");
+
+        // When
+        final TemplatesCanal canal = new TemplatesCanal("TESTE", templates, mensagensPadrao);
+
+        // Then
+        assertEquals("Análise PIX. Regularize sua chave PIX no app do canal.", canal.getRejeicao(TipoRejeicaoEnum.PIX).sms());
+        assertEquals(TipoRejeicaoEnum.SERASA.getMensagem() + " Acesse o app.",
+                canal.getRejeicao(TipoRejeicaoEnum.SERASA).corpoPush());
+    }
+
+    @Test
+    @DisplayName("Deve preencher o número da conta nas mensagens de conta aberta")
+    void devePreencherNumeroConta() {
+        // When
+        final TemplatesCanal canal = new TemplatesCanal("TESTE", templates, mensagensPadrao);
+
+        // Then
+        assertEquals("Conta aberta", canal.getAssuntoEmailContaAberta());
+        assertEquals("<p>Conta: 0001-9</p>", canal.getCorpoEmailContaAberta("0001-9"));
+        assertEquals("Conta: 0001-9.", canal.getSmsContaAberta("0001-9"));
+        assertEquals("Pronta para uso!", canal.getCorpoPushContaAberta("0001-9"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar na carga quando falta uma chave")
+    void deveFalharComChaveAusente() {
+        // Given
+        templates.remove("rejeitada.sms");
+
+        // When / Then
+        final IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> new TemplatesCanal("TESTE", templates, mensagensPadrao));
+        assertTrue(erro.getMessage().contains("rejeitada.sms"));
+        assertTrue(erro.getMessage().contains("chave ausente"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar na carga com variável desconhecida na rejeição")
+    void deveFalharComVariavelDesconhecidaNaRejeicao() {
+        // Given
+        templates.setProperty("rejeitada.push.titulo", "{{titulo}} - {{nome}}");
+
+        // When / Then
+        final IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> new TemplatesCanal("TESTE", templates, mensagensPadrao));
+        assertTrue(erro.getMessage().contains("rejeitada.push.titulo"));
+        assertTrue(erro.getMessage().contains("nome"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar na carga com variável diferente de numeroConta na conta aberta")
+    void deveFalharComVariavelDesconhecidaNaContaAberta() {
+        // Given
+        templates.setProperty("conta-aberta.sms", "Olá, {{nome}}! Conta: {{numeroConta}}.");
+
+        // When / Then
+        final IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> new TemplatesCanal("TESTE", templates, mensagensPadrao));
+        assertTrue(erro.getMessage().contains("conta-aberta.sms"));
+    }
+}
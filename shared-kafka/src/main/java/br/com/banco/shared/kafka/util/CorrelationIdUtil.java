@@ -2,8 +2,6 @@ package br.com.banco.shared.kafka.util;
 
 import org.slf4j.MDC;
 
-import java.util.UUID;
-
 public class CorrelationIdUtil {
     
     private static final String CORRELATION_ID_KEY = "correlationId";
@@ -14,7 +12,7 @@ public class CorrelationIdUtil {
     public static String getCorrelationId() {
         String correlationId = correlationIdHolder.get();
         if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
+            correlationId = UuidOrdenadoUtil.gerar().toString();
             setCorrelationId(correlationId);
         }
         return correlationId;
@@ -32,6 +30,34 @@ public class CorrelationIdUtil {
         MDC.remove(CORRELATION_ID_KEY);
     }
 
+    /**
+     * Envolve a tarefa para que ela rode com o correlation ID da thread que a submeteu e devolva a thread
+     * executora ao estado anterior no fim. Vale também quando quem submete não tem ID, como a thread de
+     * aquisição do job executor: o ID que a tarefa definir durante a execução não fica para a próxima
+     * tarefa do pool. Tem a forma de um {@code TaskDecorator} do Spring:
+     * {@code executor.setTaskDecorator(CorrelationIdUtil::propagar)}.
+     */
+    public static Runnable propagar(final Runnable tarefa) {
+        final String correlationId = correlationIdHolder.get();
+        return () -> {
+            final String anterior = correlationIdHolder.get();
+            if (correlationId == null || correlationId.isEmpty()) {
+                clearCorrelationId();
+            } else {
+                setCorrelationId(correlationId);
+            }
+            try {
+                tarefa.run();
+            } finally {
+                if (anterior == null) {
+                    clearCorrelationId();
+                } else {
+                    setCorrelationId(anterior);
+                }
+            }
+        };
+    }
+
     public static String getCorrelationIdHeader() {
         return CORRELATION_ID_HEADER;
     }
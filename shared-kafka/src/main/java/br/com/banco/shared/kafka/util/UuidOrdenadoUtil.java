@@ -0,0 +1,39 @@
+package br.com.banco.shared.kafka.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID versão 7 (RFC 9562): 48 bits com o instante em milissegundos seguidos de 74 bits aleatórios.
+ *
+ * IDs gerados depois ordenam depois, o que mantém as inserções no fim dos índices. A parte aleatória vem do
+ * {@link ThreadLocalRandom}, semeado por thread e sem lock, em vez do {@code SecureRandom} compartilhado do
+ * {@link UUID#randomUUID()}. Serve para identificadores de correlação e de eventos, não para segredos:
+ * o gerador não é criptograficamente seguro. Na mesma thread e no mesmo milissegundo a ordem não é garantida.
+ */
+public final class UuidOrdenadoUtil {
+
+    private static final long VERSAO = 0x7000L;
+    private static final long MASCARA_ALEATORIO_A = 0x0FFFL;
+    private static final long VARIANTE = 0x8000000000000000L;
+    private static final long MASCARA_ALEATORIO_B = 0x3FFFFFFFFFFFFFFFL;
+
+    private UuidOrdenadoUtil() {
+
+    }
+
+    public static UUID gerar() {
+        final ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        final long maisSignificativos = System.currentTimeMillis() << 16 | VERSAO
+                | aleatorio.nextLong() & MASCARA_ALEATORIO_A;
+        final long menosSignificativos = VARIANTE | aleatorio.nextLong() & MASCARA_ALEATORIO_B;
+        return new UUID(maisSignificativos, menosSignificativos);
+    }
+
+    /**
+     * Instante de geração, em milissegundos desde a época, de um UUID versão 7.
+     */
+    public static long instante(final UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.banco.shared.kafka.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para UuidOrdenadoUtil.
+ *
+ * Foco: bits de versão e variante, instante recuperável do UUID e ordem entre milissegundos.
+ */
+@DisplayName("UuidOrdenadoUtil - UUID versão 7")
+class UuidOrdenadoUtilTest {
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com a variante da RFC 9562")
+    void deveGerarVersao7ComVarianteRfc() {
+        for (int i = 0; i < 1_000; i++) {
+            // When
+            final UUID uuid = UuidOrdenadoUtil.gerar();
+
+            // Then
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertEquals(uuid, UUID.fromString(uuid.toString()));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver o instante de geração gravado no UUID")
+    void deveDevolverInstanteDeGeracao() {
+        // Given
+        final long antes = System.currentTimeMillis();
+
+        // When
+        final UUID uuid = UuidOrdenadoUtil.gerar();
+
+        // Then
+        final long depois = System.currentTimeMillis();
+        final long instante = UuidOrdenadoUtil.instante(uuid);
+        assertTrue(instante >= antes && instante <= depois, "instante " + instante + " fora de [" + antes + ", " + depois + "]");
+    }
+
+    @Test
+    @DisplayName("Deve ordenar depois o UUID gerado em milissegundo posterior")
+    void deveOrdenarEntreMilissegundos() throws InterruptedException {
+        // Given
+        final UUID anterior = UuidOrdenadoUtil.gerar();
+        final long instanteAnterior = UuidOrdenadoUtil.instante(anterior);
+        while (System.currentTimeMillis() <= instanteAnterior) {
+            Thread.sleep(1);
+        }
+
+        // When
+        final UUID posterior = UuidOrdenadoUtil.gerar();
+
+        // Then
+        assertTrue(UuidOrdenadoUtil.instante(posterior) > instanteAnterior);
+        assertTrue(anterior.compareTo(posterior) < 0);
+        assertTrue(anterior.toString().compareTo(posterior.toString()) < 0);
+    }
+
+    @Test
+    @DisplayName("Não deve repetir UUIDs gerados no mesmo milissegundo")
+    void naoDeveRepetirNoMesmoMilissegundo() {
+        // When
+        final UUID primeiro = UuidOrdenadoUtil.gerar();
+        final UUID segundo = UuidOrdenadoUtil.gerar();
+
+        // Then
+        assertNotEquals(primeiro, segundo);
+    }
+}